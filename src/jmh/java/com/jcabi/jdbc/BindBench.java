@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of argument binding in {@link PrepareArgs}, with every
+ * type it knows, compared to calling the setters directly.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("PMD.ReplaceJavaUtilDate")
+public class BindBench {
+
+    /**
+     * The connection.
+     */
+    private Connection conn;
+
+    /**
+     * The statement.
+     */
+    private PreparedStatement stmt;
+
+    /**
+     * Arguments of all types.
+     */
+    private Collection<Object> args;
+
+    /**
+     * Values.
+     */
+    private Date date;
+
+    /**
+     * Bytes.
+     */
+    private byte[] bytes;
+
+    /**
+     * Identifier.
+     */
+    private UUID uuid;
+
+    /**
+     * Prepare the statement.
+     * @throws SQLException If fails
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.conn = new H2Source(String.format("bbnd%d", System.nanoTime()))
+            .getConnection();
+        this.stmt = this.conn.prepareStatement(
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?"
+        );
+        this.date = new Date(0L);
+        this.bytes = new byte[] {1, 2, 3};
+        this.uuid = UUID.randomUUID();
+        this.args = Arrays.asList(
+            null, 1L, true, this.date, 2, new Utc(this.date), 3.0f,
+            this.bytes, "text", BigDecimal.TEN, this.uuid
+        );
+    }
+
+    /**
+     * Close everything.
+     * @throws SQLException If fails
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        this.stmt.close();
+        this.conn.close();
+    }
+
+    /**
+     * Bind through {@link PrepareArgs}.
+     * @return The statement
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public PreparedStatement prepareArgs() throws SQLException {
+        new PrepareArgs(this.args).prepare(this.stmt);
+        return this.stmt;
+    }
+
+    /**
+     * Bind directly.
+     * @return The statement
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public PreparedStatement prepareRaw() throws SQLException {
+        this.stmt.setNull(1, Types.NULL);
+        this.stmt.setLong(2, 1L);
+        this.stmt.setBoolean(3, true);
+        this.stmt.setDate(4, this.date);
+        this.stmt.setInt(5, 2);
+        new Utc(this.date).setTimestamp(this.stmt, 6);
+        this.stmt.setFloat(7, 3.0f);
+        this.stmt.setBytes(8, this.bytes);
+        this.stmt.setString(9, "text");
+        this.stmt.setBigDecimal(10, BigDecimal.TEN);
+        this.stmt.setObject(11, this.uuid);
+        return this.stmt;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@code INSERT} with {@link Outcome#LAST_INSERT_ID} and of
+ * transactions with {@code autocommit(false)}, compared to raw JDBC.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("PMD.CloseResource")
+public class InsertBench {
+
+    /**
+     * Data source.
+     */
+    private DataSource source;
+
+    /**
+     * Create a fresh table for every iteration.
+     * @throws SQLException If fails
+     */
+    @Setup(Level.Iteration)
+    public void setup() throws SQLException {
+        this.source = new H2Source(String.format("bins%d", System.nanoTime()));
+        new JdbcSession(this.source)
+            .sql("CREATE TABLE foo (id BIGINT AUTO_INCREMENT, name VARCHAR(50))")
+            .execute();
+    }
+
+    /**
+     * Insert through {@link JdbcSession}.
+     * @return Generated id
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public long insert() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("INSERT INTO foo (name) VALUES (?)")
+            .set("Jeff Lebowski")
+            .insert(Outcome.LAST_INSERT_ID);
+    }
+
+    /**
+     * Insert through raw JDBC.
+     * @return Generated id
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public long insertRaw() throws SQLException {
+        try (
+            Connection conn = this.source.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO foo (name) VALUES (?)",
+                Statement.RETURN_GENERATED_KEYS
+            )
+        ) {
+            stmt.setString(1, "Jeff Lebowski");
+            stmt.execute();
+            try (ResultSet rset = stmt.getGeneratedKeys()) {
+                rset.next();
+                return rset.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Three inserts in a transaction through {@link JdbcSession}.
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public void transaction() throws SQLException {
+        final JdbcSession session = new JdbcSession(this.source)
+            .autocommit(false);
+        for (int idx = 0; idx < 3; ++idx) {
+            session.sql("INSERT INTO foo (name) VALUES (?)")
+                .set("Walter Sobchak")
+                .insert(Outcome.VOID);
+        }
+        session.commit();
+    }
+
+    /**
+     * Three inserts in a transaction through raw JDBC.
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public void transactionRaw() throws SQLException {
+        try (Connection conn = this.source.getConnection()) {
+            conn.setAutoCommit(false);
+            for (int idx = 0; idx < 3; ++idx) {
+                try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO foo (name) VALUES (?)",
+                    Statement.RETURN_GENERATED_KEYS
+                )) {
+                    stmt.setString(1, "Walter Sobchak");
+                    stmt.execute();
+                    stmt.getGeneratedKeys().close();
+                }
+            }
+            conn.commit();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@code SELECT} with different outcomes, compared
+ * to raw JDBC doing the same.
+ *
+ * <p>Every call opens and closes a connection to in-memory H2, both for
+ * the library and for the baseline, so that the difference is the
+ * overhead of {@link JdbcSession} itself.</p>
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle NonStaticMethodCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("PMD.CloseResource")
+public class SelectBench {
+
+    /**
+     * Rows in the table.
+     */
+    private static final int ROWS = 100;
+
+    /**
+     * Data source.
+     */
+    private DataSource source;
+
+    /**
+     * Create the table.
+     * @throws SQLException If fails
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.source = new H2Source(String.format("bsel%d", System.nanoTime()));
+        final JdbcSession session = new JdbcSession(this.source)
+            .sql("CREATE TABLE foo (id BIGINT PRIMARY KEY, name VARCHAR(50))")
+            .execute()
+            .sql("INSERT INTO foo (id, name) VALUES (?, ?)");
+        for (long idx = 0L; idx < SelectBench.ROWS; ++idx) {
+            session.set(idx).set(String.format("name-%d", idx)).addBatch();
+        }
+        session.executeBatch(rset -> rset.getLong(1));
+    }
+
+    /**
+     * One value through {@link SingleOutcome}.
+     * @return The value
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public String singleOutcome() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("SELECT name FROM foo WHERE id = ?")
+            .set(42L)
+            .select(new SingleOutcome<>(String.class));
+    }
+
+    /**
+     * One value through raw JDBC.
+     * @return The value
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public String singleRaw() throws SQLException {
+        try (
+            Connection conn = this.source.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(
+                "SELECT name FROM foo WHERE id = ?"
+            )
+        ) {
+            stmt.setLong(1, 42L);
+            try (ResultSet rset = stmt.executeQuery()) {
+                rset.next();
+                return rset.getString(1);
+            }
+        }
+    }
+
+    /**
+     * All rows through {@link ListOutcome}.
+     * @return Rows
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public List<String> listOutcome() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("SELECT id, name FROM foo")
+            .select(
+                new ListOutcome<>(
+                    rset -> String.format("%d:%s", rset.getLong(1), rset.getString(2))
+                )
+            );
+    }
+
+    /**
+     * All rows through {@link RecordOutcome}.
+     * @return Rows
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public List<SelectBench.Item> recordOutcome() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("SELECT id, name FROM foo")
+            .select(new RecordOutcome<>(SelectBench.Item.class));
+    }
+
+    /**
+     * All rows through {@link ListOutcome} with a hand-written mapping,
+     * to compare with {@link #recordOutcome()}.
+     * @return Rows
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public List<SelectBench.Item> handwrittenOutcome() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("SELECT id, name FROM foo")
+            .select(
+                new ListOutcome<>(
+                    rset -> new SelectBench.Item(rset.getLong(1), rset.getString(2))
+                )
+            );
+    }
+
+    /**
+     * All rows through raw JDBC.
+     * @return Rows
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public List<String> listRaw() throws SQLException {
+        try (
+            Connection conn = this.source.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(
+                "SELECT id, name FROM foo"
+            );
+            ResultSet rset = stmt.executeQuery()
+        ) {
+            final List<String> rows = new ArrayList<>(SelectBench.ROWS);
+            while (rset.next()) {
+                rows.add(String.format("%d:%s", rset.getLong(1), rset.getString(2)));
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * First column through {@link ColumnOutcome}.
+     * @return Column
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public Collection<Long> columnOutcome() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("SELECT id FROM foo")
+            .select(new ColumnOutcome<>(Long.class));
+    }
+
+    /**
+     * First column through {@link LongColumnOutcome}.
+     * @return Column
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public long[] longColumnOutcome() throws SQLException {
+        return new JdbcSession(this.source)
+            .sql("SELECT id FROM foo")
+            .select(new LongColumnOutcome());
+    }
+
+    /**
+     * First column through raw JDBC.
+     * @return Column
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public long[] columnRaw() throws SQLException {
+        try (
+            Connection conn = this.source.getConnection();
+            PreparedStatement stmt = conn.prepareStatement("SELECT id FROM foo");
+            ResultSet rset = stmt.executeQuery()
+        ) {
+            final long[] ids = new long[SelectBench.ROWS];
+            int pos = 0;
+            while (rset.next()) {
+                ids[pos] = rset.getLong(1);
+                ++pos;
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * Row of the table.
+     * @since 1.0
+     */
+    public static final class Item {
+
+        /**
+         * Id.
+         */
+        private final long id;
+
+        /**
+         * Name.
+         */
+        private final String name;
+
+        /**
+         * Ctor.
+         * @param num Id
+         * @param txt Name
+         */
+        public Item(final long num, final String txt) {
+            this.id = num;
+            this.name = txt;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d:%s", this.id, this.name);
+        }
+    }
+}
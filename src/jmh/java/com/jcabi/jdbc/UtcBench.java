@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Utc} conversions, compared to plain
+ * {@link Timestamp} without time zone.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("PMD.ReplaceJavaUtilDate")
+public class UtcBench {
+
+    /**
+     * The connection.
+     */
+    private Connection conn;
+
+    /**
+     * Statement to bind to.
+     */
+    private PreparedStatement stmt;
+
+    /**
+     * Statement to read from.
+     */
+    private PreparedStatement query;
+
+    /**
+     * Result set, positioned on its only row.
+     */
+    private ResultSet rset;
+
+    /**
+     * Date to bind.
+     */
+    private Utc utc;
+
+    /**
+     * Prepare statements.
+     * @throws SQLException If fails
+     */
+    @Setup
+    public void setup() throws SQLException {
+        this.conn = new H2Source(String.format("butc%d", System.nanoTime()))
+            .getConnection();
+        this.stmt = this.conn.prepareStatement("SELECT ?");
+        this.query = this.conn.prepareStatement("SELECT CURRENT_TIMESTAMP");
+        this.rset = this.query.executeQuery();
+        this.rset.next();
+        this.utc = new Utc(new Date());
+    }
+
+    /**
+     * Close everything.
+     * @throws SQLException If fails
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        this.rset.close();
+        this.query.close();
+        this.stmt.close();
+        this.conn.close();
+    }
+
+    /**
+     * Bind through {@link Utc#setTimestamp(PreparedStatement, int)}.
+     * @return The statement
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public PreparedStatement setTimestamp() throws SQLException {
+        this.utc.setTimestamp(this.stmt, 1);
+        return this.stmt;
+    }
+
+    /**
+     * Bind a plain timestamp.
+     * @return The statement
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public PreparedStatement setTimestampRaw() throws SQLException {
+        this.stmt.setTimestamp(1, new Timestamp(this.utc.getDate().getTime()));
+        return this.stmt;
+    }
+
+    /**
+     * Read through {@link Utc#getTimestamp(ResultSet, int)}.
+     * @return The date
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public Date getTimestamp() throws SQLException {
+        return Utc.getTimestamp(this.rset, 1);
+    }
+
+    /**
+     * Read a plain timestamp.
+     * @return The date
+     * @throws SQLException If fails
+     */
+    @Benchmark
+    public Timestamp getTimestampRaw() throws SQLException {
+        return this.rset.getTimestamp(1);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import javax.sql.DataSource;
+import lombok.ToString;
+
+/**
+ * Executor of asynchronous {@link JdbcSession} calls.
+ *
+ * <p>Calls like {@link JdbcSession#selectAsync(Outcome)} are executed
+ * here. By default, every call gets its own virtual thread, if the JDK
+ * has them (Java 21 and later), or a thread from a cached pool of daemon
+ * threads otherwise. The number of calls running at the same time is
+ * limited, so that they don't fight for connections: extra calls wait,
+ * in their own threads, without blocking the caller.</p>
+ *
+ * <p>Every {@link DataSource} gets its own instance by default, with
+ * the limit equal to {@link PooledSource#capacity()}, or to
+ * {@link #LIMIT} for other data sources. A custom one may be set with
+ * {@link JdbcSession#async(Async)}:</p>
+ *
+ * <pre> Async async = new Async(Executors.newFixedThreadPool(8), 8);
+ * CompletableFuture&lt;Long&gt; total = new JdbcSession(source)
+ *   .async(async)
+ *   .sql("SELECT COUNT(*) FROM user")
+ *   .selectAsync(new SingleOutcome&lt;&gt;(Long.class));</pre>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = "permits")
+public final class Async {
+
+    /**
+     * Default limit of calls in flight, for data sources of
+     * unknown capacity.
+     */
+    public static final int LIMIT = 64;
+
+    /**
+     * Default executor, shared by all instances.
+     */
+    private static final Executor THREADS = Async.threads();
+
+    /**
+     * Instances by data source.
+     */
+    private static final Map<DataSource, Async> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>(0));
+
+    /**
+     * The executor.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Permits of calls in flight.
+     */
+    private final transient Semaphore permits;
+
+    /**
+     * Ctor, with virtual threads, if possible.
+     * @param limit Maximum number of calls in flight
+     */
+    public Async(final int limit) {
+        this(Async.THREADS, limit);
+    }
+
+    /**
+     * Ctor.
+     * @param exec The executor
+     * @param limit Maximum number of calls in flight
+     */
+    public Async(final Executor exec, final int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException(
+                String.format("Limit must be positive: %d", limit)
+            );
+        }
+        this.executor = exec;
+        this.permits = new Semaphore(limit);
+    }
+
+    /**
+     * Default instance for this data source.
+     * @param source The data source
+     * @return Async
+     */
+    static Async of(final DataSource source) {
+        synchronized (Async.CACHE) {
+            return Async.CACHE.computeIfAbsent(
+                source,
+                src -> {
+                    final int limit;
+                    if (src instanceof PooledSource) {
+                        limit = ((PooledSource) src).capacity();
+                    } else {
+                        limit = Async.LIMIT;
+                    }
+                    return new Async(limit);
+                }
+            );
+        }
+    }
+
+    /**
+     * Run the call, when a permit is available.
+     * @param future The future to complete
+     * @param work The call
+     * @param <T> Type of result
+     * @return The same future
+     */
+    <T> CompletableFuture<T> submit(final CompletableFuture<T> future,
+        final Callable<T> work) {
+        this.executor.execute(
+            () -> {
+                if (!future.isDone()) {
+                    this.run(future, work);
+                }
+            }
+        );
+        return future;
+    }
+
+    /**
+     * Run the call, waiting for a permit.
+     * @param future The future to complete
+     * @param work The call
+     * @param <T> Type of result
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> void run(final CompletableFuture<T> future,
+        final Callable<T> work) {
+        try {
+            this.permits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(ex);
+            return;
+        }
+        try {
+            if (!future.isDone()) {
+                future.complete(work.call());
+            }
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            future.completeExceptionally(ex);
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Executor with virtual threads, if the JDK has them, or
+     * with a cached pool of daemon threads.
+     * @return Executor
+     */
+    private static Executor threads() {
+        Executor exec;
+        try {
+            exec = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException
+            | InvocationTargetException ex) {
+            exec = Executors.newCachedThreadPool(
+                task -> {
+                    final Thread thread = new Thread(task, "jcabi-jdbc-async");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return exec;
+    }
+}
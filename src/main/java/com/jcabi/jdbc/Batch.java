@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Result of a batch execution.
+ *
+ * <p>It is returned by {@link JdbcSession#executeBatch(Outcome.Mapping)}
+ * and contains update counts of every row added to the batch, in the
+ * order they were added, together with generated keys:
+ *
+ * <pre> Batch&lt;Long&gt; batch = new JdbcSession(source)
+ *   .sql("INSERT INTO foo (name) VALUES (?)")
+ *   .set("Jeff").addBatch()
+ *   .set("Walter").addBatch()
+ *   .executeBatch(rset -&gt; rset.getLong(1));
+ * List&lt;Long&gt; ids = batch.keys();</pre>
+ *
+ * @param <T> Type of generated keys
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Batch<T> {
+
+    /**
+     * Update counts, one per row.
+     */
+    private final transient int[] counts;
+
+    /**
+     * Generated keys.
+     */
+    private final transient List<T> keys;
+
+    /**
+     * Ctor.
+     * @param cnts Update counts
+     * @param generated Generated keys
+     */
+    Batch(final int[] cnts, final List<T> generated) {
+        this.counts = Arrays.copyOf(cnts, cnts.length);
+        this.keys = Collections.unmodifiableList(generated);
+    }
+
+    /**
+     * Update counts of all rows, in the order they were added.
+     *
+     * <p>Some drivers return {@link java.sql.Statement#SUCCESS_NO_INFO}
+     * instead of an exact number.</p>
+     *
+     * @return Update counts
+     */
+    public int[] counts() {
+        return Arrays.copyOf(this.counts, this.counts.length);
+    }
+
+    /**
+     * Generated keys of all rows, mapped one by one.
+     * @return Keys
+     */
+    public List<T> keys() {
+        return this.keys;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Binder of arguments of one Java type to a {@link PreparedStatement}.
+ *
+ * <p>Binders are registered in {@link Binders} by class, and are used
+ * for arguments set with {@link JdbcSession#set(Object)}:</p>
+ *
+ * <pre> new JdbcSession(source)
+ *   .binders(
+ *     Binders.DEFAULT.with(
+ *       Money.class,
+ *       (stmt, pos, money) -&gt; stmt.setBigDecimal(pos, money.amount())
+ *     )
+ *   )
+ *   .sql("INSERT INTO payment (amount) VALUES (?)")
+ *   .set(new Money("9.99"))
+ *   .execute();</pre>
+ *
+ * @param <T> Type of values
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Binder<T> {
+
+    /**
+     * Bind the value.
+     * @param stmt The statement
+     * @param pos Position of the parameter, starting from one
+     * @param value The value, never NULL
+     * @throws SQLException If fails
+     */
+    void bind(PreparedStatement stmt, int pos, T value) throws SQLException;
+
+    /**
+     * SQL type of values, from {@link Types}, used to bind {@code NULL}
+     * of this type, see {@link JdbcSession#setNull(Class)}.
+     * @return SQL type
+     */
+    default int type() {
+        return Types.NULL;
+    }
+
+    /**
+     * Binder with the SQL type.
+     * @param <T> Type of values
+     * @since 1.0
+     */
+    final class Typed<T> implements Binder<T> {
+
+        /**
+         * SQL type.
+         */
+        private final int sql;
+
+        /**
+         * The binder.
+         */
+        private final Binder<T> origin;
+
+        /**
+         * Ctor.
+         * @param type SQL type, from {@link Types}
+         * @param binder The binder
+         */
+        public Typed(final int type, final Binder<T> binder) {
+            this.sql = type;
+            this.origin = binder;
+        }
+
+        @Override
+        public void bind(final PreparedStatement stmt, final int pos,
+            final T value) throws SQLException {
+            this.origin.bind(stmt, pos, value);
+        }
+
+        @Override
+        public int type() {
+            return this.sql;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Registry of {@link Binder}s, by class.
+ *
+ * <p>The binder of a class is found once and then cached in
+ * a {@link ClassValue}, so binding an argument is a lookup and a call,
+ * not a chain of {@code instanceof} checks. If there is no binder for
+ * the class, the binder of its closest superclass or interface is
+ * used, and {@link PreparedStatement#setObject(int, Object)}
+ * if there is none.</p>
+ *
+ * <p>The object is immutable, {@link #with(Class, Binder)} returns
+ * a new registry:</p>
+ *
+ * <pre> Binders binders = Binders.DEFAULT.with(
+ *   Money.class,
+ *   new Binder.Typed&lt;&gt;(
+ *     Types.DECIMAL,
+ *     (stmt, pos, money) -&gt; stmt.setBigDecimal(pos, money.amount())
+ *   )
+ * );</pre>
+ *
+ * @since 1.0
+ */
+@ToString(of = "binders")
+@EqualsAndHashCode(of = "binders")
+public final class Binders {
+
+    /**
+     * Binders of all common JDK types.
+     */
+    public static final Binders DEFAULT = new Binders(Binders.defaults());
+
+    /**
+     * Binder of anything, through {@code setObject()}.
+     */
+    private static final Binder<Object> ANY = PreparedStatement::setObject;
+
+    /**
+     * Registered binders.
+     */
+    private final Map<Class<?>, Binder<?>> binders;
+
+    /**
+     * Binders by class, including inherited and default ones.
+     */
+    private final transient ClassValue<Binder<Object>> cache;
+
+    /**
+     * Ctor.
+     * @param map Registered binders
+     */
+    private Binders(final Map<Class<?>, Binder<?>> map) {
+        this.binders = map;
+        this.cache = new ClassValue<Binder<Object>>() {
+            @Override
+            protected Binder<Object> computeValue(final Class<?> type) {
+                return Binders.this.find(type);
+            }
+        };
+    }
+
+    /**
+     * With this binder.
+     * @param type The class
+     * @param binder Its binder
+     * @param <T> Type of values
+     * @return New registry
+     */
+    public <T> Binders with(final Class<T> type, final Binder<? super T> binder) {
+        final Map<Class<?>, Binder<?>> map = new HashMap<>(this.binders);
+        map.put(type, binder);
+        return new Binders(map);
+    }
+
+    /**
+     * Binder of this class.
+     * @param type The class
+     * @return Binder
+     */
+    public Binder<Object> of(final Class<?> type) {
+        return this.cache.get(type);
+    }
+
+    /**
+     * Bind the argument.
+     * @param stmt The statement
+     * @param pos Position of it
+     * @param arg The argument, may be NULL
+     * @throws SQLException If fails
+     */
+    void bind(final PreparedStatement stmt, final int pos, final Object arg)
+        throws SQLException {
+        if (arg == null) {
+            stmt.setNull(pos, Types.NULL);
+        } else if (arg instanceof TypedNull) {
+            stmt.setNull(pos, this.of(((TypedNull) arg).type()).type());
+        } else {
+            this.of(arg.getClass()).bind(stmt, pos, arg);
+        }
+    }
+
+    /**
+     * Find the binder of the class or of its closest parent.
+     * @param type The class
+     * @return Binder
+     */
+    @SuppressWarnings("unchecked")
+    private Binder<Object> find(final Class<?> type) {
+        Binder<?> binder = this.binders.get(type);
+        if (binder == null) {
+            for (final Class<?> iface : type.getInterfaces()) {
+                binder = this.binders.get(iface);
+                if (binder != null) {
+                    break;
+                }
+            }
+        }
+        if (binder == null) {
+            final Class<?> parent = type.getSuperclass();
+            if (parent == null || parent == Object.class) {
+                binder = Binders.ANY;
+            } else {
+                binder = this.of(parent);
+            }
+        }
+        if (binder instanceof Binders.Via) {
+            binder = ((Binders.Via<?>) binder).in(this);
+        }
+        return (Binder<Object>) binder;
+    }
+
+    /**
+     * Binders of all common JDK types.
+     * @return Map of them
+     * @checkstyle ExecutableStatementCount (100 lines)
+     */
+    private static Map<Class<?>, Binder<?>> defaults() {
+        final Map<Class<?>, Binder<?>> map = new HashMap<>(0);
+        Binders.put(map, String.class, Types.VARCHAR, PreparedStatement::setString);
+        Binders.put(map, Long.class, Types.BIGINT, PreparedStatement::setLong);
+        Binders.put(map, Integer.class, Types.INTEGER, PreparedStatement::setInt);
+        Binders.put(map, Short.class, Types.SMALLINT, PreparedStatement::setShort);
+        Binders.put(map, Byte.class, Types.TINYINT, PreparedStatement::setByte);
+        Binders.put(map, Double.class, Types.DOUBLE, PreparedStatement::setDouble);
+        Binders.put(map, Float.class, Types.REAL, PreparedStatement::setFloat);
+        Binders.put(map, Boolean.class, Types.BOOLEAN, PreparedStatement::setBoolean);
+        Binders.put(
+            map, BigDecimal.class, Types.NUMERIC, PreparedStatement::setBigDecimal
+        );
+        Binders.put(
+            map, BigInteger.class, Types.NUMERIC,
+            (stmt, pos, value) -> stmt.setBigDecimal(pos, new BigDecimal(value))
+        );
+        Binders.put(
+            map, Character.class, Types.CHAR,
+            (stmt, pos, value) -> stmt.setString(pos, value.toString())
+        );
+        Binders.put(map, byte[].class, Types.VARBINARY, PreparedStatement::setBytes);
+        Binders.put(
+            map, InputStream.class, Types.LONGVARBINARY,
+            PreparedStatement::setBinaryStream
+        );
+        Binders.put(
+            map, Reader.class, Types.LONGVARCHAR,
+            PreparedStatement::setCharacterStream
+        );
+        Binders.put(
+            map, Sized.class, Types.LONGVARBINARY,
+            (stmt, pos, value) -> value.bind(stmt, pos)
+        );
+        Binders.put(map, Path.class, Types.LONGVARBINARY, PathStream::bind);
+        Binders.put(map, Date.class, Types.DATE, PreparedStatement::setDate);
+        Binders.put(map, Time.class, Types.TIME, PreparedStatement::setTime);
+        Binders.put(
+            map, Timestamp.class, Types.TIMESTAMP, PreparedStatement::setTimestamp
+        );
+        Binders.put(
+            map, java.util.Date.class, Types.TIMESTAMP,
+            (stmt, pos, value) -> stmt.setTimestamp(
+                pos, new Timestamp(value.getTime())
+            )
+        );
+        Binders.put(
+            map, Utc.class, Types.TIMESTAMP,
+            (stmt, pos, value) -> value.setTimestamp(stmt, pos)
+        );
+        Binders.put(
+            map, Instant.class, Types.TIMESTAMP,
+            Utc::set
+        );
+        Binders.put(
+            map, LocalDate.class, Types.DATE,
+            Binders.modern(
+                (stmt, pos, value) -> stmt.setDate(pos, Date.valueOf(value))
+            )
+        );
+        Binders.put(
+            map, LocalTime.class, Types.TIME,
+            Binders.modern(
+                (stmt, pos, value) -> stmt.setTime(pos, Time.valueOf(value))
+            )
+        );
+        Binders.put(
+            map, LocalDateTime.class, Types.TIMESTAMP,
+            Binders.modern(
+                (stmt, pos, value) -> stmt.setTimestamp(
+                    pos, Timestamp.valueOf(value)
+                )
+            )
+        );
+        Binders.put(
+            map, OffsetDateTime.class, Types.TIMESTAMP_WITH_TIMEZONE,
+            Binders.modern(
+                (stmt, pos, value) -> Utc.set(stmt, pos, value.toInstant())
+            )
+        );
+        map.put(
+            ZonedDateTime.class,
+            new Binders.Via<>(
+                Types.TIMESTAMP_WITH_TIMEZONE, OffsetDateTime.class,
+                ZonedDateTime::toOffsetDateTime
+            )
+        );
+        Binders.put(map, UUID.class, Types.OTHER, PreparedStatement::setObject);
+        Binders.put(
+            map, Enum.class, Types.VARCHAR,
+            (stmt, pos, value) -> stmt.setString(pos, value.name())
+        );
+        return map;
+    }
+
+    /**
+     * Binder through JDBC 4.2 {@code setObject()}, which passes
+     * {@code java.time} values to the driver as they are, or through the
+     * fallback, if the driver doesn't support it.
+     * @param fallback The fallback
+     * @param <T> Type of values
+     * @return Binder
+     */
+    private static <T> Binder<T> modern(final Binder<T> fallback) {
+        return (stmt, pos, value) -> {
+            boolean supported = true;
+            try {
+                stmt.setObject(pos, value);
+            } catch (final SQLFeatureNotSupportedException ex) {
+                supported = false;
+            }
+            if (!supported) {
+                fallback.bind(stmt, pos, value);
+            }
+        };
+    }
+
+    /**
+     * Register the binder.
+     * @param map Where to put it
+     * @param type The class
+     * @param sql SQL type
+     * @param binder The binder
+     * @param <T> Type of values
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static <T> void put(final Map<Class<?>, Binder<?>> map,
+        final Class<T> type, final int sql, final Binder<T> binder) {
+        map.put(type, new Binder.Typed<>(sql, binder));
+    }
+
+    /**
+     * Binder which converts the value and binds it by the binder of
+     * another class, found in the registry where it's used, so that
+     * a custom binder of that class is used too.
+     * @param <T> Type of values
+     * @since 1.0
+     */
+    private static final class Via<T> implements Binder<T> {
+
+        /**
+         * SQL type.
+         */
+        private final transient int sql;
+
+        /**
+         * Class of converted values.
+         */
+        private final transient Class<?> target;
+
+        /**
+         * The conversion.
+         */
+        private final transient Function<T, ?> conversion;
+
+        /**
+         * Ctor.
+         * @param type SQL type, from {@link Types}
+         * @param cls Class of converted values
+         * @param conv The conversion
+         */
+        Via(final int type, final Class<?> cls, final Function<T, ?> conv) {
+            this.sql = type;
+            this.target = cls;
+            this.conversion = conv;
+        }
+
+        @Override
+        public void bind(final PreparedStatement stmt, final int pos,
+            final T value) throws SQLException {
+            this.in(Binders.DEFAULT).bind(stmt, pos, value);
+        }
+
+        @Override
+        public int type() {
+            return this.sql;
+        }
+
+        /**
+         * Binder through the binder of the target class in this registry.
+         * @param registry The registry
+         * @return Binder
+         */
+        @SuppressWarnings("unchecked")
+        Binder<Object> in(final Binders registry) {
+            final Binder<Object> origin = registry.of(this.target);
+            return new Binder.Typed<>(
+                this.sql,
+                (stmt, pos, value) -> origin.bind(
+                    stmt, pos, this.conversion.apply((T) value)
+                )
+            );
+        }
+    }
+}
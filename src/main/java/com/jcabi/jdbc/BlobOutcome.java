@@ -0,0 +1,141 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that returns a binary column of the first row as a stream.
+ *
+ * <p>Unlike {@link SingleOutcome} of {@code byte[]}, it doesn't load the
+ * value into memory: the stream reads it from the database in chunks,
+ * while the caller reads the stream. A {@code BLOB} stays readable until
+ * the session releases the connection, that's why the stream has to be
+ * read inside a transaction:</p>
+ *
+ * <pre> new JdbcSession(source).transaction(
+ *   session -&gt; {
+ *     try (InputStream doc = session
+ *       .sql("SELECT body FROM doc WHERE id = ?")
+ *       .set(42)
+ *       .select(new BlobOutcome())) {
+ *       Files.copy(doc, Paths.get("doc.pdf"));
+ *     }
+ *     return null;
+ *   }
+ * );</pre>
+ *
+ * <p>With {@code autocommit} set to {@code true}, the connection is
+ * closed as soon as the outcome returns, and so is the stream of
+ * a {@code BLOB}. Values of other binary types, like {@code VARBINARY}
+ * or {@code BYTEA}, are already in memory of the driver, and their
+ * streams are readable anyway.</p>
+ *
+ * <p>Closing the stream of a {@code BLOB} frees it, so that the database
+ * doesn't keep it until the end of the transaction.</p>
+ *
+ * <p>The outcome throws {@link SQLException} if no records are found,
+ * and returns {@code null} if the value is {@code NULL}.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = "column")
+public final class BlobOutcome implements Outcome<InputStream> {
+
+    /**
+     * Column position, starting from one.
+     */
+    private final transient int column;
+
+    /**
+     * Public ctor, for the first column.
+     */
+    public BlobOutcome() {
+        this(1);
+    }
+
+    /**
+     * Public ctor.
+     * @param pos Column position, starting from one
+     */
+    public BlobOutcome(final int pos) {
+        this.column = pos;
+    }
+
+    @Override
+    public InputStream handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        if (!rset.next()) {
+            throw new SQLException("No records found");
+        }
+        final InputStream stream;
+        if (rset.getMetaData().getColumnType(this.column) == Types.BLOB) {
+            final Blob blob = rset.getBlob(this.column);
+            if (blob == null) {
+                stream = null;
+            } else {
+                stream = new BlobOutcome.Freed(blob);
+            }
+        } else {
+            stream = rset.getBinaryStream(this.column);
+        }
+        return stream;
+    }
+
+    /**
+     * Only one row is needed, the server doesn't have to send more.
+     * @return Tuning with max rows set to one
+     */
+    @Override
+    public Tuning tuning() {
+        return new Tuning().max(1);
+    }
+
+    /**
+     * Stream of a {@link Blob}, which frees it when closed, so that
+     * the database doesn't keep the LOB locator until the transaction ends.
+     * @since 1.0
+     */
+    private static final class Freed extends FilterInputStream {
+
+        /**
+         * The BLOB.
+         */
+        private final transient Blob lob;
+
+        /**
+         * Ctor.
+         * @param origin The BLOB
+         * @throws SQLException If fails to open it
+         */
+        Freed(final Blob origin) throws SQLException {
+            super(origin.getBinaryStream());
+            this.lob = origin;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                try {
+                    this.lob.free();
+                } catch (final SQLException ex) {
+                    throw new IOException(ex);
+                }
+            }
+        }
+    }
+}
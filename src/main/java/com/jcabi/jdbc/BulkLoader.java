@@ -0,0 +1,339 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Loader of many rows into a table, through the native bulk path
+ * of the database, if there is one.
+ *
+ * <pre> long total = new BulkLoader(source, "user", "name", "age")
+ *   .load(users.stream().map(u -&gt; Arrays.asList(u.name(), u.age())));</pre>
+ *
+ * <p>On PostgreSQL rows are sent through {@code COPY ... FROM STDIN},
+ * with {@code org.postgresql.copy.CopyManager}. On MySQL they are
+ * sent through {@code LOAD DATA LOCAL INFILE}, which must be enabled
+ * with {@code allowLoadLocalInfile=true} in the JDBC URL. Either way,
+ * rows are encoded as CSV while the driver reads them, so only one row
+ * is in memory at a time. Drivers are used through reflection, with the
+ * class loader of the connection, they don't have to be in the classpath
+ * of this library. The number of rows returned is the one reported by
+ * the database, rows it skipped are not counted. Byte arrays can't be
+ * loaded into MySQL this way, since its CSV has no binary format.</p>
+ *
+ * <p>On other databases, like H2, rows are inserted with JDBC batches,
+ * through {@link JdbcSession#executeBatch()}, one chunk
+ * at a time, and every chunk is committed.</p>
+ *
+ * <p>Table and column names are used as is, quote them if necessary.</p>
+ *
+ * <p>The class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = {"table", "columns"})
+public final class BulkLoader {
+
+    /**
+     * Rows in one batch, if there is no native bulk path.
+     */
+    private static final int CHUNK = 1000;
+
+    /**
+     * Statement of MySQL Connector/J.
+     */
+    private static final String MYSQL = "com.mysql.cj.jdbc.JdbcStatement";
+
+    /**
+     * Connection of PostgreSQL driver.
+     */
+    private static final String POSTGRES = "org.postgresql.core.BaseConnection";
+
+    /**
+     * The data source.
+     */
+    private final transient DataSource source;
+
+    /**
+     * The table.
+     */
+    private final transient String table;
+
+    /**
+     * Columns.
+     */
+    private final transient String[] columns;
+
+    /**
+     * Ctor.
+     * @param src The data source
+     * @param tbl The table
+     * @param cols Columns, in the order of values in rows
+     */
+    public BulkLoader(final DataSource src, final String tbl,
+        final String... cols) {
+        if (cols.length == 0) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        this.source = src;
+        this.table = tbl;
+        this.columns = Arrays.copyOf(cols, cols.length);
+    }
+
+    /**
+     * Load rows.
+     * @param rows Rows, with values in the order of columns
+     * @return How many rows were loaded
+     * @throws SQLException If fails
+     */
+    public long load(final Stream<? extends Collection<?>> rows)
+        throws SQLException {
+        final Iterator<? extends Collection<?>> iterator = rows.iterator();
+        final long total;
+        try (Connection conn = this.source.getConnection()) {
+            final Dialect dialect = Dialects.of(this.source, conn);
+            final ClassLoader loader = BulkLoader.loader(conn);
+            if (dialect.is("postgresql") && BulkLoader.copies(conn, loader)) {
+                total = this.copy(conn, iterator, loader);
+            } else if (dialect.is("mysql")
+                && BulkLoader.exists(BulkLoader.MYSQL, loader)) {
+                total = this.infile(conn, iterator, loader);
+            } else {
+                total = -1L;
+            }
+        }
+        final long result;
+        if (total < 0L) {
+            result = this.batch(iterator);
+        } else {
+            result = total;
+        }
+        return result;
+    }
+
+    /**
+     * Load through PostgreSQL {@code COPY}.
+     * @param conn The connection
+     * @param rows The rows
+     * @param loader Class loader of the driver
+     * @return How many rows were loaded, as reported by the server
+     * @throws SQLException If fails
+     */
+    private long copy(final Connection conn,
+        final Iterator<? extends Collection<?>> rows, final ClassLoader loader)
+        throws SQLException {
+        final CsvStream csv = new CsvStream(rows, this.columns.length, "", true);
+        try {
+            final Class<?> base = Class.forName(BulkLoader.POSTGRES, false, loader);
+            final Class<?> manager = Class.forName(
+                "org.postgresql.copy.CopyManager", false, loader
+            );
+            final Object copier = manager.getConstructor(base)
+                .newInstance(conn.unwrap(base));
+            return (Long) manager.getMethod(
+                "copyIn", String.class, InputStream.class
+            ).invoke(
+                copier,
+                String.format(
+                    "COPY %s (%s) FROM STDIN WITH (FORMAT csv)",
+                    this.table, String.join(", ", this.columns)
+                ),
+                csv
+            );
+        } catch (final ClassNotFoundException | NoSuchMethodException
+            | InstantiationException | IllegalAccessException ex) {
+            throw new SQLException(ex);
+        } catch (final InvocationTargetException ex) {
+            throw BulkLoader.unwrap(ex);
+        }
+    }
+
+    /**
+     * Load through MySQL {@code LOAD DATA LOCAL INFILE}.
+     * @param conn The connection
+     * @param rows The rows
+     * @param loader Class loader of the driver
+     * @return How many rows were loaded, as reported by the server
+     * @throws SQLException If fails
+     */
+    private long infile(final Connection conn,
+        final Iterator<? extends Collection<?>> rows, final ClassLoader loader)
+        throws SQLException {
+        final CsvStream csv = new CsvStream(
+            rows, this.columns.length, "NULL", false
+        );
+        try (Statement stmt = conn.createStatement()) {
+            final Class<?> type = Class.forName(BulkLoader.MYSQL, false, loader);
+            type.getMethod("setLocalInfileInputStream", InputStream.class)
+                .invoke(stmt.unwrap(type), csv);
+            stmt.execute(
+                String.format(
+                    String.join(
+                        " ",
+                        "LOAD DATA LOCAL INFILE 'stream' INTO TABLE %s",
+                        "CHARACTER SET utf8mb4",
+                        "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'",
+                        "ESCAPED BY '' LINES TERMINATED BY '\\n' (%s)"
+                    ),
+                    this.table, String.join(", ", this.columns)
+                )
+            );
+            return stmt.getUpdateCount();
+        } catch (final ClassNotFoundException | NoSuchMethodException
+            | IllegalAccessException ex) {
+            throw new SQLException(ex);
+        } catch (final InvocationTargetException ex) {
+            throw BulkLoader.unwrap(ex);
+        }
+    }
+
+    /**
+     * Load with JDBC batches, chunk by chunk.
+     * @param rows The rows
+     * @return How many rows were loaded
+     * @throws SQLException If fails
+     */
+    private long batch(final Iterator<? extends Collection<?>> rows)
+        throws SQLException {
+        final String[] marks = new String[this.columns.length];
+        Arrays.fill(marks, "?");
+        final JdbcSession session = new JdbcSession(this.source)
+            .sql(
+                String.format(
+                    "INSERT INTO %s (%s) VALUES (%s)",
+                    this.table, String.join(", ", this.columns),
+                    String.join(", ", marks)
+                )
+            )
+            .chunk(BulkLoader.CHUNK);
+        long total = 0L;
+        int pending = 0;
+        while (rows.hasNext()) {
+            final Collection<?> row = rows.next();
+            if (row.size() != this.columns.length) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Row #%d has %d values, while %d are expected",
+                        total + pending, row.size(), this.columns.length
+                    )
+                );
+            }
+            for (final Object value : row) {
+                session.set(value);
+            }
+            session.addBatch();
+            ++pending;
+            if (pending == BulkLoader.CHUNK || !rows.hasNext()) {
+                total += BulkLoader.sum(session.executeBatch());
+                pending = 0;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Rows inserted, according to update counts of a batch.
+     *
+     * <p>A row with {@link Statement#SUCCESS_NO_INFO} is counted as one,
+     * since the driver says it's inserted, but not how many rows.</p>
+     *
+     * @param counts Update counts
+     * @return Number of rows
+     */
+    private static long sum(final int[] counts) {
+        long total = 0L;
+        for (final int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                ++total;
+            } else {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Can we use PostgreSQL {@code COPY} with this connection?
+     * @param conn The connection
+     * @param loader Class loader of the driver
+     * @return TRUE if we can
+     * @throws SQLException If fails
+     */
+    private static boolean copies(final Connection conn,
+        final ClassLoader loader) throws SQLException {
+        boolean can = false;
+        if (BulkLoader.exists(BulkLoader.POSTGRES, loader)) {
+            try {
+                can = conn.isWrapperFor(
+                    Class.forName(BulkLoader.POSTGRES, false, loader)
+                );
+            } catch (final ClassNotFoundException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return can;
+    }
+
+    /**
+     * Class loader of the driver, which made the connection.
+     * @param conn The connection
+     * @return Class loader
+     * @throws SQLException If fails
+     */
+    private static ClassLoader loader(final Connection conn)
+        throws SQLException {
+        ClassLoader loader = conn.unwrap(Connection.class).getClass()
+            .getClassLoader();
+        if (loader == null) {
+            loader = BulkLoader.class.getClassLoader();
+        }
+        return loader;
+    }
+
+    /**
+     * Is the class visible to the class loader?
+     * @param name Name of the class
+     * @param loader Class loader
+     * @return TRUE if it is
+     */
+    private static boolean exists(final String name, final ClassLoader loader) {
+        boolean found;
+        try {
+            Class.forName(name, false, loader);
+            found = true;
+        } catch (final ClassNotFoundException ex) {
+            found = false;
+        }
+        return found;
+    }
+
+    /**
+     * Unwrap the exception thrown by the driver.
+     * @param ex The exception
+     * @return SQL exception
+     */
+    private static SQLException unwrap(final InvocationTargetException ex) {
+        final SQLException result;
+        if (ex.getCause() instanceof SQLException) {
+            result = (SQLException) ex.getCause();
+        } else {
+            result = new SQLException(ex.getCause());
+        }
+        return result;
+    }
+}
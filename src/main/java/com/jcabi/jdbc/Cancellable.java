@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Future of an asynchronous call, which cancels the statement.
+ *
+ * <p>It is also a {@link Preparation}, which remembers the statement
+ * right before it is executed. When the future is cancelled,
+ * {@link Statement#cancel()} is called, if the statement is running,
+ * or the statement is not executed at all, if it's not running yet.
+ * Once the call is finished, the statement is forgotten, so a late
+ * cancel doesn't touch it.</p>
+ *
+ * @param <T> Type of result
+ * @since 1.0
+ */
+final class Cancellable<T> extends CompletableFuture<T> implements Preparation {
+
+    /**
+     * The statement being executed.
+     */
+    private final transient AtomicReference<Statement> stmt;
+
+    /**
+     * Ctor.
+     */
+    Cancellable() {
+        super();
+        this.stmt = new AtomicReference<>();
+    }
+
+    @Override
+    public void prepare(final PreparedStatement statement) throws SQLException {
+        this.stmt.set(statement);
+        if (this.isCancelled()) {
+            throw new SQLException("The call is cancelled");
+        }
+    }
+
+    @Override
+    public boolean cancel(final boolean interrupt) {
+        final boolean done = super.cancel(interrupt);
+        if (done) {
+            synchronized (this.stmt) {
+                final Statement statement = this.stmt.getAndSet(null);
+                if (statement != null) {
+                    Cancellable.cancel(statement);
+                }
+            }
+        }
+        return done;
+    }
+
+    /**
+     * The statement is executed, it must not be cancelled any more.
+     */
+    void finish() {
+        synchronized (this.stmt) {
+            this.stmt.set(null);
+        }
+    }
+
+    /**
+     * Cancel the statement, if the driver can.
+     *
+     * <p>It's the best effort only: the statement may be finished or closed
+     * by now, and {@link java.util.concurrent.Future#cancel(boolean)} must
+     * not throw, so failures are ignored.</p>
+     *
+     * @param statement The statement
+     */
+    private static void cancel(final Statement statement) {
+        try {
+            if (!statement.isClosed()) {
+                statement.cancel();
+            }
+        // @checkstyle EmptyBlockCheck (3 lines)
+        } catch (final SQLException ex) {
+            // the statement is finished already, nothing to cancel
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Batch of rows, sent to the server in chunks.
+ *
+ * <p>This is both a {@link Request} and an {@link Outcome}: the request
+ * sends all rows through {@link PreparedStatement#executeBatch()}, flushing
+ * every {@code size} rows, and the outcome returns what was collected.</p>
+ *
+ * <p>When a chunk fails, its changes are rolled back (to a savepoint,
+ * if the connection is inside a transaction) and the chunk is split in
+ * two halves, which are sent again, until the broken row is found.</p>
+ *
+ * <p>In auto-commit mode every chunk is committed. If the whole request
+ * is repeated, by {@link Retry}, it resumes from the first row not
+ * committed yet, and what was collected for the rest is dropped, so
+ * committed rows are never sent twice.</p>
+ *
+ * <p>The class is NOT thread-safe, a new instance is needed for
+ * every execution.</p>
+ *
+ * @param <T> Type of generated keys
+ * @since 1.0
+ */
+final class Chunks<T> implements Request, Outcome<Batch<T>> {
+
+    /**
+     * Rows, each one is a collection of arguments.
+     */
+    private final transient List<Collection<Object>> rows;
+
+    /**
+     * Maximum amount of rows in one chunk.
+     */
+    private final transient int size;
+
+    /**
+     * Mapping of generated keys, or NULL if they are not needed.
+     */
+    private final transient Outcome.Mapping<T> mapping;
+
+    /**
+     * Binders of arguments.
+     */
+    private final transient Binders binders;
+
+    /**
+     * Update counts collected.
+     */
+    private final transient int[] counts;
+
+    /**
+     * Generated keys collected.
+     */
+    private final transient List<T> keys;
+
+    /**
+     * Rows committed already, in auto-commit mode.
+     */
+    private int committed;
+
+    /**
+     * Generated keys of rows committed already.
+     */
+    private int stored;
+
+    /**
+     * Ctor.
+     * @param all All rows
+     * @param chunk Maximum amount of rows in one chunk
+     * @param mpg Mapping of generated keys, or NULL if they are not needed
+     * @param bnd Binders of arguments
+     */
+    Chunks(final List<Collection<Object>> all, final int chunk,
+        final Outcome.Mapping<T> mpg, final Binders bnd) {
+        this.rows = all;
+        this.size = chunk;
+        this.mapping = mpg;
+        this.binders = bnd;
+        this.counts = new int[all.size()];
+        this.keys = new ArrayList<>(all.size());
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CloseResource")
+    public ResultSet fetch(final PreparedStatement stmt) throws SQLException {
+        final Connection conn = stmt.getConnection();
+        final boolean auto = conn.getAutoCommit();
+        if (auto) {
+            conn.setAutoCommit(false);
+        }
+        this.keys.subList(this.stored, this.keys.size()).clear();
+        Arrays.fill(this.counts, this.committed, this.counts.length, 0);
+        try {
+            for (int start = this.committed; start < this.rows.size();
+                start += this.size) {
+                this.flush(
+                    stmt, start, Math.min(start + this.size, this.rows.size()),
+                    auto
+                );
+            }
+        } catch (final SQLException ex) {
+            if (auto) {
+                conn.rollback();
+            }
+            throw ex;
+        } finally {
+            if (auto) {
+                conn.setAutoCommit(true);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Batch<T> handle(final ResultSet rset, final Statement stmt) {
+        return new Batch<>(this.counts, this.keys);
+    }
+
+    /**
+     * Send rows to the server, from the first one (inclusive) to
+     * the last one (exclusive).
+     * @param stmt The statement
+     * @param first First row
+     * @param last Last row
+     * @param auto The connection was in auto-commit mode
+     * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private void flush(final PreparedStatement stmt, final int first,
+        final int last, final boolean auto) throws SQLException {
+        final Connection conn = stmt.getConnection();
+        Savepoint point = null;
+        if (!auto) {
+            point = conn.setSavepoint();
+        }
+        try {
+            for (int idx = first; idx < last; ++idx) {
+                new PrepareArgs(this.rows.get(idx), this.binders).prepare(stmt);
+                stmt.addBatch();
+            }
+            final int[] done = stmt.executeBatch();
+            System.arraycopy(done, 0, this.counts, first, done.length);
+            if (this.mapping != null) {
+                try (ResultSet rset = stmt.getGeneratedKeys()) {
+                    while (rset.next()) {
+                        this.keys.add(this.mapping.map(rset));
+                    }
+                }
+            }
+            if (auto) {
+                conn.commit();
+                this.committed = last;
+                this.stored = this.keys.size();
+            } else {
+                Chunks.release(conn, point);
+            }
+        } catch (final BatchUpdateException ex) {
+            stmt.clearBatch();
+            if (auto) {
+                conn.rollback();
+            } else {
+                conn.rollback(point);
+                Chunks.release(conn, point);
+            }
+            if (last - first == 1) {
+                throw new SQLException(
+                    String.format(
+                        "Batch row #%d failed: %s", first, ex.getMessage()
+                    ),
+                    ex
+                );
+            }
+            final int middle = (first + last) >>> 1;
+            this.flush(stmt, first, middle, auto);
+            this.flush(stmt, middle, last, auto);
+        }
+    }
+
+    /**
+     * Release the savepoint, if the driver can.
+     * @param conn The connection
+     * @param point The savepoint
+     * @throws SQLException If fails
+     */
+    private static void release(final Connection conn, final Savepoint point)
+        throws SQLException {
+        try {
+            conn.releaseSavepoint(point);
+        // @checkstyle EmptyBlockCheck (3 lines)
+        } catch (final SQLFeatureNotSupportedException ex) {
+            // it is released by the end of the transaction anyway
+        }
+    }
+}
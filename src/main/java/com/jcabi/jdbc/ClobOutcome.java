@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that returns a text column of the first row as a reader.
+ *
+ * <p>Unlike {@link SingleOutcome} of {@link String}, it doesn't load the
+ * value into memory: it is read from the database in chunks, while
+ * the caller reads the reader. A {@code CLOB} stays readable until
+ * the session releases the connection, that's why the reader has to be
+ * read inside a transaction:</p>
+ *
+ * <pre> new JdbcSession(source).transaction(
+ *   session -&gt; {
+ *     try (Reader log = session
+ *       .sql("SELECT text FROM log WHERE id = ?")
+ *       .set(42)
+ *       .select(new ClobOutcome())) {
+ *       // read it
+ *     }
+ *     return null;
+ *   }
+ * );</pre>
+ *
+ * <p>With {@code autocommit} set to {@code true}, the connection is
+ * closed as soon as the outcome returns, and so is the reader of
+ * a {@code CLOB}. Values of other text types, like {@code VARCHAR},
+ * are already in memory of the driver, and their readers work
+ * anyway.</p>
+ *
+ * <p>Closing the reader of a {@code CLOB} frees it, so that the database
+ * doesn't keep it until the end of the transaction.</p>
+ *
+ * <p>The outcome throws {@link SQLException} if no records are found,
+ * and returns {@code null} if the value is {@code NULL}.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = "column")
+public final class ClobOutcome implements Outcome<Reader> {
+
+    /**
+     * Column position, starting from one.
+     */
+    private final transient int column;
+
+    /**
+     * Public ctor, for the first column.
+     */
+    public ClobOutcome() {
+        this(1);
+    }
+
+    /**
+     * Public ctor.
+     * @param pos Column position, starting from one
+     */
+    public ClobOutcome(final int pos) {
+        this.column = pos;
+    }
+
+    @Override
+    public Reader handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        if (!rset.next()) {
+            throw new SQLException("No records found");
+        }
+        final Reader reader;
+        final int type = rset.getMetaData().getColumnType(this.column);
+        if (type == Types.CLOB || type == Types.NCLOB) {
+            final Clob clob = rset.getClob(this.column);
+            if (clob == null) {
+                reader = null;
+            } else {
+                reader = new ClobOutcome.Freed(clob);
+            }
+        } else {
+            reader = rset.getCharacterStream(this.column);
+        }
+        return reader;
+    }
+
+    /**
+     * Only one row is needed, the server doesn't have to send more.
+     * @return Tuning with max rows set to one
+     */
+    @Override
+    public Tuning tuning() {
+        return new Tuning().max(1);
+    }
+
+    /**
+     * Reader of a {@link Clob}, which frees it when closed, so that
+     * the database doesn't keep the LOB locator until the transaction ends.
+     * @since 1.0
+     */
+    private static final class Freed extends FilterReader {
+
+        /**
+         * The CLOB.
+         */
+        private final transient Clob lob;
+
+        /**
+         * Ctor.
+         * @param origin The CLOB
+         * @throws SQLException If fails to open it
+         */
+        Freed(final Clob origin) throws SQLException {
+            super(origin.getCharacterStream());
+            this.lob = origin;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                try {
+                    this.lob.free();
+                } catch (final SQLException ex) {
+                    throw new IOException(ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,771 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One column of a {@link Columnar} result, off the heap.
+ *
+ * <p>Values of fixed width are stored one after another in a direct
+ * {@link ByteBuffer}, in the native byte order. Temporal values are stored
+ * as {@code long}: days since the epoch for dates, nanoseconds of the day
+ * for times, and microseconds since the epoch for timestamps. Strings,
+ * decimals and binary values are stored as entries of UTF-8 or raw bytes,
+ * one after another, with offsets of their starts, while the column keeps
+ * a number of an entry for every row. Strings that repeat are stored
+ * once, until there are too many distinct ones. NULLs are marked in
+ * a bitmap, which is not created until the first NULL, and their entry
+ * number is {@link #NIL}, so that they are never mistaken for the
+ * first entry.</p>
+ *
+ * <p>The column is filled by one thread and then it's read-only.</p>
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class ColumnBuffer {
+
+    /**
+     * Number of the entry of NULL.
+     */
+    static final int NIL = -1;
+
+    /**
+     * Initial capacity, in rows.
+     */
+    private static final int ROWS = 64;
+
+    /**
+     * Maximum number of entries in the dictionary of strings.
+     */
+    private static final int DISTINCT = 1 << 16;
+
+    /**
+     * Microseconds in a second.
+     */
+    private static final long MICROS = TimeUnit.SECONDS.toMicros(1L);
+
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final int NANOS = 1000;
+
+    /**
+     * The kind.
+     */
+    private final ColumnBuffer.Kind kind;
+
+    /**
+     * Values of fixed width, or numbers of entries.
+     */
+    private ByteBuffer data;
+
+    /**
+     * Bytes of entries.
+     */
+    private ByteBuffer heap;
+
+    /**
+     * Offsets of entries, plus the end of the last one.
+     */
+    private ByteBuffer offsets;
+
+    /**
+     * Numbers of entries by strings, or NULL if it's not used.
+     */
+    private Map<String, Integer> dictionary;
+
+    /**
+     * Bitmap of NULLs, or NULL if there are none.
+     */
+    private long[] nulls;
+
+    /**
+     * Number of entries.
+     */
+    private int entries;
+
+    /**
+     * Number of rows.
+     */
+    private int size;
+
+    /**
+     * Ctor.
+     * @param knd The kind
+     */
+    ColumnBuffer(final ColumnBuffer.Kind knd) {
+        this.kind = knd;
+        this.data = ColumnBuffer.allocate(ColumnBuffer.ROWS * knd.width);
+        if (knd.entries()) {
+            this.heap = ColumnBuffer.allocate(ColumnBuffer.ROWS << 3);
+            this.offsets = ColumnBuffer.allocate((ColumnBuffer.ROWS + 1) << 2);
+            if (knd != ColumnBuffer.Kind.BYTES) {
+                this.dictionary = new HashMap<>(0);
+            }
+        }
+    }
+
+    /**
+     * Kind of the column.
+     * @return The kind
+     */
+    ColumnBuffer.Kind kind() {
+        return this.kind;
+    }
+
+    /**
+     * Read the value of the current row.
+     * @param rset Result set
+     * @param col Column position, starting from one
+     * @throws SQLException If fails
+     * @checkstyle CyclomaticComplexity (80 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    void read(final ResultSet rset, final int col) throws SQLException {
+        final int row = this.size;
+        this.data = ColumnBuffer.fit(this.data, (row + 1) * this.kind.width);
+        final int pos = row * this.kind.width;
+        boolean nil = false;
+        switch (this.kind) {
+            case LONG:
+                this.data.putLong(pos, rset.getLong(col));
+                nil = rset.wasNull();
+                break;
+            case INT:
+                this.data.putInt(pos, rset.getInt(col));
+                nil = rset.wasNull();
+                break;
+            case DOUBLE:
+                this.data.putDouble(pos, rset.getDouble(col));
+                nil = rset.wasNull();
+                break;
+            case BOOLEAN:
+                if (rset.getBoolean(col)) {
+                    this.data.put(pos, (byte) 1);
+                }
+                nil = rset.wasNull();
+                break;
+            case DATE:
+                final Date date = rset.getDate(col);
+                nil = date == null;
+                if (!nil) {
+                    this.data.putLong(pos, date.toLocalDate().toEpochDay());
+                }
+                break;
+            case TIME:
+                final Time time = rset.getTime(col);
+                nil = time == null;
+                if (!nil) {
+                    this.data.putLong(pos, time.toLocalTime().toNanoOfDay());
+                }
+                break;
+            case TIMESTAMP:
+            case INSTANT:
+                final Timestamp stamp = rset.getTimestamp(col);
+                nil = stamp == null;
+                if (!nil) {
+                    this.data.putLong(pos, this.micros(stamp));
+                }
+                break;
+            case DECIMAL:
+                final BigDecimal decimal = rset.getBigDecimal(col);
+                nil = decimal == null;
+                if (!nil) {
+                    this.text(pos, decimal.toPlainString());
+                }
+                break;
+            case TEXT:
+                final String text = rset.getString(col);
+                nil = text == null;
+                if (!nil) {
+                    this.text(pos, text);
+                }
+                break;
+            default:
+                final byte[] bytes = rset.getBytes(col);
+                nil = bytes == null;
+                if (!nil) {
+                    this.data.putInt(pos, this.entry(bytes));
+                }
+                break;
+        }
+        if (nil) {
+            this.nulled(row);
+            if (this.kind.entries()) {
+                this.data.putInt(pos, ColumnBuffer.NIL);
+            }
+        }
+        ++this.size;
+    }
+
+    /**
+     * Trim buffers and forget the dictionary, since nothing will be
+     * read any more.
+     * @return This column
+     */
+    ColumnBuffer seal() {
+        this.data = ColumnBuffer.trim(this.data, this.size * this.kind.width);
+        if (this.kind.entries()) {
+            this.heap = ColumnBuffer.trim(this.heap, this.offset(this.entries));
+            this.offsets = ColumnBuffer.trim(
+                this.offsets, (this.entries + 1) << 2
+            );
+            this.dictionary = null;
+        }
+        if (this.nulls != null) {
+            this.nulls = Arrays.copyOf(this.nulls, (this.size + 63) >>> 6);
+        }
+        return this;
+    }
+
+    /**
+     * Bytes taken by the column.
+     * @return Number of bytes
+     */
+    long bytes() {
+        long total = this.data.capacity();
+        if (this.kind.entries()) {
+            total += this.heap.capacity() + this.offsets.capacity();
+        }
+        if (this.nulls != null) {
+            total += (long) this.nulls.length << 3;
+        }
+        return total;
+    }
+
+    /**
+     * Is it NULL?
+     * @param row Row number, starting from zero
+     * @return TRUE if it is
+     */
+    boolean isNull(final int row) {
+        this.check(row);
+        return this.nulls != null
+            && (this.nulls[row >>> 6] & 1L << (row & 63)) != 0L;
+    }
+
+    /**
+     * Value as {@code long}, zero if it's NULL.
+     * @param row Row number, starting from zero
+     * @return The value; temporal values are encoded, see the class
+     */
+    long getLong(final int row) {
+        this.check(row);
+        final long value;
+        if (this.kind.width == Long.BYTES && !this.kind.entries()
+            && this.kind != ColumnBuffer.Kind.DOUBLE) {
+            value = this.data.getLong(row << 3);
+        } else if (this.kind == ColumnBuffer.Kind.INT) {
+            value = this.data.getInt(row << 2);
+        } else if (this.kind == ColumnBuffer.Kind.BOOLEAN) {
+            value = this.data.get(row);
+        } else {
+            throw this.mismatch("long");
+        }
+        return value;
+    }
+
+    /**
+     * Value as {@code int}, zero if it's NULL.
+     * @param row Row number, starting from zero
+     * @return The value
+     */
+    int getInt(final int row) {
+        return Math.toIntExact(this.getLong(row));
+    }
+
+    /**
+     * Value as {@code double}, zero if it's NULL.
+     * @param row Row number, starting from zero
+     * @return The value
+     */
+    double getDouble(final int row) {
+        this.check(row);
+        final double value;
+        if (this.kind == ColumnBuffer.Kind.DOUBLE) {
+            value = this.data.getDouble(row << 3);
+        } else if (this.kind == ColumnBuffer.Kind.DECIMAL) {
+            if (this.isNull(row)) {
+                value = 0.0d;
+            } else {
+                value = Double.parseDouble(this.getString(row));
+            }
+        } else if (this.kind == ColumnBuffer.Kind.LONG
+            || this.kind == ColumnBuffer.Kind.INT) {
+            value = this.getLong(row);
+        } else {
+            throw this.mismatch("double");
+        }
+        return value;
+    }
+
+    /**
+     * Value as {@code boolean}, FALSE if it's NULL.
+     * @param row Row number, starting from zero
+     * @return The value
+     */
+    boolean getBoolean(final int row) {
+        return this.getLong(row) != 0L;
+    }
+
+    /**
+     * Value as a string.
+     * @param row Row number, starting from zero
+     * @return The value, or NULL
+     */
+    String getString(final int row) {
+        final String value;
+        if (this.isNull(row)) {
+            value = null;
+        } else if (this.kind == ColumnBuffer.Kind.TEXT
+            || this.kind == ColumnBuffer.Kind.DECIMAL) {
+            value = new String(this.getBytes(row), StandardCharsets.UTF_8);
+        } else if (this.kind == ColumnBuffer.Kind.BYTES) {
+            throw this.mismatch("string");
+        } else {
+            value = this.getObject(row).toString();
+        }
+        return value;
+    }
+
+    /**
+     * Bytes of the entry.
+     * @param row Row number, starting from zero
+     * @return The bytes, or NULL
+     */
+    byte[] getBytes(final int row) {
+        if (!this.kind.entries()) {
+            throw this.mismatch("bytes");
+        }
+        final byte[] bytes;
+        if (this.isNull(row)) {
+            bytes = null;
+        } else {
+            final int entry = this.data.getInt(row << 2);
+            final int start = this.offset(entry);
+            bytes = new byte[this.offset(entry + 1) - start];
+            final ByteBuffer buf = this.heap.duplicate();
+            buf.position(start);
+            buf.get(bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Value as an object.
+     * @param row Row number, starting from zero
+     * @return The value, or NULL
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    Object getObject(final int row) {
+        final Object value;
+        if (this.isNull(row)) {
+            value = null;
+        } else {
+            switch (this.kind) {
+                case LONG:
+                    value = this.getLong(row);
+                    break;
+                case INT:
+                    value = this.getInt(row);
+                    break;
+                case DOUBLE:
+                    value = this.getDouble(row);
+                    break;
+                case BOOLEAN:
+                    value = this.getBoolean(row);
+                    break;
+                case DATE:
+                    value = LocalDate.ofEpochDay(this.getLong(row));
+                    break;
+                case TIME:
+                    value = LocalTime.ofNanoOfDay(this.getLong(row));
+                    break;
+                case TIMESTAMP:
+                    value = LocalDateTime.ofInstant(
+                        ColumnBuffer.instant(this.getLong(row)), ZoneOffset.UTC
+                    );
+                    break;
+                case INSTANT:
+                    value = ColumnBuffer.instant(this.getLong(row));
+                    break;
+                case DECIMAL:
+                    value = new BigDecimal(this.getString(row));
+                    break;
+                case TEXT:
+                    value = this.getString(row);
+                    break;
+                default:
+                    value = this.getBytes(row);
+                    break;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Read-only view of values, exactly as they are stored.
+     * @return The buffer, in the native byte order
+     */
+    ByteBuffer buffer() {
+        final ByteBuffer buf = this.data.asReadOnlyBuffer()
+            .order(ByteOrder.nativeOrder());
+        buf.limit(this.size * this.kind.width);
+        return buf;
+    }
+
+    /**
+     * Number of entries, which are numbers of distinct values if all
+     * of them fit into the dictionary.
+     * @return Number of entries
+     */
+    int entries() {
+        return this.entries;
+    }
+
+    /**
+     * Microseconds since the epoch.
+     * @param stamp The timestamp
+     * @return Microseconds
+     */
+    private long micros(final Timestamp stamp) {
+        final long seconds;
+        if (this.kind == ColumnBuffer.Kind.INSTANT) {
+            seconds = stamp.toInstant().getEpochSecond();
+        } else {
+            seconds = stamp.toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+        }
+        return seconds * ColumnBuffer.MICROS
+            + stamp.getNanos() / ColumnBuffer.NANOS;
+    }
+
+    /**
+     * Store the string, using the dictionary if possible.
+     * @param pos Position of the row in data
+     * @param text The string
+     */
+    private void text(final int pos, final String text) {
+        Integer entry = null;
+        if (this.dictionary != null) {
+            entry = this.dictionary.get(text);
+        }
+        if (entry == null) {
+            entry = this.entry(text.getBytes(StandardCharsets.UTF_8));
+            if (this.dictionary != null) {
+                if (this.dictionary.size() < ColumnBuffer.DISTINCT) {
+                    this.dictionary.put(text, entry);
+                } else {
+                    this.dictionary = null;
+                }
+            }
+        }
+        this.data.putInt(pos, entry);
+    }
+
+    /**
+     * Add a new entry.
+     * @param bytes Its bytes
+     * @return Its number
+     */
+    private int entry(final byte[] bytes) {
+        final int start = this.offset(this.entries);
+        this.heap = ColumnBuffer.fit(this.heap, start + bytes.length);
+        final ByteBuffer buf = this.heap.duplicate();
+        buf.position(start);
+        buf.put(bytes);
+        final int entry = this.entries;
+        ++this.entries;
+        this.offsets = ColumnBuffer.fit(this.offsets, (this.entries + 1) << 2);
+        this.offsets.putInt(this.entries << 2, start + bytes.length);
+        return entry;
+    }
+
+    /**
+     * Offset of the entry in the heap.
+     * @param entry Number of the entry
+     * @return Offset
+     */
+    private int offset(final int entry) {
+        return this.offsets.getInt(entry << 2);
+    }
+
+    /**
+     * Mark the row as NULL.
+     * @param row Row number
+     */
+    private void nulled(final int row) {
+        final int word = row >>> 6;
+        if (this.nulls == null) {
+            this.nulls = new long[Math.max(word + 1, ColumnBuffer.ROWS >>> 6)];
+        } else if (word >= this.nulls.length) {
+            this.nulls = Arrays.copyOf(
+                this.nulls, Math.max(word + 1, this.nulls.length << 1)
+            );
+        }
+        this.nulls[word] |= 1L << (row & 63);
+    }
+
+    /**
+     * Make sure the row exists.
+     * @param row Row number
+     */
+    private void check(final int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row %d is out of 0..%d", row, this.size - 1)
+            );
+        }
+    }
+
+    /**
+     * Failure to read the value as this type.
+     * @param type The type
+     * @return The failure
+     */
+    private IllegalStateException mismatch(final String type) {
+        return new IllegalStateException(
+            String.format("Column of %s can't be read as %s", this.kind, type)
+        );
+    }
+
+    /**
+     * Instant of microseconds since the epoch.
+     * @param micros Microseconds
+     * @return Instant
+     */
+    private static Instant instant(final long micros) {
+        return Instant.ofEpochSecond(
+            Math.floorDiv(micros, ColumnBuffer.MICROS),
+            Math.floorMod(micros, ColumnBuffer.MICROS) * ColumnBuffer.NANOS
+        );
+    }
+
+    /**
+     * New direct buffer in the native byte order.
+     * @param bytes Capacity
+     * @return The buffer
+     */
+    private static ByteBuffer allocate(final int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Grow the buffer twice, if it's smaller than needed.
+     * @param buf The buffer
+     * @param need Bytes needed
+     * @return The same buffer or a bigger one
+     */
+    private static ByteBuffer fit(final ByteBuffer buf, final int need) {
+        ByteBuffer fit = buf;
+        if (need < 0) {
+            throw new IllegalStateException(
+                "The result is too big for a columnar outcome"
+            );
+        }
+        if (need > buf.capacity()) {
+            fit = ColumnBuffer.allocate(
+                (int) Math.min(
+                    Integer.MAX_VALUE - 8L,
+                    Math.max(need, (long) buf.capacity() << 1)
+                )
+            );
+            final ByteBuffer src = buf.duplicate();
+            src.clear();
+            fit.put(src);
+            fit.clear();
+        }
+        return fit;
+    }
+
+    /**
+     * Copy the buffer to a smaller one, if it's too big.
+     * @param buf The buffer
+     * @param used Bytes used
+     * @return The same buffer or a smaller one
+     */
+    private static ByteBuffer trim(final ByteBuffer buf, final int used) {
+        ByteBuffer trim = buf;
+        if (buf.capacity() - used > used >> 3) {
+            trim = ColumnBuffer.allocate(used);
+            final ByteBuffer src = buf.duplicate();
+            src.clear().limit(used);
+            trim.put(src);
+            trim.clear();
+        }
+        return trim;
+    }
+
+    /**
+     * Kind of a column, by the SQL type.
+     * @since 1.0
+     */
+    enum Kind {
+        /**
+         * BIGINT, and integer DECIMAL that fits.
+         */
+        LONG(Long.BYTES),
+        /**
+         * INTEGER, SMALLINT, TINYINT.
+         */
+        INT(Integer.BYTES),
+        /**
+         * DOUBLE, FLOAT, REAL.
+         */
+        DOUBLE(Double.BYTES),
+        /**
+         * BOOLEAN, BIT.
+         */
+        BOOLEAN(1),
+        /**
+         * DATE, as days since the epoch.
+         */
+        DATE(Long.BYTES),
+        /**
+         * TIME, as nanoseconds of the day.
+         */
+        TIME(Long.BYTES),
+        /**
+         * TIMESTAMP, as microseconds since the epoch, at UTC.
+         */
+        TIMESTAMP(Long.BYTES),
+        /**
+         * TIMESTAMP WITH TIME ZONE, as microseconds since the epoch.
+         */
+        INSTANT(Long.BYTES),
+        /**
+         * DECIMAL and NUMERIC, as strings.
+         */
+        DECIMAL(Integer.BYTES),
+        /**
+         * Everything else, as strings.
+         */
+        TEXT(Integer.BYTES),
+        /**
+         * BINARY, VARBINARY, BLOB.
+         */
+        BYTES(Integer.BYTES);
+
+        /**
+         * Bytes per row in data.
+         */
+        private final int width;
+
+        /**
+         * Ctor.
+         * @param bytes Bytes per row
+         */
+        Kind(final int bytes) {
+            this.width = bytes;
+        }
+
+        /**
+         * Kind of the column.
+         * @param meta Meta data of the result set
+         * @param col Column position, starting from one
+         * @return The kind
+         * @throws SQLException If fails
+         * @checkstyle CyclomaticComplexity (50 lines)
+         */
+        static ColumnBuffer.Kind of(final ResultSetMetaData meta, final int col)
+            throws SQLException {
+            final ColumnBuffer.Kind kind;
+            switch (meta.getColumnType(col)) {
+                case Types.BIGINT:
+                    kind = ColumnBuffer.Kind.LONG;
+                    break;
+                case Types.INTEGER:
+                case Types.SMALLINT:
+                case Types.TINYINT:
+                    kind = ColumnBuffer.Kind.INT;
+                    break;
+                case Types.DOUBLE:
+                case Types.FLOAT:
+                case Types.REAL:
+                    kind = ColumnBuffer.Kind.DOUBLE;
+                    break;
+                case Types.BOOLEAN:
+                case Types.BIT:
+                    kind = ColumnBuffer.Kind.BOOLEAN;
+                    break;
+                case Types.DATE:
+                    kind = ColumnBuffer.Kind.DATE;
+                    break;
+                case Types.TIME:
+                    kind = ColumnBuffer.Kind.TIME;
+                    break;
+                case Types.TIMESTAMP:
+                    kind = ColumnBuffer.Kind.TIMESTAMP;
+                    break;
+                case Types.TIMESTAMP_WITH_TIMEZONE:
+                    kind = ColumnBuffer.Kind.INSTANT;
+                    break;
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                    kind = ColumnBuffer.Kind.decimal(meta, col);
+                    break;
+                case Types.BINARY:
+                case Types.VARBINARY:
+                case Types.LONGVARBINARY:
+                case Types.BLOB:
+                    kind = ColumnBuffer.Kind.BYTES;
+                    break;
+                default:
+                    kind = ColumnBuffer.Kind.TEXT;
+                    break;
+            }
+            return kind;
+        }
+
+        /**
+         * Are values stored as entries?
+         * @return TRUE if they are
+         */
+        boolean entries() {
+            return this == ColumnBuffer.Kind.DECIMAL
+                || this == ColumnBuffer.Kind.TEXT
+                || this == ColumnBuffer.Kind.BYTES;
+        }
+
+        /**
+         * Kind of the DECIMAL column.
+         * @param meta Meta data of the result set
+         * @param col Column position, starting from one
+         * @return LONG if it's an integer that fits, DECIMAL otherwise
+         * @throws SQLException If fails
+         */
+        private static ColumnBuffer.Kind decimal(final ResultSetMetaData meta,
+            final int col) throws SQLException {
+            final int precision = meta.getPrecision(col);
+            final ColumnBuffer.Kind kind;
+            if (meta.getScale(col) == 0 && precision > 0 && precision < 19) {
+                kind = ColumnBuffer.Kind.LONG;
+            } else {
+                kind = ColumnBuffer.Kind.DECIMAL;
+            }
+            return kind;
+        }
+    }
+}
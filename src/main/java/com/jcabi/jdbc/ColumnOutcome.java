@@ -7,9 +7,9 @@ package com.jcabi.jdbc;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.UUID;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -67,7 +67,7 @@ public final class ColumnOutcome<T> implements Outcome<Collection<T>> {
     @Override
     public Collection<T> handle(final ResultSet rset, final Statement stmt)
         throws SQLException {
-        final Collection<T> result = new LinkedList<>();
+        final Collection<T> result = new ArrayList<>();
         while (rset.next()) {
             result.add(this.mapping.map(rset));
         }
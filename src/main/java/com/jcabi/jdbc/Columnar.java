@@ -0,0 +1,319 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Read-only table of a result, stored column by column, off the heap.
+ *
+ * <p>It's what {@link ColumnarOutcome} returns. Rows are numbered from
+ * zero, while columns are numbered from one, as in JDBC. Values are read
+ * one by one, like in a {@link java.sql.ResultSet}, or a whole column
+ * at once, as a read-only buffer, which is the fastest way to scan it:</p>
+ *
+ * <pre> Columnar table = new JdbcSession(source)
+ *   .sql("SELECT id, price, city FROM sale")
+ *   .select(new ColumnarOutcome());
+ * DoubleBuffer prices = table.doubles(table.column("price"));
+ * double total = 0.0;
+ * while (prices.hasRemaining()) {
+ *   total += prices.get();
+ * }</pre>
+ *
+ * <p>Columns are typed by {@link java.sql.ResultSetMetaData}:
+ * {@code BIGINT} and integer {@code DECIMAL} up to 18 digits are
+ * {@code long}, {@code INTEGER}, {@code SMALLINT} and {@code TINYINT} are
+ * {@code int}, {@code DOUBLE}, {@code FLOAT} and {@code REAL} are
+ * {@code double}, {@code BOOLEAN} and {@code BIT} are {@code boolean}.
+ * {@code DATE}, {@code TIME}, {@code TIMESTAMP} and
+ * {@code TIMESTAMP WITH TIME ZONE} are stored as {@code long} numbers of
+ * days since the epoch, nanoseconds of the day, and microseconds since
+ * the epoch, and {@link #getObject(int, int)} returns them as
+ * {@link java.time.LocalDate}, {@link java.time.LocalTime},
+ * {@link java.time.LocalDateTime} and {@link java.time.Instant}.
+ * Everything else is stored as UTF-8 strings, which are stored once
+ * per distinct value, or as bytes for binary types.</p>
+ *
+ * <p>SQL {@code NULL} is zero in buffers and in primitive getters, see
+ * {@link #isNull(int, int)}, except {@link #codes(int)}, where it is
+ * {@code -1}.</p>
+ *
+ * <p>The class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Columnar {
+
+    /**
+     * Labels of columns.
+     */
+    private final String[] labels;
+
+    /**
+     * Columns.
+     */
+    private final ColumnBuffer[] columns;
+
+    /**
+     * Number of rows.
+     */
+    private final int total;
+
+    /**
+     * Ctor.
+     * @param lbls Labels of columns
+     * @param cols Columns
+     * @param rows Number of rows
+     */
+    Columnar(final String[] lbls, final ColumnBuffer[] cols,
+        final int rows) {
+        this.labels = Arrays.copyOf(lbls, lbls.length);
+        this.columns = Arrays.copyOf(cols, cols.length);
+        this.total = rows;
+    }
+
+    /**
+     * Number of rows.
+     * @return Rows
+     */
+    public int rows() {
+        return this.total;
+    }
+
+    /**
+     * Number of columns.
+     * @return Columns
+     */
+    public int columns() {
+        return this.columns.length;
+    }
+
+    /**
+     * Label of the column.
+     * @param col Column position, starting from one
+     * @return The label
+     */
+    public String label(final int col) {
+        return this.labels[col - 1];
+    }
+
+    /**
+     * Position of the column.
+     * @param label Column label, case-insensitive
+     * @return Position, starting from one
+     */
+    public int column(final String label) {
+        int pos = 0;
+        for (int idx = 0; idx < this.labels.length && pos == 0; ++idx) {
+            if (this.labels[idx].equalsIgnoreCase(label)) {
+                pos = idx + 1;
+            }
+        }
+        if (pos == 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There is no column \"%s\" among %s",
+                    label, Arrays.toString(this.labels)
+                )
+            );
+        }
+        return pos;
+    }
+
+    /**
+     * Bytes taken by all columns, mostly off the heap.
+     * @return Number of bytes
+     */
+    public long bytes() {
+        long sum = 0L;
+        for (final ColumnBuffer column : this.columns) {
+            sum += column.bytes();
+        }
+        return sum;
+    }
+
+    /**
+     * Is the value NULL?
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return TRUE if it is
+     */
+    public boolean isNull(final int row, final int col) {
+        return this.column(col).isNull(row);
+    }
+
+    /**
+     * Value as {@code long}.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, zero if it's NULL; dates, times and timestamps
+     *  are returned as they are stored
+     */
+    public long getLong(final int row, final int col) {
+        return this.column(col).getLong(row);
+    }
+
+    /**
+     * Value as {@code int}.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, zero if it's NULL
+     */
+    public int getInt(final int row, final int col) {
+        return this.column(col).getInt(row);
+    }
+
+    /**
+     * Value as {@code double}.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, zero if it's NULL
+     */
+    public double getDouble(final int row, final int col) {
+        return this.column(col).getDouble(row);
+    }
+
+    /**
+     * Value as {@code boolean}.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, FALSE if it's NULL
+     */
+    public boolean getBoolean(final int row, final int col) {
+        return this.column(col).getBoolean(row);
+    }
+
+    /**
+     * Value as a string.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, or NULL
+     */
+    public String getString(final int row, final int col) {
+        return this.column(col).getString(row);
+    }
+
+    /**
+     * Value of a binary column.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, or NULL
+     */
+    public byte[] getBytes(final int row, final int col) {
+        return this.column(col).getBytes(row);
+    }
+
+    /**
+     * Value as an object.
+     * @param row Row number, starting from zero
+     * @param col Column position, starting from one
+     * @return The value, or NULL
+     */
+    public Object getObject(final int row, final int col) {
+        return this.column(col).getObject(row);
+    }
+
+    /**
+     * All values of a {@code long} column, or of a temporal one.
+     * @param col Column position, starting from one
+     * @return Read-only buffer, one value per row
+     */
+    public LongBuffer longs(final int col) {
+        final ColumnBuffer column = this.column(col);
+        if (column.kind() == ColumnBuffer.Kind.INT
+            || column.kind() == ColumnBuffer.Kind.DOUBLE
+            || column.kind() == ColumnBuffer.Kind.BOOLEAN
+            || column.kind().entries()) {
+            throw Columnar.mismatch(col, column, "longs");
+        }
+        return column.buffer().asLongBuffer();
+    }
+
+    /**
+     * All values of an {@code int} column.
+     * @param col Column position, starting from one
+     * @return Read-only buffer, one value per row
+     */
+    public IntBuffer ints(final int col) {
+        final ColumnBuffer column = this.column(col);
+        if (column.kind() != ColumnBuffer.Kind.INT) {
+            throw Columnar.mismatch(col, column, "ints");
+        }
+        return column.buffer().asIntBuffer();
+    }
+
+    /**
+     * All values of a {@code double} column.
+     * @param col Column position, starting from one
+     * @return Read-only buffer, one value per row
+     */
+    public DoubleBuffer doubles(final int col) {
+        final ColumnBuffer column = this.column(col);
+        if (column.kind() != ColumnBuffer.Kind.DOUBLE) {
+            throw Columnar.mismatch(col, column, "doubles");
+        }
+        return column.buffer().asDoubleBuffer();
+    }
+
+    /**
+     * Codes of values of a string column: rows with equal codes have
+     * equal values, which is enough to group them, without reading
+     * strings.
+     *
+     * <p>Codes are numbers of distinct values as long as there are no more
+     * than 65536 of them. After that, new values get new codes, even if
+     * they repeat. NULL has its own code, {@code -1}, which is never
+     * a code of a value.</p>
+     *
+     * @param col Column position, starting from one
+     * @return Read-only buffer, one code per row, {@code -1} for NULL
+     */
+    public IntBuffer codes(final int col) {
+        final ColumnBuffer column = this.column(col);
+        if (!column.kind().entries()) {
+            throw Columnar.mismatch(col, column, "codes");
+        }
+        return column.buffer().asIntBuffer();
+    }
+
+    /**
+     * The column.
+     * @param col Column position, starting from one
+     * @return The column
+     */
+    private ColumnBuffer column(final int col) {
+        if (col < 1 || col > this.columns.length) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Column %d is out of 1..%d", col, this.columns.length
+                )
+            );
+        }
+        return this.columns[col - 1];
+    }
+
+    /**
+     * Failure to read the column this way.
+     * @param col Column position
+     * @param column The column
+     * @param how How it's read
+     * @return The failure
+     */
+    private static IllegalStateException mismatch(final int col,
+        final ColumnBuffer column, final String how) {
+        return new IllegalStateException(
+            String.format(
+                "Column #%d of %s can't be read as %s",
+                col, column.kind().name().toLowerCase(Locale.ENGLISH), how
+            )
+        );
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that reads all rows into a {@link Columnar} table.
+ *
+ * <p>Use it instead of {@link ListOutcome} for big results that are
+ * scanned column by column, like in aggregations. Values are not boxed
+ * and rows are not objects: every column is a buffer off the heap,
+ * where numbers take their own width, strings that repeat are stored once,
+ * and NULLs take a bit each:</p>
+ *
+ * <pre> Columnar sales = new JdbcSession(source)
+ *   .sql("SELECT city, amount FROM sale WHERE year = ?")
+ *   .set(2024)
+ *   .select(new ColumnarOutcome());</pre>
+ *
+ * <p>Rows are fetched in big chunks, unless the session is tuned
+ * otherwise, see {@link Tuning}.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class ColumnarOutcome implements Outcome<Columnar> {
+
+    /**
+     * Fetch size suggested.
+     */
+    private static final int FETCH = 1000;
+
+    @Override
+    public Columnar handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        final ResultSetMetaData meta = rset.getMetaData();
+        final int count = meta.getColumnCount();
+        final String[] labels = new String[count];
+        final ColumnBuffer[] columns = new ColumnBuffer[count];
+        for (int col = 1; col <= count; ++col) {
+            labels[col - 1] = meta.getColumnLabel(col);
+            columns[col - 1] = new ColumnBuffer(
+                ColumnBuffer.Kind.of(meta, col)
+            );
+        }
+        int rows = 0;
+        while (rset.next()) {
+            for (int col = 1; col <= count; ++col) {
+                columns[col - 1].read(rset, col);
+            }
+            ++rows;
+        }
+        for (final ColumnBuffer column : columns) {
+            column.seal();
+        }
+        return new Columnar(labels, columns, rows);
+    }
+
+    @Override
+    public Tuning tuning() {
+        return new Tuning().fetch(ColumnarOutcome.FETCH);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Positions of columns of a {@link ResultSet}, by their labels.
+ *
+ * <p>Labels are matched like {@link ResultSet#findColumn(String)} does:
+ * case-insensitively, and the first column wins, if there are many with
+ * the same label. The exact label is looked up first, so the usual
+ * lookup doesn't allocate a lower-case copy of it.</p>
+ *
+ * <p>Columns are cached per {@link PreparedStatement}, which always
+ * returns the same columns, so the {@link ResultSetMetaData} is read
+ * only once for a statement reused from {@link Statements}. The
+ * statements are referenced weakly, so the cache is never bigger than
+ * the amount of live statements.</p>
+ *
+ * <p>The class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Columns {
+
+    /**
+     * Columns of live statements.
+     */
+    private static final Map<Statement, Columns> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>(0));
+
+    /**
+     * Labels, in order.
+     */
+    private final String[] labels;
+
+    /**
+     * Positions, by exact and lower-case labels.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * Ctor.
+     * @param lbls Labels, in order
+     */
+    private Columns(final String[] lbls) {
+        this.labels = lbls.clone();
+        this.positions = new HashMap<>(lbls.length << 2);
+        for (int idx = 0; idx < lbls.length; ++idx) {
+            this.positions.putIfAbsent(lbls[idx], idx + 1);
+            this.positions.putIfAbsent(
+                lbls[idx].toLowerCase(Locale.ENGLISH), idx + 1
+            );
+        }
+    }
+
+    /**
+     * Get columns of this result set.
+     * @param rset The result set
+     * @return Columns
+     * @throws SQLException If fails
+     */
+    static Columns of(final ResultSet rset) throws SQLException {
+        final Statement stmt = rset.getStatement();
+        final boolean cached = stmt instanceof PreparedStatement
+            && !(stmt instanceof CallableStatement);
+        Columns columns = null;
+        if (cached) {
+            columns = Columns.CACHE.get(stmt);
+        }
+        if (columns == null) {
+            columns = Columns.read(rset.getMetaData());
+            if (cached) {
+                Columns.CACHE.put(stmt, columns);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Read columns from the metadata.
+     * @param meta The metadata
+     * @return Columns
+     * @throws SQLException If fails
+     */
+    private static Columns read(final ResultSetMetaData meta)
+        throws SQLException {
+        final String[] labels = new String[meta.getColumnCount()];
+        for (int idx = 0; idx < labels.length; ++idx) {
+            labels[idx] = meta.getColumnLabel(idx + 1);
+        }
+        return new Columns(labels);
+    }
+
+    /**
+     * Position of the column.
+     * @param label Column label
+     * @return Position, starting from one
+     * @throws SQLException If there is no such column
+     */
+    int index(final String label) throws SQLException {
+        Integer pos = this.positions.get(label);
+        if (pos == null) {
+            pos = this.positions.get(label.toLowerCase(Locale.ENGLISH));
+        }
+        if (pos == null) {
+            throw new SQLException(
+                String.format(
+                    "Column '%s' not found among %s",
+                    label, Arrays.toString(this.labels)
+                )
+            );
+        }
+        return pos;
+    }
+}
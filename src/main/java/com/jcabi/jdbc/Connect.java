@@ -8,9 +8,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import lombok.EqualsAndHashCode;
 
 /**
  * Connect.
+ *
+ * <p>Implementations are equal when they prepare the same SQL in the same
+ * way, that's why they are used as keys in {@link Statements}.</p>
+ *
  * @since 0.13
  */
 @FunctionalInterface
@@ -19,16 +24,19 @@ interface Connect {
     /**
      * Create prepare statement.
      * @param conn Open connection
+     * @param dialect Dialect of the connection
      * @return The statement
      * @throws SQLException If some problem
      */
-    PreparedStatement open(Connection conn) throws SQLException;
+    PreparedStatement open(Connection conn, Dialect dialect)
+        throws SQLException;
 
     /**
      * Connect which opens a <b>CallableStatement</b>, which
      * is used for calling stored procedures.
      * @since 0.13
      */
+    @EqualsAndHashCode(of = "sql")
     final class Call implements Connect {
 
         /**
@@ -45,7 +53,8 @@ interface Connect {
         }
 
         @Override
-        public PreparedStatement open(final Connection conn) throws SQLException {
+        public PreparedStatement open(final Connection conn,
+            final Dialect dialect) throws SQLException {
             return conn.prepareCall(this.sql);
         }
     }
@@ -54,6 +63,7 @@ interface Connect {
      * Plain, without keys.
      * @since 0.13
      */
+    @EqualsAndHashCode(of = "sql")
     final class Plain implements Connect {
 
         /**
@@ -70,15 +80,17 @@ interface Connect {
         }
 
         @Override
-        public PreparedStatement open(final Connection conn) throws SQLException {
+        public PreparedStatement open(final Connection conn,
+            final Dialect dialect) throws SQLException {
             return conn.prepareStatement(this.sql);
         }
     }
 
     /**
-     * With returned keys.
+     * With returned keys, only if the driver supports them.
      * @since 0.13
      */
+    @EqualsAndHashCode(of = "sql")
     final class WithKeys implements Connect {
 
         /**
@@ -95,11 +107,52 @@ interface Connect {
         }
 
         @Override
-        public PreparedStatement open(final Connection conn) throws SQLException {
-            return conn.prepareStatement(
-                this.sql,
-                Statement.RETURN_GENERATED_KEYS
-            );
+        public PreparedStatement open(final Connection conn,
+            final Dialect dialect) throws SQLException {
+            final PreparedStatement stmt;
+            if (dialect.keys()) {
+                stmt = conn.prepareStatement(
+                    this.sql,
+                    Statement.RETURN_GENERATED_KEYS
+                );
+            } else {
+                stmt = conn.prepareStatement(this.sql);
+            }
+            return stmt;
+        }
+    }
+
+    /**
+     * With returned keys only when the dialect requires them
+     * to be requested explicitly, like MySQL does, otherwise plain.
+     * @since 1.0
+     */
+    @EqualsAndHashCode(of = "sql")
+    final class ByDialect implements Connect {
+
+        /**
+         * SQL query.
+         */
+        private final transient String sql;
+
+        /**
+         * Ctor.
+         * @param query Query
+         */
+        ByDialect(final String query) {
+            this.sql = query;
+        }
+
+        @Override
+        public PreparedStatement open(final Connection conn,
+            final Dialect dialect) throws SQLException {
+            final Connect connect;
+            if (dialect.is("mysql")) {
+                connect = new Connect.WithKeys(this.sql);
+            } else {
+                connect = new Connect.Plain(this.sql);
+            }
+            return connect.open(conn, dialect);
         }
     }
 }
@@ -0,0 +1,1148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * Result set, which counts rows that an {@link Outcome} went through.
+ *
+ * <p>Every call is delegated directly, without reflection, and successful
+ * calls of {@link ResultSet#next()} are counted.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ * @checkstyle ParameterNumberCheck (2000 lines)
+ */
+@SuppressWarnings({
+    "deprecation", "PMD.TooManyMethods", "PMD.ExcessivePublicCount",
+    "PMD.ExcessiveClassLength", "PMD.GodClass", "PMD.CouplingBetweenObjects"
+})
+final class Counted implements ResultSet {
+
+    /**
+     * The original result set.
+     */
+    private final transient ResultSet origin;
+
+    /**
+     * Rows seen so far.
+     */
+    private transient long rows;
+
+    /**
+     * Ctor.
+     * @param rset The original result set
+     */
+    Counted(final ResultSet rset) {
+        this.origin = rset;
+    }
+
+    /**
+     * How many rows were seen.
+     * @return Number of rows
+     */
+    long rows() {
+        return this.rows;
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        return this.origin.absolute(row);
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        this.origin.afterLast();
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        this.origin.beforeFirst();
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        this.origin.cancelRowUpdates();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.origin.clearWarnings();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.origin.close();
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        this.origin.deleteRow();
+    }
+
+    @Override
+    public int findColumn(final String label) throws SQLException {
+        return this.origin.findColumn(label);
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        return this.origin.first();
+    }
+
+    @Override
+    public Array getArray(final String label) throws SQLException {
+        return this.origin.getArray(label);
+    }
+
+    @Override
+    public Array getArray(final int column) throws SQLException {
+        return this.origin.getArray(column);
+    }
+
+    @Override
+    public InputStream getAsciiStream(final String label) throws SQLException {
+        return this.origin.getAsciiStream(label);
+    }
+
+    @Override
+    public InputStream getAsciiStream(final int column) throws SQLException {
+        return this.origin.getAsciiStream(column);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String label, final int scale)
+        throws SQLException {
+        return this.origin.getBigDecimal(label, scale);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String label) throws SQLException {
+        return this.origin.getBigDecimal(label);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int column, final int scale)
+        throws SQLException {
+        return this.origin.getBigDecimal(column, scale);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int column) throws SQLException {
+        return this.origin.getBigDecimal(column);
+    }
+
+    @Override
+    public InputStream getBinaryStream(final String label) throws SQLException {
+        return this.origin.getBinaryStream(label);
+    }
+
+    @Override
+    public InputStream getBinaryStream(final int column) throws SQLException {
+        return this.origin.getBinaryStream(column);
+    }
+
+    @Override
+    public Blob getBlob(final String label) throws SQLException {
+        return this.origin.getBlob(label);
+    }
+
+    @Override
+    public Blob getBlob(final int column) throws SQLException {
+        return this.origin.getBlob(column);
+    }
+
+    @Override
+    public boolean getBoolean(final String label) throws SQLException {
+        return this.origin.getBoolean(label);
+    }
+
+    @Override
+    public boolean getBoolean(final int column) throws SQLException {
+        return this.origin.getBoolean(column);
+    }
+
+    @Override
+    public byte getByte(final String label) throws SQLException {
+        return this.origin.getByte(label);
+    }
+
+    @Override
+    public byte getByte(final int column) throws SQLException {
+        return this.origin.getByte(column);
+    }
+
+    @Override
+    public byte[] getBytes(final String label) throws SQLException {
+        return this.origin.getBytes(label);
+    }
+
+    @Override
+    public byte[] getBytes(final int column) throws SQLException {
+        return this.origin.getBytes(column);
+    }
+
+    @Override
+    public Reader getCharacterStream(final String label) throws SQLException {
+        return this.origin.getCharacterStream(label);
+    }
+
+    @Override
+    public Reader getCharacterStream(final int column) throws SQLException {
+        return this.origin.getCharacterStream(column);
+    }
+
+    @Override
+    public Clob getClob(final String label) throws SQLException {
+        return this.origin.getClob(label);
+    }
+
+    @Override
+    public Clob getClob(final int column) throws SQLException {
+        return this.origin.getClob(column);
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        return this.origin.getConcurrency();
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        return this.origin.getCursorName();
+    }
+
+    @Override
+    public Date getDate(final String label, final Calendar cal)
+        throws SQLException {
+        return this.origin.getDate(label, cal);
+    }
+
+    @Override
+    public Date getDate(final String label) throws SQLException {
+        return this.origin.getDate(label);
+    }
+
+    @Override
+    public Date getDate(final int column, final Calendar cal)
+        throws SQLException {
+        return this.origin.getDate(column, cal);
+    }
+
+    @Override
+    public Date getDate(final int column) throws SQLException {
+        return this.origin.getDate(column);
+    }
+
+    @Override
+    public double getDouble(final String label) throws SQLException {
+        return this.origin.getDouble(label);
+    }
+
+    @Override
+    public double getDouble(final int column) throws SQLException {
+        return this.origin.getDouble(column);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return this.origin.getFetchDirection();
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return this.origin.getFetchSize();
+    }
+
+    @Override
+    public float getFloat(final String label) throws SQLException {
+        return this.origin.getFloat(label);
+    }
+
+    @Override
+    public float getFloat(final int column) throws SQLException {
+        return this.origin.getFloat(column);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return this.origin.getHoldability();
+    }
+
+    @Override
+    public int getInt(final String label) throws SQLException {
+        return this.origin.getInt(label);
+    }
+
+    @Override
+    public int getInt(final int column) throws SQLException {
+        return this.origin.getInt(column);
+    }
+
+    @Override
+    public long getLong(final String label) throws SQLException {
+        return this.origin.getLong(label);
+    }
+
+    @Override
+    public long getLong(final int column) throws SQLException {
+        return this.origin.getLong(column);
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        return this.origin.getMetaData();
+    }
+
+    @Override
+    public Reader getNCharacterStream(final String label) throws SQLException {
+        return this.origin.getNCharacterStream(label);
+    }
+
+    @Override
+    public Reader getNCharacterStream(final int column) throws SQLException {
+        return this.origin.getNCharacterStream(column);
+    }
+
+    @Override
+    public NClob getNClob(final String label) throws SQLException {
+        return this.origin.getNClob(label);
+    }
+
+    @Override
+    public NClob getNClob(final int column) throws SQLException {
+        return this.origin.getNClob(column);
+    }
+
+    @Override
+    public String getNString(final String label) throws SQLException {
+        return this.origin.getNString(label);
+    }
+
+    @Override
+    public String getNString(final int column) throws SQLException {
+        return this.origin.getNString(column);
+    }
+
+    @Override
+    public <T> T getObject(final String label, final Class<T> type)
+        throws SQLException {
+        return this.origin.getObject(label, type);
+    }
+
+    @Override
+    public Object getObject(final String label, final Map<String, Class<?>> map)
+        throws SQLException {
+        return this.origin.getObject(label, map);
+    }
+
+    @Override
+    public Object getObject(final String label) throws SQLException {
+        return this.origin.getObject(label);
+    }
+
+    @Override
+    public <T> T getObject(final int column, final Class<T> type)
+        throws SQLException {
+        return this.origin.getObject(column, type);
+    }
+
+    @Override
+    public Object getObject(final int column, final Map<String, Class<?>> map)
+        throws SQLException {
+        return this.origin.getObject(column, map);
+    }
+
+    @Override
+    public Object getObject(final int column) throws SQLException {
+        return this.origin.getObject(column);
+    }
+
+    @Override
+    public Ref getRef(final String label) throws SQLException {
+        return this.origin.getRef(label);
+    }
+
+    @Override
+    public Ref getRef(final int column) throws SQLException {
+        return this.origin.getRef(column);
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        return this.origin.getRow();
+    }
+
+    @Override
+    public RowId getRowId(final String label) throws SQLException {
+        return this.origin.getRowId(label);
+    }
+
+    @Override
+    public RowId getRowId(final int column) throws SQLException {
+        return this.origin.getRowId(column);
+    }
+
+    @Override
+    public SQLXML getSQLXML(final String label) throws SQLException {
+        return this.origin.getSQLXML(label);
+    }
+
+    @Override
+    public SQLXML getSQLXML(final int column) throws SQLException {
+        return this.origin.getSQLXML(column);
+    }
+
+    @Override
+    public short getShort(final String label) throws SQLException {
+        return this.origin.getShort(label);
+    }
+
+    @Override
+    public short getShort(final int column) throws SQLException {
+        return this.origin.getShort(column);
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        return this.origin.getStatement();
+    }
+
+    @Override
+    public String getString(final String label) throws SQLException {
+        return this.origin.getString(label);
+    }
+
+    @Override
+    public String getString(final int column) throws SQLException {
+        return this.origin.getString(column);
+    }
+
+    @Override
+    public Time getTime(final String label, final Calendar cal)
+        throws SQLException {
+        return this.origin.getTime(label, cal);
+    }
+
+    @Override
+    public Time getTime(final String label) throws SQLException {
+        return this.origin.getTime(label);
+    }
+
+    @Override
+    public Time getTime(final int column, final Calendar cal)
+        throws SQLException {
+        return this.origin.getTime(column, cal);
+    }
+
+    @Override
+    public Time getTime(final int column) throws SQLException {
+        return this.origin.getTime(column);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String label, final Calendar cal)
+        throws SQLException {
+        return this.origin.getTimestamp(label, cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String label) throws SQLException {
+        return this.origin.getTimestamp(label);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int column, final Calendar cal)
+        throws SQLException {
+        return this.origin.getTimestamp(column, cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int column) throws SQLException {
+        return this.origin.getTimestamp(column);
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        return this.origin.getType();
+    }
+
+    @Override
+    public URL getURL(final String label) throws SQLException {
+        return this.origin.getURL(label);
+    }
+
+    @Override
+    public URL getURL(final int column) throws SQLException {
+        return this.origin.getURL(column);
+    }
+
+    @Override
+    public InputStream getUnicodeStream(final String label)
+        throws SQLException {
+        return this.origin.getUnicodeStream(label);
+    }
+
+    @Override
+    public InputStream getUnicodeStream(final int column) throws SQLException {
+        return this.origin.getUnicodeStream(column);
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return this.origin.getWarnings();
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        this.origin.insertRow();
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        return this.origin.isAfterLast();
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        return this.origin.isBeforeFirst();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return this.origin.isClosed();
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        return this.origin.isFirst();
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        return this.origin.isLast();
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return this.origin.isWrapperFor(iface);
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        return this.origin.last();
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        this.origin.moveToCurrentRow();
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        this.origin.moveToInsertRow();
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        final boolean more = this.origin.next();
+        if (more) {
+            ++this.rows;
+        }
+        return more;
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        return this.origin.previous();
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        this.origin.refreshRow();
+    }
+
+    @Override
+    public boolean relative(final int rows) throws SQLException {
+        return this.origin.relative(rows);
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        return this.origin.rowDeleted();
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        return this.origin.rowInserted();
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        return this.origin.rowUpdated();
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        this.origin.setFetchDirection(direction);
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        this.origin.setFetchSize(rows);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return this.origin.unwrap(iface);
+    }
+
+    @Override
+    public void updateArray(final String label, final Array value)
+        throws SQLException {
+        this.origin.updateArray(label, value);
+    }
+
+    @Override
+    public void updateArray(final int column, final Array value)
+        throws SQLException {
+        this.origin.updateArray(column, value);
+    }
+
+    @Override
+    public void updateAsciiStream(final String label, final InputStream stream,
+        final int length) throws SQLException {
+        this.origin.updateAsciiStream(label, stream, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final String label, final InputStream stream,
+        final long length) throws SQLException {
+        this.origin.updateAsciiStream(label, stream, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final String label, final InputStream stream)
+        throws SQLException {
+        this.origin.updateAsciiStream(label, stream);
+    }
+
+    @Override
+    public void updateAsciiStream(final int column, final InputStream stream,
+        final int length) throws SQLException {
+        this.origin.updateAsciiStream(column, stream, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final int column, final InputStream stream,
+        final long length) throws SQLException {
+        this.origin.updateAsciiStream(column, stream, length);
+    }
+
+    @Override
+    public void updateAsciiStream(final int column, final InputStream stream)
+        throws SQLException {
+        this.origin.updateAsciiStream(column, stream);
+    }
+
+    @Override
+    public void updateBigDecimal(final String label, final BigDecimal value)
+        throws SQLException {
+        this.origin.updateBigDecimal(label, value);
+    }
+
+    @Override
+    public void updateBigDecimal(final int column, final BigDecimal value)
+        throws SQLException {
+        this.origin.updateBigDecimal(column, value);
+    }
+
+    @Override
+    public void updateBinaryStream(final String label, final InputStream stream,
+        final int length) throws SQLException {
+        this.origin.updateBinaryStream(label, stream, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final String label, final InputStream stream,
+        final long length) throws SQLException {
+        this.origin.updateBinaryStream(label, stream, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final String label, final InputStream stream)
+        throws SQLException {
+        this.origin.updateBinaryStream(label, stream);
+    }
+
+    @Override
+    public void updateBinaryStream(final int column, final InputStream stream,
+        final int length) throws SQLException {
+        this.origin.updateBinaryStream(column, stream, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final int column, final InputStream stream,
+        final long length) throws SQLException {
+        this.origin.updateBinaryStream(column, stream, length);
+    }
+
+    @Override
+    public void updateBinaryStream(final int column, final InputStream stream)
+        throws SQLException {
+        this.origin.updateBinaryStream(column, stream);
+    }
+
+    @Override
+    public void updateBlob(final String label, final InputStream stream,
+        final long length) throws SQLException {
+        this.origin.updateBlob(label, stream, length);
+    }
+
+    @Override
+    public void updateBlob(final String label, final InputStream stream)
+        throws SQLException {
+        this.origin.updateBlob(label, stream);
+    }
+
+    @Override
+    public void updateBlob(final String label, final Blob value)
+        throws SQLException {
+        this.origin.updateBlob(label, value);
+    }
+
+    @Override
+    public void updateBlob(final int column, final InputStream stream,
+        final long length) throws SQLException {
+        this.origin.updateBlob(column, stream, length);
+    }
+
+    @Override
+    public void updateBlob(final int column, final InputStream stream)
+        throws SQLException {
+        this.origin.updateBlob(column, stream);
+    }
+
+    @Override
+    public void updateBlob(final int column, final Blob value)
+        throws SQLException {
+        this.origin.updateBlob(column, value);
+    }
+
+    @Override
+    public void updateBoolean(final String label, final boolean value)
+        throws SQLException {
+        this.origin.updateBoolean(label, value);
+    }
+
+    @Override
+    public void updateBoolean(final int column, final boolean value)
+        throws SQLException {
+        this.origin.updateBoolean(column, value);
+    }
+
+    @Override
+    public void updateByte(final String label, final byte value)
+        throws SQLException {
+        this.origin.updateByte(label, value);
+    }
+
+    @Override
+    public void updateByte(final int column, final byte value)
+        throws SQLException {
+        this.origin.updateByte(column, value);
+    }
+
+    @Override
+    public void updateBytes(final String label, final byte[] value)
+        throws SQLException {
+        this.origin.updateBytes(label, value);
+    }
+
+    @Override
+    public void updateBytes(final int column, final byte[] value)
+        throws SQLException {
+        this.origin.updateBytes(column, value);
+    }
+
+    @Override
+    public void updateCharacterStream(final String label, final Reader reader,
+        final int length) throws SQLException {
+        this.origin.updateCharacterStream(label, reader, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final String label, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateCharacterStream(label, reader, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final String label, final Reader reader)
+        throws SQLException {
+        this.origin.updateCharacterStream(label, reader);
+    }
+
+    @Override
+    public void updateCharacterStream(final int column, final Reader reader,
+        final int length) throws SQLException {
+        this.origin.updateCharacterStream(column, reader, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final int column, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateCharacterStream(column, reader, length);
+    }
+
+    @Override
+    public void updateCharacterStream(final int column, final Reader reader)
+        throws SQLException {
+        this.origin.updateCharacterStream(column, reader);
+    }
+
+    @Override
+    public void updateClob(final String label, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateClob(label, reader, length);
+    }
+
+    @Override
+    public void updateClob(final String label, final Reader reader)
+        throws SQLException {
+        this.origin.updateClob(label, reader);
+    }
+
+    @Override
+    public void updateClob(final String label, final Clob value)
+        throws SQLException {
+        this.origin.updateClob(label, value);
+    }
+
+    @Override
+    public void updateClob(final int column, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateClob(column, reader, length);
+    }
+
+    @Override
+    public void updateClob(final int column, final Reader reader)
+        throws SQLException {
+        this.origin.updateClob(column, reader);
+    }
+
+    @Override
+    public void updateClob(final int column, final Clob value)
+        throws SQLException {
+        this.origin.updateClob(column, value);
+    }
+
+    @Override
+    public void updateDate(final String label, final Date value)
+        throws SQLException {
+        this.origin.updateDate(label, value);
+    }
+
+    @Override
+    public void updateDate(final int column, final Date value)
+        throws SQLException {
+        this.origin.updateDate(column, value);
+    }
+
+    @Override
+    public void updateDouble(final String label, final double value)
+        throws SQLException {
+        this.origin.updateDouble(label, value);
+    }
+
+    @Override
+    public void updateDouble(final int column, final double value)
+        throws SQLException {
+        this.origin.updateDouble(column, value);
+    }
+
+    @Override
+    public void updateFloat(final String label, final float value)
+        throws SQLException {
+        this.origin.updateFloat(label, value);
+    }
+
+    @Override
+    public void updateFloat(final int column, final float value)
+        throws SQLException {
+        this.origin.updateFloat(column, value);
+    }
+
+    @Override
+    public void updateInt(final String label, final int length)
+        throws SQLException {
+        this.origin.updateInt(label, length);
+    }
+
+    @Override
+    public void updateInt(final int column, final int length)
+        throws SQLException {
+        this.origin.updateInt(column, length);
+    }
+
+    @Override
+    public void updateLong(final String label, final long length)
+        throws SQLException {
+        this.origin.updateLong(label, length);
+    }
+
+    @Override
+    public void updateLong(final int column, final long length)
+        throws SQLException {
+        this.origin.updateLong(column, length);
+    }
+
+    @Override
+    public void updateNCharacterStream(final String label, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateNCharacterStream(label, reader, length);
+    }
+
+    @Override
+    public void updateNCharacterStream(final String label, final Reader reader)
+        throws SQLException {
+        this.origin.updateNCharacterStream(label, reader);
+    }
+
+    @Override
+    public void updateNCharacterStream(final int column, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateNCharacterStream(column, reader, length);
+    }
+
+    @Override
+    public void updateNCharacterStream(final int column, final Reader reader)
+        throws SQLException {
+        this.origin.updateNCharacterStream(column, reader);
+    }
+
+    @Override
+    public void updateNClob(final String label, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateNClob(label, reader, length);
+    }
+
+    @Override
+    public void updateNClob(final String label, final Reader reader)
+        throws SQLException {
+        this.origin.updateNClob(label, reader);
+    }
+
+    @Override
+    public void updateNClob(final String label, final NClob value)
+        throws SQLException {
+        this.origin.updateNClob(label, value);
+    }
+
+    @Override
+    public void updateNClob(final int column, final Reader reader,
+        final long length) throws SQLException {
+        this.origin.updateNClob(column, reader, length);
+    }
+
+    @Override
+    public void updateNClob(final int column, final Reader reader)
+        throws SQLException {
+        this.origin.updateNClob(column, reader);
+    }
+
+    @Override
+    public void updateNClob(final int column, final NClob value)
+        throws SQLException {
+        this.origin.updateNClob(column, value);
+    }
+
+    @Override
+    public void updateNString(final String label, final String value)
+        throws SQLException {
+        this.origin.updateNString(label, value);
+    }
+
+    @Override
+    public void updateNString(final int column, final String value)
+        throws SQLException {
+        this.origin.updateNString(column, value);
+    }
+
+    @Override
+    public void updateNull(final String label) throws SQLException {
+        this.origin.updateNull(label);
+    }
+
+    @Override
+    public void updateNull(final int column) throws SQLException {
+        this.origin.updateNull(column);
+    }
+
+    @Override
+    public void updateObject(final String label, final Object value,
+        final int scale) throws SQLException {
+        this.origin.updateObject(label, value, scale);
+    }
+
+    @Override
+    public void updateObject(final String label, final Object value,
+        final SQLType type, final int scale) throws SQLException {
+        this.origin.updateObject(label, value, type, scale);
+    }
+
+    @Override
+    public void updateObject(final String label, final Object value,
+        final SQLType type) throws SQLException {
+        this.origin.updateObject(label, value, type);
+    }
+
+    @Override
+    public void updateObject(final String label, final Object value)
+        throws SQLException {
+        this.origin.updateObject(label, value);
+    }
+
+    @Override
+    public void updateObject(final int column, final Object value,
+        final int scale) throws SQLException {
+        this.origin.updateObject(column, value, scale);
+    }
+
+    @Override
+    public void updateObject(final int column, final Object value,
+        final SQLType type, final int scale) throws SQLException {
+        this.origin.updateObject(column, value, type, scale);
+    }
+
+    @Override
+    public void updateObject(final int column, final Object value,
+        final SQLType type) throws SQLException {
+        this.origin.updateObject(column, value, type);
+    }
+
+    @Override
+    public void updateObject(final int column, final Object value)
+        throws SQLException {
+        this.origin.updateObject(column, value);
+    }
+
+    @Override
+    public void updateRef(final String label, final Ref value)
+        throws SQLException {
+        this.origin.updateRef(label, value);
+    }
+
+    @Override
+    public void updateRef(final int column, final Ref value)
+        throws SQLException {
+        this.origin.updateRef(column, value);
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        this.origin.updateRow();
+    }
+
+    @Override
+    public void updateRowId(final String label, final RowId value)
+        throws SQLException {
+        this.origin.updateRowId(label, value);
+    }
+
+    @Override
+    public void updateRowId(final int column, final RowId value)
+        throws SQLException {
+        this.origin.updateRowId(column, value);
+    }
+
+    @Override
+    public void updateSQLXML(final String label, final SQLXML value)
+        throws SQLException {
+        this.origin.updateSQLXML(label, value);
+    }
+
+    @Override
+    public void updateSQLXML(final int column, final SQLXML value)
+        throws SQLException {
+        this.origin.updateSQLXML(column, value);
+    }
+
+    @Override
+    public void updateShort(final String label, final short value)
+        throws SQLException {
+        this.origin.updateShort(label, value);
+    }
+
+    @Override
+    public void updateShort(final int column, final short value)
+        throws SQLException {
+        this.origin.updateShort(column, value);
+    }
+
+    @Override
+    public void updateString(final String label, final String value)
+        throws SQLException {
+        this.origin.updateString(label, value);
+    }
+
+    @Override
+    public void updateString(final int column, final String value)
+        throws SQLException {
+        this.origin.updateString(column, value);
+    }
+
+    @Override
+    public void updateTime(final String label, final Time value)
+        throws SQLException {
+        this.origin.updateTime(label, value);
+    }
+
+    @Override
+    public void updateTime(final int column, final Time value)
+        throws SQLException {
+        this.origin.updateTime(column, value);
+    }
+
+    @Override
+    public void updateTimestamp(final String label, final Timestamp value)
+        throws SQLException {
+        this.origin.updateTimestamp(label, value);
+    }
+
+    @Override
+    public void updateTimestamp(final int column, final Timestamp value)
+        throws SQLException {
+        this.origin.updateTimestamp(column, value);
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return this.origin.wasNull();
+    }
+}
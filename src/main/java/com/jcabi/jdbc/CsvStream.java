@@ -0,0 +1,207 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Rows encoded as CSV, lazily, one row at a time.
+ *
+ * <p>Only one encoded row is kept in memory, whatever the number of
+ * rows is. Strings are always quoted, with quotes doubled, while numbers
+ * are not, booleans are {@code 1} and {@code 0}, and dates are in the
+ * JDBC escape format, like {@code 2024-01-31 23:59:59.999}. {@code NULL}
+ * is encoded with the given token, since databases disagree about it.
+ * Byte arrays are encoded in the hex format of PostgreSQL,
+ * like {@code \x0A1F}, if they are allowed at all, since other databases
+ * would store that text as is.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class CsvStream extends InputStream {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * The rows.
+     */
+    private final transient Iterator<? extends Collection<?>> rows;
+
+    /**
+     * Number of values in every row.
+     */
+    private final transient int width;
+
+    /**
+     * Encoding of NULL.
+     */
+    private final transient String nil;
+
+    /**
+     * Are byte arrays allowed?
+     */
+    private final transient boolean binary;
+
+    /**
+     * Current row, encoded.
+     */
+    private transient byte[] buffer;
+
+    /**
+     * Position in the buffer.
+     */
+    private transient int pos;
+
+    /**
+     * Rows encoded so far.
+     */
+    private transient long total;
+
+    /**
+     * Ctor.
+     * @param src The rows
+     * @param columns Number of values in every row
+     * @param empty Encoding of NULL
+     * @param bytes Are byte arrays allowed, in the hex format of PostgreSQL
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    CsvStream(final Iterator<? extends Collection<?>> src, final int columns,
+        final String empty, final boolean bytes) {
+        super();
+        this.rows = src;
+        this.width = columns;
+        this.nil = empty;
+        this.binary = bytes;
+        this.buffer = new byte[0];
+    }
+
+    @Override
+    public int read() {
+        final int result;
+        if (this.fill()) {
+            result = this.buffer[this.pos] & 0xff;
+            ++this.pos;
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int off, final int len) {
+        int done = 0;
+        while (done < len && this.fill()) {
+            final int size = Math.min(len - done, this.buffer.length - this.pos);
+            System.arraycopy(this.buffer, this.pos, bytes, off + done, size);
+            this.pos += size;
+            done += size;
+        }
+        final int result;
+        if (done == 0 && len > 0) {
+            result = -1;
+        } else {
+            result = done;
+        }
+        return result;
+    }
+
+    /**
+     * Make sure there are bytes in the buffer.
+     * @return FALSE if there are no more rows
+     */
+    private boolean fill() {
+        while (this.pos == this.buffer.length && this.rows.hasNext()) {
+            this.buffer = this.encode(this.rows.next());
+            this.pos = 0;
+            ++this.total;
+        }
+        return this.pos < this.buffer.length;
+    }
+
+    /**
+     * Encode one row.
+     * @param row The row
+     * @return Bytes of it, with a line break at the end
+     */
+    private byte[] encode(final Collection<?> row) {
+        if (row.size() != this.width) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Row #%d has %d values, while %d are expected",
+                    this.total, row.size(), this.width
+                )
+            );
+        }
+        final StringBuilder line = new StringBuilder(row.size() << 4);
+        boolean first = true;
+        for (final Object value : row) {
+            if (!first) {
+                line.append(',');
+            }
+            first = false;
+            if (value == null) {
+                line.append(this.nil);
+            } else if (value instanceof Number) {
+                line.append(value);
+            } else if (Boolean.TRUE.equals(value)) {
+                line.append('1');
+            } else if (Boolean.FALSE.equals(value)) {
+                line.append('0');
+            } else if (value instanceof Utc) {
+                line.append('"').append(CsvStream.utc((Utc) value)).append('"');
+            } else if (value instanceof Date && !value.getClass().getName()
+                .startsWith("java.sql.")) {
+                line.append('"')
+                    .append(new Timestamp(((Date) value).getTime()))
+                    .append('"');
+            } else if (value instanceof byte[]) {
+                if (!this.binary) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Row #%d has a byte array, which can't be loaded here",
+                            this.total
+                        )
+                    );
+                }
+                line.append("\"\\x");
+                for (final byte bte : (byte[]) value) {
+                    line.append(CsvStream.HEX[(bte >> 4) & 0xf])
+                        .append(CsvStream.HEX[bte & 0xf]);
+                }
+                line.append('"');
+            } else {
+                line.append('"')
+                    .append(value.toString().replace("\"", "\"\""))
+                    .append('"');
+            }
+        }
+        return line.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Format the date in UTC.
+     * @param utc The date
+     * @return Text, like {@code 2024-01-31 23:59:59.999}
+     */
+    private static String utc(final Utc utc) {
+        final SimpleDateFormat fmt =
+            new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.ENGLISH);
+        fmt.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return fmt.format(utc.getDate());
+    }
+}
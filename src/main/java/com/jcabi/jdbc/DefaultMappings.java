@@ -5,6 +5,15 @@
 package com.jcabi.jdbc;
 
 import java.math.BigDecimal;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.AbstractMap;
 import java.util.Date;
 import java.util.Map;
@@ -14,6 +23,16 @@ import java.util.stream.Stream;
 
 /**
  * Default mappings for types.
+ *
+ * <p>{@link Long}, {@link Integer}, {@link Double} and {@link Boolean}
+ * are mapped by {@link Outcome.LongMapping} and its siblings. The same
+ * interfaces are taken by {@link LongColumnOutcome}, {@link IntColumnOutcome}
+ * and {@link DoubleColumnOutcome}, which read values without boxing.</p>
+ *
+ * <p>{@code java.time} types are read with JDBC 4.2
+ * {@code getObject(int, Class)}, if the driver supports it, and
+ * {@link Instant} is read in UTC, like {@link Utc}.</p>
+ *
  * @since 0.17.6
  */
 final class DefaultMappings implements Outcome.Mappings {
@@ -69,10 +88,18 @@ final class DefaultMappings implements Outcome.Mappings {
                 String.class, rs -> rs.getString(column)
             ),
             new AbstractMap.SimpleImmutableEntry<>(
-                Long.class, rs -> rs.getLong(column)
+                Long.class, (Outcome.LongMapping) rs -> rs.getLong(column)
             ),
             new AbstractMap.SimpleImmutableEntry<>(
-                Boolean.class, rs -> rs.getBoolean(column)
+                Integer.class, (Outcome.IntMapping) rs -> rs.getInt(column)
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                Double.class,
+                (Outcome.DoubleMapping) rs -> rs.getDouble(column)
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                Boolean.class,
+                (Outcome.BooleanMapping) rs -> rs.getBoolean(column)
             ),
             new AbstractMap.SimpleImmutableEntry<>(
                 Byte.class, rs -> rs.getByte(column)
@@ -91,9 +118,115 @@ final class DefaultMappings implements Outcome.Mappings {
             ),
             new AbstractMap.SimpleImmutableEntry<>(
                 UUID.class, rs -> rs.getObject(column, UUID.class)
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                Instant.class, rs -> Utc.instant(rs, column)
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                LocalDateTime.class,
+                DefaultMappings.modern(
+                    column, LocalDateTime.class,
+                    rs -> DefaultMappings.local(rs.getTimestamp(column))
+                )
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                LocalDate.class,
+                DefaultMappings.modern(
+                    column, LocalDate.class,
+                    rs -> DefaultMappings.local(rs.getDate(column))
+                )
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                LocalTime.class,
+                DefaultMappings.modern(
+                    column, LocalTime.class,
+                    rs -> DefaultMappings.local(rs.getTime(column))
+                )
+            ),
+            new AbstractMap.SimpleImmutableEntry<>(
+                OffsetDateTime.class,
+                DefaultMappings.modern(
+                    column, OffsetDateTime.class,
+                    rs -> DefaultMappings.offset(Utc.instant(rs, column))
+                )
             )
         ).collect(
             Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)
         );
     }
+
+    /**
+     * Mapping through JDBC 4.2 {@code getObject(int, Class)}, which gets
+     * {@code java.time} values from the driver without conversions, or
+     * through the fallback, if the driver doesn't support it.
+     * @param column Column position
+     * @param type The type
+     * @param fallback The fallback
+     * @param <T> Type of values
+     * @return Mapping
+     */
+    private static <T> Outcome.Mapping<T> modern(final int column,
+        final Class<T> type, final Outcome.Mapping<T> fallback) {
+        return rs -> {
+            T value;
+            try {
+                value = rs.getObject(column, type);
+            } catch (final SQLFeatureNotSupportedException ex) {
+                value = fallback.map(rs);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Convert timestamp to local date and time.
+     * @param stamp The timestamp or NULL
+     * @return Local date and time or NULL
+     */
+    private static LocalDateTime local(final Timestamp stamp) {
+        LocalDateTime value = null;
+        if (stamp != null) {
+            value = stamp.toLocalDateTime();
+        }
+        return value;
+    }
+
+    /**
+     * Convert SQL date to local date.
+     * @param date The date or NULL
+     * @return Local date or NULL
+     */
+    private static LocalDate local(final java.sql.Date date) {
+        LocalDate value = null;
+        if (date != null) {
+            value = date.toLocalDate();
+        }
+        return value;
+    }
+
+    /**
+     * Convert SQL time to local time.
+     * @param time The time or NULL
+     * @return Local time or NULL
+     */
+    private static LocalTime local(final Time time) {
+        LocalTime value = null;
+        if (time != null) {
+            value = time.toLocalTime();
+        }
+        return value;
+    }
+
+    /**
+     * Convert instant to date and time in UTC.
+     * @param instant The instant or NULL
+     * @return Date and time or NULL
+     */
+    private static OffsetDateTime offset(final Instant instant) {
+        OffsetDateTime value = null;
+        if (instant != null) {
+            value = instant.atOffset(ZoneOffset.UTC);
+        }
+        return value;
+    }
 }
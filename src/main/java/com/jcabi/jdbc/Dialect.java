@@ -0,0 +1,224 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * SQL dialect of a database, read once from {@link DatabaseMetaData}.
+ *
+ * <p>Instances are immutable and never go to the server again,
+ * that's why they are cached per {@link javax.sql.DataSource}
+ * by {@link Dialects}.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = {"product", "version", "keys", "batches", "quote"})
+final class Dialect {
+
+    /**
+     * Major version, the first number followed by a dot.
+     */
+    private static final Pattern MAJOR = Pattern.compile("(\\d+)\\.");
+
+    /**
+     * Product name, like "MySQL" or "PostgreSQL".
+     */
+    private final transient String product;
+
+    /**
+     * Product version.
+     */
+    private final transient String version;
+
+    /**
+     * Generated keys are supported.
+     */
+    private final transient boolean keys;
+
+    /**
+     * Batch updates are supported.
+     */
+    private final transient boolean batches;
+
+    /**
+     * Identifier quote string, or a space if quoting is not supported.
+     */
+    private final transient String quote;
+
+    /**
+     * Ctor.
+     * @param meta Meta data of a connection
+     * @throws SQLException If fails
+     */
+    Dialect(final DatabaseMetaData meta) throws SQLException {
+        this(
+            meta.getDatabaseProductName(),
+            meta.getDatabaseProductVersion(),
+            meta.supportsGetGeneratedKeys(),
+            meta.supportsBatchUpdates(),
+            meta.getIdentifierQuoteString()
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param name Product name
+     * @param ver Product version
+     * @param gen Generated keys are supported
+     * @param btch Batch updates are supported
+     * @param qte Identifier quote string
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Dialect(final String name, final String ver, final boolean gen,
+        final boolean btch, final String qte) {
+        this.product = name;
+        this.version = ver;
+        this.keys = gen;
+        this.batches = btch;
+        this.quote = qte;
+    }
+
+    /**
+     * Product name of the database.
+     * @return Name, as reported by the driver
+     */
+    public String product() {
+        return this.product;
+    }
+
+    /**
+     * Product version of the database.
+     * @return Version, as reported by the driver
+     */
+    public String version() {
+        return this.version;
+    }
+
+    /**
+     * Is it this vendor?
+     * @param vendor Product name, case-insensitive, like "mysql"
+     * @return TRUE if it is
+     */
+    public boolean is(final String vendor) {
+        return vendor.equalsIgnoreCase(this.product);
+    }
+
+    /**
+     * Can the driver return generated keys?
+     * @return TRUE if it can
+     */
+    public boolean keys() {
+        return this.keys;
+    }
+
+    /**
+     * Can the driver execute batches?
+     * @return TRUE if it can
+     */
+    public boolean batches() {
+        return this.batches;
+    }
+
+    /**
+     * Does the database support SQL {@code ARRAY} parameters?
+     * @return TRUE if it does
+     */
+    public boolean arrays() {
+        final String name = this.product.toLowerCase(Locale.ENGLISH);
+        return "postgresql".equals(name) || "h2".equals(name)
+            || name.startsWith("hsql") || name.startsWith("oracle");
+    }
+
+    /**
+     * Does the database support many rows in one {@code VALUES}?
+     *
+     * <p>Oracle supports them since 23c only.</p>
+     *
+     * @return TRUE if it does
+     */
+    public boolean multirow() {
+        boolean many = true;
+        if (this.product.toLowerCase(Locale.ENGLISH).startsWith("oracle")) {
+            final Matcher matcher = Dialect.MAJOR.matcher(this.version);
+            many = matcher.find() && Integer.parseInt(matcher.group(1)) >= 23;
+        }
+        return many;
+    }
+
+    /**
+     * Maximum number of bind parameters in one statement.
+     * @return The limit, a conservative one if the database is unknown
+     */
+    public int parameters() {
+        final String name = this.product.toLowerCase(Locale.ENGLISH);
+        final int max;
+        if ("postgresql".equals(name) || "mysql".equals(name)
+            || "mariadb".equals(name) || "h2".equals(name)
+            || name.startsWith("hsql") || name.startsWith("oracle")) {
+            max = 65_535;
+        } else if (name.startsWith("microsoft sql server")) {
+            max = 2_098;
+        } else {
+            max = 999;
+        }
+        return max;
+    }
+
+    /**
+     * Query that explains how the database runs this one.
+     * @param sql The query
+     * @return The query with the EXPLAIN prefix of the database, or an
+     *  empty string if the database is unknown
+     */
+    public String explain(final String sql) {
+        final String name = this.product.toLowerCase(Locale.ENGLISH);
+        final String prefix;
+        if ("postgresql".equals(name) || "mysql".equals(name)
+            || "mariadb".equals(name) || "h2".equals(name)) {
+            prefix = "EXPLAIN ";
+        } else if (name.startsWith("hsql")) {
+            prefix = "EXPLAIN PLAN FOR ";
+        } else if ("sqlite".equals(name)) {
+            prefix = "EXPLAIN QUERY PLAN ";
+        } else {
+            prefix = "";
+        }
+        final String query;
+        if (prefix.isEmpty()) {
+            query = prefix;
+        } else {
+            query = prefix + sql;
+        }
+        return query;
+    }
+
+    /**
+     * Quote an identifier, like a table or a column name.
+     * @param name The identifier
+     * @return Quoted identifier, or the same one if quoting isn't supported
+     */
+    public String quote(final String name) {
+        final String quoted;
+        if (this.quote == null || this.quote.trim().isEmpty()) {
+            quoted = name;
+        } else {
+            quoted = String.join(
+                "",
+                this.quote,
+                name.replace(this.quote, this.quote + this.quote),
+                this.quote
+            );
+        }
+        return quoted;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.sql.DataSource;
+
+/**
+ * Cache of dialects, one per {@link DataSource}.
+ *
+ * <p>The dialect is read from the connection which is already open,
+ * only once per data source. Data sources are weakly referenced, so
+ * they can be garbage collected together with their dialects.</p>
+ *
+ * @since 1.0
+ */
+final class Dialects {
+
+    /**
+     * All dialects resolved so far.
+     */
+    private static final Map<DataSource, Dialect> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>(0));
+
+    /**
+     * Utility class.
+     */
+    private Dialects() {
+        // intentionally empty
+    }
+
+    /**
+     * Get the dialect of this data source, opening a connection only
+     * if the dialect is not known yet.
+     * @param source The data source
+     * @return The dialect
+     * @throws SQLException If fails
+     */
+    static Dialect of(final DataSource source) throws SQLException {
+        Dialect dialect = Dialects.CACHE.get(source);
+        if (dialect == null) {
+            try (Connection conn = source.getConnection()) {
+                dialect = Dialects.of(source, conn);
+            }
+        }
+        return dialect;
+    }
+
+    /**
+     * Get the dialect of this data source.
+     * @param source The data source
+     * @param conn Connection already open from this data source
+     * @return The dialect
+     * @throws SQLException If fails
+     */
+    static Dialect of(final DataSource source, final Connection conn)
+        throws SQLException {
+        Dialect dialect = Dialects.CACHE.get(source);
+        if (dialect == null) {
+            dialect = new Dialect(conn.getMetaData());
+            Dialects.CACHE.put(source, dialect);
+        }
+        return dialect;
+    }
+}
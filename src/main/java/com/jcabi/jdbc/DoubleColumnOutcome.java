@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that returns one column as an array of {@code double}.
+ *
+ * <p>Use it instead of {@link ColumnOutcome} of {@link Double} when the column
+ * is big, because values are not boxed and are stored in a primitive array,
+ * which grows twice every time it's full and is trimmed at the end:
+ *
+ * <pre> double[] prices = new JdbcSession(source)
+ *   .sql("SELECT price FROM product")
+ *   .select(new DoubleColumnOutcome());</pre>
+ *
+ * <p>SQL {@code NULL} is returned as {@code 0.0}, as
+ * {@link ResultSet#getDouble(int)} does.
+ *
+ * <p>Instead of a column, an {@link Outcome.DoubleMapping} may be given, which
+ * is called for every row through {@link Outcome.DoubleMapping#mapDouble(ResultSet)},
+ * also without boxing:
+ *
+ * <pre> double[] values = new JdbcSession(source)
+ *   .sql("SELECT a, b FROM t")
+ *   .select(new DoubleColumnOutcome(rs -> rs.getDouble(1) + rs.getDouble(2)));</pre>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = "mapping")
+public final class DoubleColumnOutcome implements Outcome<double[]> {
+
+    /**
+     * Initial capacity of the array.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Mapping of a row.
+     */
+    private final transient Outcome.DoubleMapping mapping;
+
+    /**
+     * Public ctor, for the first column.
+     */
+    public DoubleColumnOutcome() {
+        this(1);
+    }
+
+    /**
+     * Public ctor.
+     * @param pos Column position, starting from one
+     */
+    public DoubleColumnOutcome(final int pos) {
+        this(new DoubleColumnOutcome.Column(pos));
+    }
+
+    /**
+     * Public ctor.
+     * @param mpg Mapping of a row
+     */
+    public DoubleColumnOutcome(final Outcome.DoubleMapping mpg) {
+        this.mapping = mpg;
+    }
+
+    @Override
+    public double[] handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        double[] values = new double[DoubleColumnOutcome.CAPACITY];
+        int size = 0;
+        while (rset.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size] = this.mapping.mapDouble(rset);
+            ++size;
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Mapping of one column, by position.
+     * @since 1.0
+     */
+    @ToString
+    @EqualsAndHashCode(of = "column")
+    private static final class Column implements Outcome.DoubleMapping {
+
+        /**
+         * Column position, starting from one.
+         */
+        private final transient int column;
+
+        /**
+         * Ctor.
+         * @param pos Column position, starting from one
+         */
+        Column(final int pos) {
+            this.column = pos;
+        }
+
+        @Override
+        public double mapDouble(final ResultSet rset) throws SQLException {
+            return rset.getDouble(this.column);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Normalized SQL, which is the same for queries that differ only
+ * in literals and in the number of placeholders in lists.
+ *
+ * <p>For example, both {@code SELECT * FROM t WHERE id IN (1, 2, 3)} and
+ * {@code SELECT *  FROM t WHERE id IN (?, ?)} become
+ * {@code SELECT * FROM t WHERE id IN (?)}.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode
+final class Fingerprint {
+
+    /**
+     * String literals.
+     */
+    private static final Pattern STRINGS = Pattern.compile("'(?:[^']|'')*'");
+
+    /**
+     * Numeric literals.
+     */
+    private static final Pattern NUMBERS = Pattern.compile(
+        "(?<![\\w.])-?\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?\\b"
+    );
+
+    /**
+     * Lists of placeholders.
+     */
+    private static final Pattern LISTS = Pattern.compile(
+        "\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)"
+    );
+
+    /**
+     * Rows of {@code VALUES}, except the first one.
+     */
+    private static final Pattern ROWS = Pattern.compile(
+        "(\\(\\?\\))(?:\\s*,\\s*\\(\\?\\))+"
+    );
+
+    /**
+     * Spaces.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * The SQL.
+     */
+    private final String sql;
+
+    /**
+     * Ctor.
+     * @param query The SQL
+     */
+    Fingerprint(final String query) {
+        this.sql = query;
+    }
+
+    /**
+     * Normalize it.
+     * @return Normalized SQL
+     */
+    String asString() {
+        String text = Fingerprint.STRINGS.matcher(this.sql).replaceAll("?");
+        text = Fingerprint.NUMBERS.matcher(text).replaceAll("?");
+        text = Fingerprint.LISTS.matcher(text).replaceAll("(?)");
+        text = Fingerprint.ROWS.matcher(text).replaceAll("$1");
+        return Fingerprint.SPACES.matcher(text).replaceAll(" ").trim();
+    }
+
+    @Override
+    public String toString() {
+        return this.asString();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations, with fixed buckets.
+ *
+ * <p>Buckets are upper bounds in nanoseconds, inclusive, and the last
+ * one has no upper bound. Recording is a binary search and two atomic
+ * increments, without locks.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Histogram {
+
+    /**
+     * Upper bounds of buckets, in nanoseconds, ascending.
+     */
+    private final long[] bounds;
+
+    /**
+     * Counts of every bucket, with one more for the overflow.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * Sum of all durations.
+     */
+    private final LongAdder sum;
+
+    /**
+     * Ctor.
+     * @param limits Upper bounds of buckets, in nanoseconds, ascending
+     */
+    Histogram(final long... limits) {
+        this.bounds = Arrays.copyOf(limits, limits.length);
+        this.counts = new AtomicLongArray(limits.length + 1);
+        this.sum = new LongAdder();
+    }
+
+    /**
+     * Record a duration.
+     * @param nanos Nanoseconds
+     */
+    void add(final long nanos) {
+        int idx = Arrays.binarySearch(this.bounds, nanos);
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        this.counts.incrementAndGet(idx);
+        this.sum.add(nanos);
+    }
+
+    /**
+     * Cumulative counts of all buckets, the last one is the total count.
+     * @return Counts, one more than bounds
+     */
+    long[] cumulative() {
+        final long[] result = new long[this.counts.length()];
+        long total = 0L;
+        for (int idx = 0; idx < result.length; ++idx) {
+            total += this.counts.get(idx);
+            result[idx] = total;
+        }
+        return result;
+    }
+
+    /**
+     * Sum of all durations.
+     * @return Nanoseconds
+     */
+    long sum() {
+        return this.sum.sum();
+    }
+}
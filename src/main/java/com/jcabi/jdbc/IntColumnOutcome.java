@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that returns one column as an array of {@code int}.
+ *
+ * <p>Use it instead of {@link ColumnOutcome} of {@link Integer} when the column
+ * is big, because values are not boxed and are stored in a primitive array,
+ * which grows twice every time it's full and is trimmed at the end:
+ *
+ * <pre> int[] ages = new JdbcSession(source)
+ *   .sql("SELECT age FROM user")
+ *   .select(new IntColumnOutcome());</pre>
+ *
+ * <p>SQL {@code NULL} is returned as {@code 0}, as
+ * {@link ResultSet#getInt(int)} does.
+ *
+ * <p>Instead of a column, an {@link Outcome.IntMapping} may be given, which
+ * is called for every row through {@link Outcome.IntMapping#mapInt(ResultSet)},
+ * also without boxing:
+ *
+ * <pre> int[] values = new JdbcSession(source)
+ *   .sql("SELECT a, b FROM t")
+ *   .select(new IntColumnOutcome(rs -> rs.getInt(1) + rs.getInt(2)));</pre>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = "mapping")
+public final class IntColumnOutcome implements Outcome<int[]> {
+
+    /**
+     * Initial capacity of the array.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Mapping of a row.
+     */
+    private final transient Outcome.IntMapping mapping;
+
+    /**
+     * Public ctor, for the first column.
+     */
+    public IntColumnOutcome() {
+        this(1);
+    }
+
+    /**
+     * Public ctor.
+     * @param pos Column position, starting from one
+     */
+    public IntColumnOutcome(final int pos) {
+        this(new IntColumnOutcome.Column(pos));
+    }
+
+    /**
+     * Public ctor.
+     * @param mpg Mapping of a row
+     */
+    public IntColumnOutcome(final Outcome.IntMapping mpg) {
+        this.mapping = mpg;
+    }
+
+    @Override
+    public int[] handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        int[] values = new int[IntColumnOutcome.CAPACITY];
+        int size = 0;
+        while (rset.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size] = this.mapping.mapInt(rset);
+            ++size;
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Mapping of one column, by position.
+     * @since 1.0
+     */
+    @ToString
+    @EqualsAndHashCode(of = "column")
+    private static final class Column implements Outcome.IntMapping {
+
+        /**
+         * Column position, starting from one.
+         */
+        private final transient int column;
+
+        /**
+         * Ctor.
+         * @param pos Column position, starting from one
+         */
+        Column(final int pos) {
+            this.column = pos;
+        }
+
+        @Override
+        public int mapInt(final ResultSet rset) throws SQLException {
+            return rset.getInt(this.column);
+        }
+    }
+}
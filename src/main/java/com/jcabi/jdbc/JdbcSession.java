@@ -4,14 +4,26 @@
  */
 package com.jcabi.jdbc;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.UUID;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.sql.DataSource;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -125,6 +137,11 @@ import lombok.ToString;
 })
 public final class JdbcSession {
 
+    /**
+     * No arguments.
+     */
+    private static final Object[] NOTHING = new Object[0];
+
     /**
      * JDBC DataSource to get connections from.
      */
@@ -148,6 +165,23 @@ public final class JdbcSession {
      */
     private final transient Collection<Preparation> preparations;
 
+    /**
+     * Rows of the batch, added by {@link #addBatch()}.
+     *
+     * <p>Every time this attribute is modified, we must synchronize, because
+     * a non-thread-safe {@link LinkedList} is assigned to it.</p>
+     *
+     * @since 1.0
+     */
+    private final transient List<Collection<Object>> batch;
+
+    /**
+     * Prepared statements of the connection currently open.
+     *
+     * @since 1.0
+     */
+    private final transient Statements statements;
+
     /**
      * Connection currently open.
      */
@@ -163,6 +197,68 @@ public final class JdbcSession {
      */
     private transient String query;
 
+    /**
+     * Maximum amount of batch rows sent to the server at once.
+     */
+    private transient int chunk;
+
+    /**
+     * Statement tuning, which stays in place after {@link #clear()}.
+     */
+    private transient Tuning tuning;
+
+    /**
+     * Listener of queries.
+     */
+    private transient Listener listener;
+
+    /**
+     * Executor of asynchronous calls, or NULL if it's the default one.
+     */
+    private transient Async async;
+
+    /**
+     * Cache of results, or NULL if there is no cache.
+     */
+    private transient ResultCache cache;
+
+    /**
+     * Binders of arguments.
+     */
+    private transient Binders binders;
+
+    /**
+     * Changes made in the current transaction, to invalidate the cache
+     * once again when it's committed or rolled back.
+     */
+    private final transient Collection<String> changes;
+
+    /**
+     * Is the connection held by {@link #transaction(Transaction, boolean)}
+     * while {@code autocommit} is {@code true}?
+     */
+    private transient boolean held;
+
+    /**
+     * Savepoints of nested transactions, which are open now.
+     */
+    private transient int savepoints;
+
+    /**
+     * Policy of retries.
+     */
+    private transient Retry retry;
+
+    /**
+     * How long selects go to the primary after a write, in nanoseconds.
+     */
+    private transient long sticky;
+
+    /**
+     * Until when selects go to the primary, by {@link System#nanoTime()}.
+     */
+    private final transient AtomicLong until;
+
     /**
      * Public ctor.
      *
@@ -173,15 +269,36 @@ public final class JdbcSession {
      *
      * @param src Data source
      */
+    public JdbcSession(final DataSource src) {
+        this(src, new AtomicLong(System.nanoTime()), new Statements(16));
+    }
+
+    /**
+     * Ctor.
+     * @param src Data source
+     * @param deadline Time of reading from the primary until, shared
+     *  with the sessions this one is forked from
+     * @param stmts Cache of prepared statements
+     */
     // @checkstyle ConstructorsCodeFreeCheck (10 lines)
     @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
-    public JdbcSession(final DataSource src) {
+    private JdbcSession(final DataSource src, final AtomicLong deadline,
+        final Statements stmts) {
         this.args = new LinkedList<>();
         this.preparations = new LinkedList<>();
+        this.batch = new LinkedList<>();
+        this.changes = new LinkedList<>();
+        this.until = deadline;
         this.connection = new AtomicReference<>();
+        this.statements = stmts;
         this.auto = true;
+        this.chunk = 1000;
+        this.tuning = new Tuning();
+        this.listener = Listener.VOID;
+        this.binders = Binders.DEFAULT;
+        this.retry = Retry.NONE;
         this.source = src;
-        this.preparations.add(new PrepareArgs(this.args));
+        this.preparations.add(new PrepareArgs(this.args, this.binders));
     }
 
     /**
@@ -229,11 +346,16 @@ public final class JdbcSession {
     /**
      * Set new parameter for the query.
      *
-     * <p>The following types are supported: {@link Boolean},
-     * {@link java.sql.Date},
-     * {@link Utc}, {@link Long}, {@link Float}, byte[], {@link Integer}, {@link UUID}.
-     * All other types will be converted to {@link String} using
-     * their {@code toString()} methods.</p>
+     * <p>The value is bound by its {@link Binder}, see {@link Binders} for
+     * the list of supported types. Other types are bound with
+     * {@link PreparedStatement#setObject(int, Object)}.</p>
+     *
+     * <p>{@link InputStream}, {@link Reader}, {@link Sized} and
+     * {@link java.nio.file.Path} are streamed to the driver, without
+     * loading them into memory. Wrap a stream of a known length into
+     * {@link Sized}, otherwise some drivers buffer all of it. Streams are
+     * read once, so statements with them are not repeated by
+     * {@link #retry(Retry)}, while files are.</p>
      *
      * @param value The value to add
      * @return This object
@@ -245,6 +367,39 @@ public final class JdbcSession {
         return this;
     }
 
+    /**
+     * Set new {@code NULL} parameter of this type.
+     *
+     * <p>Unlike {@code set(null)}, it tells the driver the SQL type of
+     * the parameter, taken from the {@link Binder} of the type.</p>
+     *
+     * @param type Java type of the parameter, like {@code String.class}
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession setNull(final Class<?> type) {
+        return this.set(new TypedNull(type));
+    }
+
+    /**
+     * Bind arguments with these binders.
+     * @param bnd The binders
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession binders(final Binders bnd) {
+        synchronized (this.args) {
+            this.binders = bnd;
+            final Collection<Preparation> others = new ArrayList<>(0);
+            // the first one is PrepareArgs, which is replaced
+            this.preparations.stream().skip(1L).forEach(others::add);
+            this.preparations.clear();
+            this.preparations.add(new PrepareArgs(this.args, this.binders));
+            this.preparations.addAll(others);
+        }
+        return this;
+    }
+
     /**
      * Run this preparation before executing the statement.
      * @param prp Preparation
@@ -258,6 +413,207 @@ public final class JdbcSession {
         return this;
     }
 
+    /**
+     * Tune all statements of this session.
+     *
+     * <p>Unlike arguments and preparations, the tuning is not removed
+     * by {@link #clear()} and is applied to every statement, until
+     * replaced by another call of this method. Options not set here
+     * are taken from {@link Outcome#tuning()}:</p>
+     *
+     * <pre> new JdbcSession(source)
+     *   .tune(new Tuning().fetch(1000).timeout(60))
+     *   .sql("SELECT name FROM user")
+     *   .select(new ColumnOutcome&lt;&gt;(String.class));</pre>
+     *
+     * @param tng Tuning
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession tune(final Tuning tng) {
+        synchronized (this.args) {
+            this.tuning = tng;
+        }
+        return this;
+    }
+
+    /**
+     * Report every query to this listener.
+     *
+     * <p>The listener gets the time spent on getting the connection,
+     * preparing the statement, executing it and mapping the result, plus
+     * the number of rows the outcome went through. For
+     * {@link #stream(Outcome.Mapping)} it is called when the stream is
+     * opened, without mapping time and rows. See {@link Metrics}.</p>
+     *
+     * <p>Listeners are added, not replaced, so that, for example,
+     * {@link Metrics} and {@link SlowLog} may listen to the same session.
+     * They are called in the order they were added.</p>
+     *
+     * @param lst The listener
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession listen(final Listener lst) {
+        synchronized (this.args) {
+            if (this.listener == Listener.VOID) {
+                this.listener = lst;
+            } else {
+                this.listener = new Listener.All(this.listener, lst);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Execute asynchronous calls here, instead of the default
+     * {@link Async} of the data source.
+     * @param exec The executor
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession async(final Async exec) {
+        synchronized (this.args) {
+            this.async = exec;
+        }
+        return this;
+    }
+
+    /**
+     * Repeat calls failed because of transient problems, like deadlocks.
+     *
+     * <p>Only calls made with {@code autocommit} set to {@code true} are
+     * repeated, since a statement of a transaction can't be repeated alone.
+     * To repeat the whole transaction, see {@link Retry#call(Retry.Work)}.
+     * By default, nothing is repeated.</p>
+     *
+     * @param policy The policy
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession retry(final Retry policy) {
+        synchronized (this.args) {
+            this.retry = policy;
+        }
+        return this;
+    }
+
+    /**
+     * Read your own writes, for this long after every write.
+     *
+     * <p>It matters only for {@link ReplicatedSource}: after a write made by
+     * this session, its selects go to the primary, not to replicas, until
+     * the time is over, to see the changes before they are replicated.
+     * By default, selects go to replicas right away.</p>
+     *
+     * @param msec How long, in milliseconds
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession sticky(final long msec) {
+        if (msec < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Sticky time can't be negative: %d", msec)
+            );
+        }
+        synchronized (this.args) {
+            this.sticky = TimeUnit.MILLISECONDS.toNanos(msec);
+        }
+        return this;
+    }
+
+    /**
+     * Cache results of {@link #select(Outcome)} here.
+     *
+     * <p>Results are taken from the cache only when {@code autocommit} is
+     * {@code true} and there are no {@link #prepare(Preparation)}s, since
+     * they may change the result. Changes made through this session
+     * invalidate results of queries that read the changed tables.</p>
+     *
+     * @param rcache The cache
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession cache(final ResultCache rcache) {
+        synchronized (this.args) {
+            this.cache = rcache;
+        }
+        return this;
+    }
+
+    /**
+     * Maximum amount of prepared statements to cache.
+     *
+     * <p>When {@code autocommit} is {@code false}, prepared statements
+     * are not closed after execution, but are cached and reused, until
+     * the transaction is committed or rolled back. By default, up to
+     * 16 statements are cached. Zero disables the cache.</p>
+     *
+     * @param max Maximum amount of statements
+     * @return This object
+     * @throws SQLException If fails to close statements over the limit
+     * @since 1.0
+     */
+    public JdbcSession statements(final int max) throws SQLException {
+        this.statements.limit(max);
+        return this;
+    }
+
+    /**
+     * Prepared statements cached in the current transaction, with
+     * their hit and miss counters.
+     * @return Statements
+     * @since 1.0
+     */
+    public Statements statements() {
+        return this.statements;
+    }
+
+    /**
+     * Add the arguments pre-set by {@link #set(Object)} to the batch,
+     * as one row.
+     *
+     * <p>The rows are sent to the server by
+     * {@link #executeBatch(Outcome.Mapping)}:</p>
+     *
+     * <pre> new JdbcSession(source)
+     *   .sql("INSERT INTO foo (id, name) VALUES (?, ?)")
+     *   .set(1).set("Jeff Lebowski").addBatch()
+     *   .set(2).set("Walter Sobchak").addBatch()
+     *   .executeBatch(rset -&gt; rset.getLong(1));</pre>
+     *
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession addBatch() {
+        synchronized (this.args) {
+            this.batch.add(new ArrayList<>(this.args));
+            this.args.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Maximum amount of batch rows to send to the server at once.
+     *
+     * <p>By default, rows are flushed every 1000.</p>
+     *
+     * @param rows How many rows to flush at once
+     * @return This object
+     * @since 1.0
+     */
+    public JdbcSession chunk(final int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException(
+                String.format("Chunk size must be positive: %d", rows)
+            );
+        }
+        synchronized (this.args) {
+            this.chunk = rows;
+        }
+        return this;
+    }
+
     /**
      * Clear all pre-set parameters (args, preparations, etc).
      * @return This object
@@ -266,8 +622,9 @@ public final class JdbcSession {
     public JdbcSession clear() {
         synchronized (this.args) {
             this.args.clear();
+            this.batch.clear();
             this.preparations.clear();
-            this.preparations.add(new PrepareArgs(this.args));
+            this.preparations.add(new PrepareArgs(this.args, this.binders));
         }
         return this;
     }
@@ -286,6 +643,7 @@ public final class JdbcSession {
         }
         conn.commit();
         this.disconnect();
+        this.invalidate();
     }
 
     /**
@@ -302,6 +660,79 @@ public final class JdbcSession {
         }
         conn.rollback();
         this.disconnect();
+        this.invalidate();
+    }
+
+    /**
+     * Run the work in a transaction.
+     *
+     * <p>One connection is taken for the whole work, and the session given
+     * to it is bound to the transaction. The transaction is committed when
+     * the work returns, or rolled back when it throws, and the connection is
+     * closed in any case:</p>
+     *
+     * <pre> long id = new JdbcSession(source).transaction(
+     *   session -&gt; {
+     *     long id = session
+     *       .sql("INSERT INTO account (owner) VALUES (?)")
+     *       .set("Jeff")
+     *       .insert(Outcome.LAST_INSERT_ID);
+     *     session.sql("INSERT INTO ledger (account) VALUES (?)")
+     *       .set(id)
+     *       .execute();
+     *     return id;
+     *   }
+     * );</pre>
+     *
+     * <p>A call made inside a transaction, like
+     * {@code session.transaction(...)} inside the work, or on a session with
+     * {@code autocommit} set to {@code false}, is nested: it is bound to
+     * a {@link java.sql.Savepoint}, and if it fails, only its own changes are
+     * rolled back, before the failure is thrown. The enclosing work may catch
+     * it and try the step again, without redoing the whole transaction.</p>
+     *
+     * <p>The whole top-level transaction is repeated by the policy of
+     * {@link #retry(Retry)}, if any.</p>
+     *
+     * @param work The work
+     * @param <T> Type of result
+     * @return The result of the work
+     * @throws SQLException If fails
+     * @since 1.0
+     */
+    public <T> T transaction(final Transaction<T> work) throws SQLException {
+        return this.transaction(work, false);
+    }
+
+    /**
+     * Run the work in a transaction, which may be read-only.
+     *
+     * <p>A read-only transaction keeps one connection, marked as read-only,
+     * for the whole work, but doesn't turn {@code autocommit} off,
+     * so there are no round trips to begin and commit it. Every statement
+     * sees the data committed when it starts. Use a read-write transaction
+     * if the work needs one consistent snapshot. With
+     * {@link ReplicatedSource}, read-only work goes to a replica.</p>
+     *
+     * @param work The work
+     * @param readonly Is it read-only?
+     * @param <T> Type of result
+     * @return The result of the work
+     * @throws SQLException If fails
+     * @see #transaction(Transaction)
+     * @since 1.0
+     */
+    public <T> T transaction(final Transaction<T> work, final boolean readonly)
+        throws SQLException {
+        final T result;
+        if (this.owned()) {
+            result = this.retry.call(
+                () -> this.fork().complete(work, readonly), readonly
+            );
+        } else {
+            result = this.nest(work);
+        }
+        return result;
     }
 
     /**
@@ -325,6 +756,105 @@ public final class JdbcSession {
         );
     }
 
+    /**
+     * Insert many rows with multi-row {@code INSERT} statements.
+     *
+     * <p>The SQL must have one row in {@code VALUES}, which is repeated
+     * for as many rows as possible in one statement:</p>
+     *
+     * <pre> List&lt;Long&gt; ids = new JdbcSession(source)
+     *   .sql("INSERT INTO user (name, age) VALUES (?, ?)")
+     *   .insertAll(
+     *     Arrays.asList(Arrays.asList("Jeff", 42), Arrays.asList("Walter", 49)),
+     *     rset -&gt; rset.getLong(1)
+     *   );</pre>
+     *
+     * <p>A statement has at most {@link #chunk(int)} rows, and no more
+     * bind parameters than the database allows. Statements have only
+     * power-of-two numbers of rows, so that just a few distinct
+     * statements are prepared by the server, whatever the number of
+     * rows is. If {@code autocommit} is {@code true}, every statement
+     * is committed separately. Databases without multi-row {@code VALUES},
+     * like Oracle before 23c, get one row per statement.</p>
+     *
+     * <p>All values go in {@code rows}, arguments set by
+     * {@link #set(Object)} are not allowed.</p>
+     *
+     * @param rows Values of every row, as many as there are placeholders
+     *  in the row of the SQL
+     * @param keys Mapping of generated keys
+     * @param <T> Type of generated keys
+     * @return Generated keys of all rows
+     * @throws SQLException If fails
+     * @since 1.0
+     */
+    public <T> List<T> insertAll(final Iterable<? extends Collection<?>> rows,
+        final Outcome.Mapping<T> keys) throws SQLException {
+        final String template;
+        final Collection<Preparation> preps = new ArrayList<>(0);
+        final int most;
+        synchronized (this.args) {
+            if (this.query == null) {
+                throw new IllegalStateException("Call #sql() first");
+            }
+            if (!this.args.isEmpty()) {
+                throw new IllegalStateException(
+                    "Arguments of #set() can't be used by #insertAll()"
+                );
+            }
+            template = this.query;
+            // the first one is PrepareArgs, which is always there
+            this.preparations.stream().skip(1L).forEach(preps::add);
+            most = this.chunk;
+        }
+        final Values values = new Values(template);
+        final Dialect dialect;
+        if (this.auto) {
+            dialect = Dialects.of(this.source);
+        } else {
+            dialect = Dialects.of(this.source, this.connect(false));
+        }
+        final int limit;
+        if (dialect.multirow()) {
+            limit = Integer.highestOneBit(
+                Math.max(
+                    1,
+                    Math.min(most, dialect.parameters() / Math.max(1, values.params()))
+                )
+            );
+        } else {
+            limit = 1;
+        }
+        final List<T> result = new ArrayList<>(0);
+        final List<Collection<?>> pending = new ArrayList<>(limit);
+        int index = 0;
+        try {
+            for (final Collection<?> row : rows) {
+                if (row.size() != values.params()) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Row #%d has %d values, while %d are expected",
+                            index, row.size(), values.params()
+                        )
+                    );
+                }
+                ++index;
+                pending.add(row);
+                if (pending.size() == limit) {
+                    result.addAll(this.insert(values, pending, preps, keys));
+                    pending.clear();
+                }
+            }
+            result.addAll(this.insert(values, pending, preps, keys));
+        } finally {
+            synchronized (this.args) {
+                this.query = template;
+            }
+            this.clear();
+        }
+        return result;
+    }
+
     /**
      * Make SQL {@code UPDATE} request.
      *
@@ -379,17 +909,7 @@ public final class JdbcSession {
      * @since 0.9
      */
     public JdbcSession execute() throws SQLException {
-        final String vendor;
-        try (Connection conn = this.source.getConnection()) {
-            vendor = conn.getMetaData().getDatabaseProductName();
-        }
-        final Connect connect;
-        if ("mysql".equalsIgnoreCase(vendor)) {
-            connect = new Connect.WithKeys(this.query);
-        } else {
-            connect = new Connect.Plain(this.query);
-        }
-        this.run(Outcome.VOID, connect, Request.EXECUTE);
+        this.run(Outcome.VOID, new Connect.ByDialect(this.query), Request.EXECUTE);
         return this;
     }
 
@@ -404,42 +924,677 @@ public final class JdbcSession {
      * @throws SQLException If fails
      */
     public <T> T select(final Outcome<T> outcome) throws SQLException {
-        return this.run(
-            outcome,
-            new Connect.Plain(this.query),
-            Request.EXECUTE_QUERY
-        );
+        final ResultCache rcache;
+        final Collection<Object> values;
+        final boolean custom;
+        synchronized (this.args) {
+            rcache = this.cache;
+            values = new ArrayList<>(this.args);
+            custom = this.preparations.size() > 1;
+        }
+        final T result;
+        if (rcache == null || !this.auto || custom) {
+            result = this.run(
+                outcome,
+                new Connect.Plain(this.query),
+                Request.EXECUTE_QUERY
+            );
+        } else {
+            result = rcache.get(
+                this.source, this.query, values, this.tuning, outcome,
+                () -> this.run(
+                    outcome,
+                    new Connect.Plain(this.query),
+                    Request.EXECUTE_QUERY
+                )
+            );
+            this.clear();
+        }
+        return result;
     }
 
     /**
-     * Run with this outcome, and this fetcher.
-     * @param outcome The outcome of the operation
-     * @param connect Connect
-     * @param request Request
-     * @param <T> Type of response
-     * @return The result
-     * @throws SQLException If fails
-     * @checkstyle ExecutableStatementCount (100 lines)
+     * Make SQL {@code SELECT} request and get the first column of the
+     * first row as {@code long}.
+     *
+     * <p>It works like {@link #select(Outcome)} with
+     * {@link SingleOutcome} of {@link Long}, but the value is neither
+     * boxed nor cached by {@link #cache(ResultCache)}, which makes it the
+     * cheapest way to get a scalar, like {@code SELECT COUNT(*)}:</p>
+     *
+     * <pre> long total = new JdbcSession(source)
+     *   .sql("SELECT COUNT(*) FROM user")
+     *   .selectLong();</pre>
+     *
+     * <p>SQL {@code NULL} is returned as zero.</p>
+     *
+     * @return The value
+     * @throws SQLException If fails or there are no rows
+     * @since 1.0
      */
-    private <T> T run(final Outcome<T> outcome,
-        final Connect connect, final Request request)
-        throws SQLException {
-        if (this.query == null) {
-            throw new IllegalStateException("Call #sql() first");
-        }
-        final Connection conn = this.connect();
-        conn.setAutoCommit(this.auto);
+    public long selectLong() throws SQLException {
+        return this.scalar(Scalar.LONG).number();
+    }
+
+    /**
+     * Make SQL {@code SELECT} request and get the first column of the
+     * first row as {@code int}, as a primitive.
+     * @return The value
+     * @throws SQLException If fails or there are no rows
+     * @see #selectLong()
+     * @since 1.0
+     */
+    public int selectInt() throws SQLException {
+        return (int) this.scalar(Scalar.INT).number();
+    }
+
+    /**
+     * Make SQL {@code SELECT} request and get the first column of the
+     * first row as {@code double}, as a primitive.
+     * @return The value
+     * @throws SQLException If fails or there are no rows
+     * @see #selectLong()
+     * @since 1.0
+     */
+    public double selectDouble() throws SQLException {
+        return this.scalar(Scalar.DOUBLE).real();
+    }
+
+    /**
+     * Make SQL {@code SELECT} request and get the first column of the
+     * first row as {@code boolean}, as a primitive.
+     * @return The value
+     * @throws SQLException If fails or there are no rows
+     * @see #selectLong()
+     * @since 1.0
+     */
+    public boolean selectBoolean() throws SQLException {
+        return this.scalar(Scalar.BOOLEAN).flag();
+    }
+
+    /**
+     * Read the first column of the first row into the slot of this thread.
+     * @param kind How to read it
+     * @return The same kind, to take the value from
+     * @throws SQLException If fails or there are no rows
+     */
+    private Scalar scalar(final Scalar kind) throws SQLException {
+        return this.run(
+            kind, new Connect.Plain(this.query), Request.EXECUTE_QUERY
+        );
+    }
+
+    /**
+     * Make SQL {@code SELECT} request asynchronously.
+     *
+     * <p>The query, its arguments and preparations are taken right away,
+     * like in {@link #select(Outcome)}, and the session is ready for the
+     * next query immediately. The call is executed by {@link Async},
+     * in its own connection. Cancelling the future cancels the statement
+     * through {@link java.sql.Statement#cancel()}.</p>
+     *
+     * <p>Asynchronous calls are not allowed when {@code autocommit}
+     * is {@code false}, since the connection of the transaction can't be
+     * used by many threads at the same time.</p>
+     *
+     * @param outcome The outcome of the operation
+     * @param <T> Type of response
+     * @return The future result
+     * @since 1.0
+     */
+    public <T> CompletableFuture<T> selectAsync(final Outcome<T> outcome) {
+        return this.later(
+            outcome, new Connect.Plain(this.query), Request.EXECUTE_QUERY
+        );
+    }
+
+    /**
+     * Make SQL {@code INSERT} request asynchronously.
+     * @param outcome The outcome of the operation
+     * @param <T> Type of response
+     * @return The future result
+     * @see #selectAsync(Outcome)
+     * @since 1.0
+     */
+    public <T> CompletableFuture<T> insertAsync(final Outcome<T> outcome) {
+        return this.later(
+            outcome, new Connect.WithKeys(this.query), Request.EXECUTE
+        );
+    }
+
+    /**
+     * Make SQL {@code UPDATE} request asynchronously.
+     * @param outcome The outcome of the operation
+     * @param <T> Type of response
+     * @return The future result
+     * @see #selectAsync(Outcome)
+     * @since 1.0
+     */
+    public <T> CompletableFuture<T> updateAsync(final Outcome<T> outcome) {
+        return this.later(
+            outcome, new Connect.WithKeys(this.query), Request.EXECUTE_UPDATE
+        );
+    }
+
+    /**
+     * Call an SQL stored procedure asynchronously.
+     * @param outcome The outcome of the operation
+     * @param <T> Type of response
+     * @return The future result
+     * @see #selectAsync(Outcome)
+     * @since 1.0
+     */
+    public <T> CompletableFuture<T> callAsync(final Outcome<T> outcome) {
+        return this.later(
+            outcome, new Connect.Call(this.query), Request.EXECUTE_UPDATE
+        );
+    }
+
+    /**
+     * Make SQL {@code SELECT} request and stream its rows lazily.
+     *
+     * <p>Unlike {@link #select(Outcome)}, this method doesn't read the
+     * entire {@link ResultSet} into memory. Rows are fetched from the
+     * server in portions and mapped while the stream is being
+     * consumed. The statement stays open until the stream is exhausted
+     * or closed, that's why it must be closed:</p>
+     *
+     * <pre> try (Stream&lt;String&gt; names = new JdbcSession(source)
+     *   .sql("SELECT name FROM user")
+     *   .stream(rset -&gt; rset.getString(1))) {
+     *   names.forEach(System.out::println);
+     * }</pre>
+     *
+     * <p>The fetch size is taken from {@link #tune(Tuning)}, or is
+     * {@code 1000} if it's not set there.</p>
+     *
+     * <p>If {@code autocommit} is {@code true}, the stream gets its own
+     * JDBC connection and closes it together with the statement. The
+     * connection is switched out of auto-commit mode while rows are read,
+     * since PostgreSQL ignores the fetch size otherwise, and its
+     * transaction is committed when the stream is closed. If
+     * {@code autocommit} is {@code false}, the connection of the
+     * transaction is used and stays open.</p>
+     *
+     * <p>MySQL needs {@code useCursorFetch=true} in the JDBC URL to
+     * really stream.</p>
+     *
+     * @param mapping Mapping of every row
+     * @param <T> Type of items
+     * @return Lazy stream of rows
+     * @throws SQLException If fails
+     * @since 1.0
+     */
+    public <T> Stream<T> stream(final Outcome.Mapping<T> mapping)
+        throws SQLException {
+        if (this.query == null) {
+            throw new IllegalStateException("Call #sql() first");
+        }
+        final String sql = this.query;
+        final Object[] values = this.values();
+        final Stopwatch watch = new Stopwatch();
+        final boolean owned = this.owned();
+        final Connection conn;
+        if (owned) {
+            conn = this.open(true);
+        } else {
+            conn = this.connect(true);
+        }
+        watch.lap(Timing.Stage.CONNECT);
+        final Rows<T> rows;
+        try {
+            conn.setAutoCommit(this.auto && !owned);
+            rows = this.open(conn, mapping, new Tuning().fetch(1000), watch);
+        } catch (final SQLException ex) {
+            watch.fail();
+            if (owned) {
+                conn.close();
+            } else {
+                this.rollbackOnFailure(conn, ex);
+            }
+            throw new SQLException(ex);
+        } finally {
+            this.clear();
+            this.listener.done(watch.timing(sql, values));
+        }
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED),
+            false
+        ).onClose(rows::close);
+    }
+
+    /**
+     * Execute the batch, made by {@link #addBatch()}.
+     *
+     * <p>Rows are sent to the server in chunks, see {@link #chunk(int)}.
+     * If {@code autocommit} is {@code true}, every successful chunk is
+     * committed. When a chunk fails, it is rolled back and split in halves
+     * until the broken row is found, then {@link SQLException} is thrown
+     * with the number of that row. If it's repeated by {@link #retry(Retry)},
+     * it resumes from the first chunk which is not committed.</p>
+     *
+     * <p>JDBC connection is opened and, optionally, closed by this method.</p>
+     *
+     * @param mapping Mapping of generated keys, one call per row
+     * @param <T> Type of generated keys
+     * @return Update counts and generated keys of all rows
+     * @throws SQLException If fails
+     * @since 1.0
+     */
+    public <T> Batch<T> executeBatch(final Outcome.Mapping<T> mapping)
+        throws SQLException {
+        return this.batch(mapping, new Connect.WithKeys(this.query));
+    }
+
+    /**
+     * Execute the batch, made by {@link #addBatch()}, without asking
+     * the server for generated keys.
+     *
+     * <p>It works like {@link #executeBatch(Outcome.Mapping)}, but it is
+     * cheaper, when the keys are not needed.</p>
+     *
+     * @return Update counts of all rows, in the order they were added
+     * @throws SQLException If fails
+     * @since 1.0
+     */
+    public int[] executeBatch() throws SQLException {
+        return this.<Object>batch(null, new Connect.Plain(this.query)).counts();
+    }
+
+    /**
+     * Execute the batch.
+     * @param mapping Mapping of generated keys, or NULL if not needed
+     * @param connect Connect
+     * @param <T> Type of generated keys
+     * @return Update counts and generated keys of all rows
+     * @throws SQLException If fails
+     */
+    private <T> Batch<T> batch(final Outcome.Mapping<T> mapping,
+        final Connect connect) throws SQLException {
+        final Chunks<T> chunks;
+        synchronized (this.args) {
+            if (this.batch.isEmpty()) {
+                throw new IllegalStateException("Call #addBatch() first");
+            }
+            chunks = new Chunks<>(
+                new ArrayList<>(this.batch), this.chunk, mapping, this.binders
+            );
+        }
+        return this.run(chunks, connect, chunks);
+    }
+
+    /**
+     * Insert rows with as few multi-row statements as possible, having
+     * power-of-two numbers of rows.
+     * @param values The statement with one row
+     * @param rows The rows
+     * @param preps Preparations to apply to every statement
+     * @param keys Mapping of generated keys
+     * @param <T> Type of generated keys
+     * @return Generated keys
+     * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private <T> List<T> insert(final Values values,
+        final List<Collection<?>> rows, final Collection<Preparation> preps,
+        final Outcome.Mapping<T> keys) throws SQLException {
+        final List<T> result = new ArrayList<>(rows.size());
+        int done = 0;
+        while (done < rows.size()) {
+            final int size = Integer.highestOneBit(rows.size() - done);
+            synchronized (this.args) {
+                this.query = values.expand(size);
+                for (final Collection<?> row : rows.subList(done, done + size)) {
+                    this.args.addAll(row);
+                }
+                this.preparations.addAll(preps);
+            }
+            result.addAll(
+                this.run(
+                    new ListOutcome<>(keys),
+                    new Connect.WithKeys(this.query),
+                    Request.EXECUTE
+                )
+            );
+            done += size;
+        }
+        return result;
+    }
+
+    /**
+     * Run with this outcome, and this fetcher, asynchronously, in a copy
+     * of this session.
+     * @param outcome The outcome of the operation
+     * @param connect Connect
+     * @param request Request
+     * @param <T> Type of response
+     * @return The future result
+     */
+    private <T> CompletableFuture<T> later(final Outcome<T> outcome,
+        final Connect connect, final Request request) {
+        final Cancellable<T> future = new Cancellable<>();
+        final JdbcSession copy = this.fork();
+        final Async exec;
+        synchronized (this.args) {
+            if (this.query == null) {
+                throw new IllegalStateException("Call #sql() first");
+            }
+            if (!this.owned()) {
+                throw new IllegalStateException(
+                    "Asynchronous calls are not allowed inside a transaction"
+                );
+            }
+            copy.query = this.query;
+            copy.args.addAll(this.args);
+            // the first one is PrepareArgs of this.args, the copy has its own
+            this.preparations.stream().skip(1L)
+                .forEach(copy.preparations::add);
+            copy.preparations.add(future);
+            if (this.async == null) {
+                exec = Async.of(this.source);
+            } else {
+                exec = this.async;
+            }
+            this.clear();
+        }
+        return exec.submit(
+            future,
+            () -> {
+                try {
+                    return copy.run(outcome, connect, request);
+                } finally {
+                    future.finish();
+                }
+            }
+        );
+    }
+
+    /**
+     * New session with the same settings, but without the query,
+     * arguments and preparations. The copy caches its own statements,
+     * up to the same limit.
+     *
+     * <p>The time of reading your own writes is shared, not copied, so that
+     * a write made by the copy, asynchronously or in a transaction, sends
+     * the next selects of this session to the primary.</p>
+     *
+     * @return The session
+     */
+    JdbcSession fork() {
+        final JdbcSession copy = new JdbcSession(
+            this.source, this.until, new Statements(this.statements.limit())
+        );
+        synchronized (this.args) {
+            copy.chunk = this.chunk;
+            copy.async = this.async;
+            copy.tuning = this.tuning;
+            copy.listener = this.listener;
+            copy.cache = this.cache;
+            copy.binders(this.binders);
+            copy.sticky = this.sticky;
+            copy.retry = this.retry;
+        }
+        return copy;
+    }
+
+    /**
+     * Run the work in this session, as a top-level transaction, and
+     * close the connection.
+     * @param work The work
+     * @param readonly Is it read-only?
+     * @param <T> Type of result
+     * @return The result
+     * @throws SQLException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> T complete(final Transaction<T> work, final boolean readonly)
+        throws SQLException {
+        this.retry = Retry.NONE;
+        this.auto = readonly;
+        this.held = readonly;
+        final Connection conn = this.connect(readonly);
+        final T result;
         try {
-            return this.fetch(outcome, request, connect.open(conn));
+            conn.setAutoCommit(readonly);
+            if (readonly) {
+                conn.setReadOnly(true);
+            }
+            result = work.exec(this);
+            if (!readonly && this.connection.get() != null) {
+                this.commit();
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            if (!readonly && this.connection.get() != null) {
+                this.rollback();
+            }
+            throw ex;
+        } finally {
+            if (this.connection.get() != null) {
+                try {
+                    if (readonly) {
+                        conn.setReadOnly(false);
+                    }
+                } finally {
+                    this.disconnect();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Run the work inside the current transaction, as a nested one,
+     * rolling back to the savepoint if it fails.
+     * @param work The work
+     * @param <T> Type of result
+     * @return The result
+     * @throws SQLException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> T nest(final Transaction<T> work) throws SQLException {
+        final T result;
+        if (this.held) {
+            result = work.exec(this);
+        } else {
+            final Connection conn = this.connect(false);
+            conn.setAutoCommit(false);
+            final Savepoint point = conn.setSavepoint();
+            synchronized (this.args) {
+                ++this.savepoints;
+            }
+            try {
+                result = work.exec(this);
+            } catch (final SQLException | RuntimeException ex) {
+                try {
+                    conn.rollback(point);
+                } catch (final SQLException rbk) {
+                    ex.addSuppressed(rbk);
+                }
+                throw ex;
+            } finally {
+                synchronized (this.args) {
+                    --this.savepoints;
+                }
+            }
+            try {
+                conn.releaseSavepoint(point);
+            // @checkstyle EmptyBlockCheck (3 lines)
+            } catch (final SQLFeatureNotSupportedException ex) {
+                // it is released by the end of the transaction anyway
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Arguments of the query, for the listener.
+     * @return Copy of them, or an empty array if nobody listens
+     */
+    private Object[] values() {
+        final Object[] values;
+        synchronized (this.args) {
+            if (this.listener == Listener.VOID) {
+                values = JdbcSession.NOTHING;
+            } else {
+                values = this.args.toArray();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Are there arguments that can be read only once?
+     * @return TRUE if there are streams among them
+     */
+    private boolean streamed() {
+        boolean found;
+        synchronized (this.args) {
+            found = JdbcSession.streamed(this.args);
+            for (final Collection<Object> row : this.batch) {
+                found = found || JdbcSession.streamed(row);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Are there streams among these arguments?
+     * @param values The arguments
+     * @return TRUE if there are
+     */
+    private static boolean streamed(final Collection<Object> values) {
+        boolean found = false;
+        for (final Object arg : values) {
+            if (arg instanceof InputStream || arg instanceof Reader
+                || arg instanceof Sized) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Shall every call open and close its own connection?
+     * @return TRUE if it shall
+     */
+    private boolean owned() {
+        return this.auto && !this.held;
+    }
+
+    /**
+     * Run with this outcome, and this fetcher.
+     *
+     * <p>Attempts are repeated by the retry policy, if {@code autocommit}
+     * is {@code true}, and the session is cleared after the last one.</p>
+     *
+     * @param outcome The outcome of the operation
+     * @param connect Connect
+     * @param request Request
+     * @param <T> Type of response
+     * @return The result
+     * @throws SQLException If fails
+     */
+    private <T> T run(final Outcome<T> outcome,
+        final Connect connect, final Request request)
+        throws SQLException {
+        if (this.query == null) {
+            throw new IllegalStateException("Call #sql() first");
+        }
+        final String sql = this.query;
+        final Object[] values = this.values();
+        try {
+            final T result;
+            if (this.owned() && !this.streamed()) {
+                result = this.retry.call(
+                    () -> this.attempt(outcome, connect, request, sql, values),
+                    request == Request.EXECUTE_QUERY
+                );
+            } else {
+                result = this.attempt(outcome, connect, request, sql, values);
+            }
+            return result;
+        } finally {
+            this.clear();
+            if (request != Request.EXECUTE_QUERY) {
+                this.until.set(System.nanoTime() + this.sticky);
+                this.changed(sql);
+            }
+        }
+    }
+
+    /**
+     * Make one attempt to run.
+     * @param outcome The outcome of the operation
+     * @param connect Connect
+     * @param request Request
+     * @param sql The query
+     * @param values Arguments, for the listener
+     * @param <T> Type of response
+     * @return The result
+     * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private <T> T attempt(final Outcome<T> outcome, final Connect connect,
+        final Request request, final String sql, final Object[] values)
+        throws SQLException {
+        final Stopwatch watch = new Stopwatch();
+        final Connection conn;
+        try {
+            conn = this.connect(request == Request.EXECUTE_QUERY);
         } catch (final SQLException ex) {
+            watch.fail();
+            this.listener.done(watch.timing(sql, values));
+            throw ex;
+        }
+        watch.lap(Timing.Stage.CONNECT);
+        try {
+            conn.setAutoCommit(this.auto);
+            return this.fetch(outcome, connect, request, conn, watch);
+        } catch (final SQLException ex) {
+            watch.fail();
             this.rollbackOnFailure(conn, ex);
             throw new SQLException(ex);
         } finally {
-            if (this.auto) {
+            if (this.owned()) {
                 this.disconnect();
             }
-            this.clear();
+            this.listener.done(watch.timing(sql, values));
+        }
+    }
+
+    /**
+     * Fetch the result, through a statement from the cache, if there is
+     * a transaction, or a new one otherwise.
+     * @param outcome The outcome of the operation
+     * @param connect Connect
+     * @param request Request
+     * @param conn Connection
+     * @param watch Stopwatch
+     * @param <T> Type of response
+     * @return The result
+     * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private <T> T fetch(final Outcome<T> outcome, final Connect connect,
+        final Request request, final Connection conn, final Stopwatch watch)
+        throws SQLException {
+        final Dialect dialect = Dialects.of(this.source, conn);
+        final T result;
+        if (this.owned()) {
+            try (PreparedStatement stmt = connect.open(conn, dialect)) {
+                result = this.fetch(outcome, request, stmt, watch);
+            }
+        } else {
+            final PreparedStatement stmt =
+                this.statements.open(connect, conn, dialect);
+            try {
+                result = this.fetch(outcome, request, stmt, watch);
+            } finally {
+                this.statements.release(connect, stmt);
+            }
         }
+        return result;
     }
 
     /**
@@ -447,22 +1602,70 @@ public final class JdbcSession {
      * @param outcome The outcome of the operation
      * @param request Request
      * @param stmt Statement
+     * @param watch Stopwatch
      * @param <T> Type of response
      * @return The result
      * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
-    @SuppressWarnings("PMD.UnnecessaryLocalRule")
-    private <T> T fetch(final Outcome<T> outcome,
-        final Request request, final PreparedStatement stmt) throws SQLException {
-        final T result;
-        try (stmt) {
-            this.configure(stmt);
-            // @checkstyle NestedTryDepth (5 lines)
+    private <T> T fetch(final Outcome<T> outcome, final Request request,
+        final PreparedStatement stmt, final Stopwatch watch)
+        throws SQLException {
+        try {
+            this.configure(stmt, outcome.tuning());
+            watch.lap(Timing.Stage.PREPARE);
             try (ResultSet rset = request.fetch(stmt)) {
-                result = outcome.handle(rset, stmt);
+                watch.lap(Timing.Stage.EXECUTE);
+                final T result;
+                if (rset == null || this.listener == Listener.VOID) {
+                    result = outcome.handle(rset, stmt);
+                } else {
+                    final Counted counted = new Counted(rset);
+                    try {
+                        result = outcome.handle(counted, stmt);
+                    } finally {
+                        watch.rows(counted.rows());
+                    }
+                }
+                watch.lap(Timing.Stage.MAP);
+                return result;
             }
+        } finally {
+            PathStream.release(stmt);
+        }
+    }
+
+    /**
+     * Open a statement and iterate its rows.
+     * @param conn The connection
+     * @param mapping Mapping of every row
+     * @param defaults Tuning for the options not set on the session
+     * @param watch Stopwatch
+     * @param <T> Type of items
+     * @return Rows
+     * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private <T> Rows<T> open(final Connection conn,
+        final Outcome.Mapping<T> mapping, final Tuning defaults,
+        final Stopwatch watch) throws SQLException {
+        final PreparedStatement stmt = new Connect.Plain(this.query)
+            .open(conn, Dialects.of(this.source, conn));
+        try {
+            this.configure(stmt, defaults);
+            watch.lap(Timing.Stage.PREPARE);
+            final ResultSet rset;
+            try {
+                rset = stmt.executeQuery();
+            } finally {
+                PathStream.release(stmt);
+            }
+            watch.lap(Timing.Stage.EXECUTE);
+            return new Rows<>(conn, stmt, rset, mapping, this.owned());
+        } catch (final SQLException ex) {
+            stmt.close();
+            throw ex;
         }
-        return result;
     }
 
     /**
@@ -474,7 +1677,7 @@ public final class JdbcSession {
     @SuppressWarnings("PMD.PreserveStackTrace")
     private void rollbackOnFailure(final Connection conn, final SQLException failure)
         throws SQLException {
-        if (!this.auto) {
+        if (!this.auto && this.savepoints == 0) {
             try {
                 conn.rollback();
                 this.disconnect();
@@ -490,20 +1693,70 @@ public final class JdbcSession {
         }
     }
 
+    /**
+     * Invalidate the cache after the change.
+     * @param sql The SQL that changed something
+     */
+    private void changed(final String sql) {
+        final ResultCache rcache = this.cache;
+        if (rcache != null) {
+            rcache.invalidate(sql);
+            if (!this.auto) {
+                synchronized (this.changes) {
+                    this.changes.add(sql);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate the cache once again, after the end of transaction.
+     */
+    private void invalidate() {
+        final ResultCache rcache = this.cache;
+        synchronized (this.changes) {
+            if (rcache != null) {
+                for (final String sql : this.changes) {
+                    rcache.invalidate(sql);
+                }
+            }
+            this.changes.clear();
+        }
+    }
+
     /**
      * Open connection and cache it locally in the class.
+     * @param read Is it for reading only?
      * @return Connection to use
      * @throws SQLException If fails
      */
-    private Connection connect() throws SQLException {
+    private Connection connect(final boolean read) throws SQLException {
         synchronized (this.args) {
             if (this.connection.get() == null) {
-                this.connection.set(this.source.getConnection());
+                this.connection.set(this.open(read));
             }
             return this.connection.get();
         }
     }
 
+    /**
+     * Open a new connection, to a replica, if it's for reading outside
+     * of a transaction and there were no recent writes.
+     * @param read Is it for reading only?
+     * @return Connection
+     * @throws SQLException If fails
+     */
+    private Connection open(final boolean read) throws SQLException {
+        final Connection conn;
+        if (read && this.auto && this.source instanceof ReplicatedSource
+            && this.until.get() - System.nanoTime() <= 0L) {
+            conn = ((ReplicatedSource) this.source).reader();
+        } else {
+            conn = this.source.getConnection();
+        }
+        return conn;
+    }
+
     /**
      * Close connection if it's open (runtime exception otherwise).
      * @throws SQLException If fails to do the SQL operation
@@ -515,15 +1768,22 @@ public final class JdbcSession {
                 "Connection is not open, can't close"
             );
         }
-        conn.close();
+        try {
+            this.statements.clear();
+        } finally {
+            conn.close();
+        }
     }
 
     /**
      * Configure the statement.
      * @param stmt Statement
+     * @param defaults Tuning for the options not set on the session
      * @throws SQLException If fails
      */
-    private void configure(final PreparedStatement stmt) throws SQLException {
+    private void configure(final PreparedStatement stmt,
+        final Tuning defaults) throws SQLException {
+        this.tuning.over(defaults).prepare(stmt);
         for (final Preparation prep : this.preparations) {
             prep.prepare(stmt);
         }
@@ -7,7 +7,7 @@ package com.jcabi.jdbc;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -53,7 +53,7 @@ public final class ListOutcome<T> implements Outcome<List<T>> {
     @Override
     public List<T> handle(final ResultSet rset, final Statement stmt)
         throws SQLException {
-        final List<T> result = new LinkedList<>();
+        final List<T> result = new ArrayList<>();
         while (rset.next()) {
             result.add(this.mapping.map(rset));
         }
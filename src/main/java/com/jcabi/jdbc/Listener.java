@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+/**
+ * Listener of queries executed by {@link JdbcSession}.
+ *
+ * <p>It is called once per query, successful or not, in the thread that
+ * executed it, so it must be fast and thread-safe. See {@link Metrics}
+ * for an implementation that collects latency histograms:</p>
+ *
+ * <pre> Metrics metrics = new Metrics();
+ * new JdbcSession(source)
+ *   .listen(metrics)
+ *   .sql("SELECT name FROM user WHERE id = ?")
+ *   .set(42)
+ *   .select(new SingleOutcome&lt;&gt;(String.class));
+ * String text = metrics.prometheus();</pre>
+ *
+ * <p>Many listeners may be given to {@link JdbcSession#listen(Listener)},
+ * they are combined by {@link Listener.All}.</p>
+ *
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Listener {
+
+    /**
+     * Listener that ignores everything.
+     */
+    Listener VOID = timing -> { };
+
+    /**
+     * The query is finished.
+     * @param timing Its timing
+     */
+    void done(Timing timing);
+
+    /**
+     * Listener that reports to many listeners, in order.
+     *
+     * <p>The class is thread-safe, if the listeners are.</p>
+     *
+     * @since 1.0
+     */
+    final class All implements Listener {
+
+        /**
+         * The listeners.
+         */
+        private final transient Listener[] listeners;
+
+        /**
+         * Ctor.
+         * @param lst The listeners
+         */
+        public All(final Listener... lst) {
+            this.listeners = lst.clone();
+        }
+
+        @Override
+        public void done(final Timing timing) {
+            for (final Listener lst : this.listeners) {
+                lst.done(timing);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that returns one column as an array of {@code long}.
+ *
+ * <p>Use it instead of {@link ColumnOutcome} of {@link Long} when the column
+ * is big, because values are not boxed and are stored in a primitive array,
+ * which grows twice every time it's full and is trimmed at the end:
+ *
+ * <pre> long[] ids = new JdbcSession(source)
+ *   .sql("SELECT id FROM user")
+ *   .select(new LongColumnOutcome());</pre>
+ *
+ * <p>SQL {@code NULL} is returned as {@code 0}, as
+ * {@link ResultSet#getLong(int)} does.
+ *
+ * <p>Instead of a column, an {@link Outcome.LongMapping} may be given, which
+ * is called for every row through {@link Outcome.LongMapping#mapLong(ResultSet)},
+ * also without boxing:
+ *
+ * <pre> long[] values = new JdbcSession(source)
+ *   .sql("SELECT a, b FROM t")
+ *   .select(new LongColumnOutcome(rs -> rs.getLong(1) + rs.getLong(2)));</pre>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = "mapping")
+public final class LongColumnOutcome implements Outcome<long[]> {
+
+    /**
+     * Initial capacity of the array.
+     */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Mapping of a row.
+     */
+    private final transient Outcome.LongMapping mapping;
+
+    /**
+     * Public ctor, for the first column.
+     */
+    public LongColumnOutcome() {
+        this(1);
+    }
+
+    /**
+     * Public ctor.
+     * @param pos Column position, starting from one
+     */
+    public LongColumnOutcome(final int pos) {
+        this(new LongColumnOutcome.Column(pos));
+    }
+
+    /**
+     * Public ctor.
+     * @param mpg Mapping of a row
+     */
+    public LongColumnOutcome(final Outcome.LongMapping mpg) {
+        this.mapping = mpg;
+    }
+
+    @Override
+    public long[] handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        long[] values = new long[LongColumnOutcome.CAPACITY];
+        int size = 0;
+        while (rset.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size] = this.mapping.mapLong(rset);
+            ++size;
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Mapping of one column, by position.
+     * @since 1.0
+     */
+    @ToString
+    @EqualsAndHashCode(of = "column")
+    private static final class Column implements Outcome.LongMapping {
+
+        /**
+         * Column position, starting from one.
+         */
+        private final transient int column;
+
+        /**
+         * Ctor.
+         * @param pos Column position, starting from one
+         */
+        Column(final int pos) {
+            this.column = pos;
+        }
+
+        @Override
+        public long mapLong(final ResultSet rset) throws SQLException {
+            return rset.getLong(this.column);
+        }
+    }
+}
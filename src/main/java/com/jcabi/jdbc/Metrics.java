@@ -0,0 +1,370 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.ToString;
+
+/**
+ * Metrics of queries, by SQL fingerprint.
+ *
+ * <p>Queries that differ only in literals and in lengths of lists of
+ * placeholders are counted together, see {@link Fingerprint}. For every
+ * of them there is a latency histogram per {@link Timing.Stage}, the
+ * number of calls, mapped rows and failures. Everything is
+ * recorded without locks:</p>
+ *
+ * <pre> Metrics metrics = new Metrics();
+ * new JdbcSession(source).listen(metrics).sql("...").execute();
+ * String text = metrics.prometheus();</pre>
+ *
+ * <p>The text is in Prometheus exposition format, ready to be served
+ * over HTTP.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = "entries")
+public final class Metrics implements Listener {
+
+    /**
+     * Upper bounds of histogram buckets, in nanoseconds.
+     */
+    private static final long[] BOUNDS = {
+        100_000L, 250_000L, 500_000L,
+        1_000_000L, 2_500_000L, 5_000_000L,
+        10_000_000L, 25_000_000L, 50_000_000L,
+        100_000_000L, 250_000_000L, 500_000_000L,
+        1_000_000_000L, 2_500_000_000L, 5_000_000_000L, 10_000_000_000L,
+    };
+
+    /**
+     * How many raw SQL strings to remember.
+     */
+    private static final int MEMORY = 1024;
+
+    /**
+     * Entries by fingerprint.
+     */
+    private final transient ConcurrentMap<String, Metrics.Entry> entries;
+
+    /**
+     * Entries by raw SQL, to avoid normalizing it every time.
+     */
+    private final transient ConcurrentMap<String, Metrics.Entry> known;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this.entries = new ConcurrentHashMap<>(0);
+        this.known = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public void done(final Timing timing) {
+        Metrics.Entry entry = this.known.get(timing.sql());
+        if (entry == null) {
+            entry = this.entries.computeIfAbsent(
+                new Fingerprint(timing.sql()).asString(),
+                key -> new Metrics.Entry()
+            );
+            if (this.known.size() < Metrics.MEMORY) {
+                this.known.putIfAbsent(timing.sql(), entry);
+            }
+        }
+        entry.add(timing);
+    }
+
+    /**
+     * Current values, by SQL fingerprint.
+     * @return Snapshot of all entries, sorted by fingerprint
+     */
+    public Map<String, Metrics.Stats> snapshot() {
+        final Map<String, Metrics.Stats> map = new TreeMap<>();
+        for (final Map.Entry<String, Metrics.Entry> ent
+            : this.entries.entrySet()) {
+            map.put(ent.getKey(), ent.getValue().stats());
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Forget everything.
+     */
+    public void reset() {
+        this.known.clear();
+        this.entries.clear();
+    }
+
+    /**
+     * Export in Prometheus text exposition format, version 0.0.4.
+     * @return Text
+     */
+    public String prometheus() {
+        final StringBuilder text = new StringBuilder(0);
+        final Map<String, Metrics.Entry> sorted = new TreeMap<>(this.entries);
+        text.append("# HELP jcabi_jdbc_seconds Time spent in queries, by stage\n")
+            .append("# TYPE jcabi_jdbc_seconds histogram\n");
+        for (final Map.Entry<String, Metrics.Entry> ent : sorted.entrySet()) {
+            final String sql = Metrics.escape(ent.getKey());
+            for (final Timing.Stage stage : Timing.Stage.values()) {
+                final Histogram hist = ent.getValue().histogram(stage);
+                final long[] counts = hist.cumulative();
+                final String labels = String.format(
+                    "sql=\"%s\",stage=\"%s\"", sql, stage.label()
+                );
+                for (int idx = 0; idx < counts.length; ++idx) {
+                    final String bound;
+                    if (idx < Metrics.BOUNDS.length) {
+                        bound = Metrics.seconds(Metrics.BOUNDS[idx]);
+                    } else {
+                        bound = "+Inf";
+                    }
+                    text.append("jcabi_jdbc_seconds_bucket{").append(labels)
+                        .append(",le=\"").append(bound).append("\"} ")
+                        .append(counts[idx]).append('\n');
+                }
+                text.append("jcabi_jdbc_seconds_sum{").append(labels)
+                    .append("} ").append(Metrics.seconds(hist.sum()))
+                    .append('\n')
+                    .append("jcabi_jdbc_seconds_count{").append(labels)
+                    .append("} ").append(counts[counts.length - 1])
+                    .append('\n');
+            }
+        }
+        Metrics.counter(
+            text, sorted, "calls", "Queries executed", Metrics.Stats::calls
+        );
+        Metrics.counter(
+            text, sorted, "rows", "Rows mapped by outcomes", Metrics.Stats::rows
+        );
+        Metrics.counter(
+            text, sorted, "failures", "Queries failed", Metrics.Stats::failures
+        );
+        return text.toString();
+    }
+
+    /**
+     * Print one counter for all entries.
+     * @param text Where to print
+     * @param sorted Entries
+     * @param name Name of the counter
+     * @param help Description
+     * @param value The value of it
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void counter(final StringBuilder text,
+        final Map<String, Metrics.Entry> sorted, final String name,
+        final String help, final Metrics.Value value) {
+        text.append("# HELP jcabi_jdbc_").append(name).append("_total ")
+            .append(help).append('\n')
+            .append("# TYPE jcabi_jdbc_").append(name).append("_total counter\n");
+        for (final Map.Entry<String, Metrics.Entry> ent : sorted.entrySet()) {
+            text.append("jcabi_jdbc_").append(name).append("_total{sql=\"")
+                .append(Metrics.escape(ent.getKey())).append("\"} ")
+                .append(value.of(ent.getValue().stats())).append('\n');
+        }
+    }
+
+    /**
+     * Nanoseconds as seconds, in plain notation.
+     * @param nanos Nanoseconds
+     * @return Seconds
+     */
+    private static String seconds(final long nanos) {
+        return BigDecimal.valueOf(nanos).movePointLeft(9)
+            .stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Escape a label value.
+     * @param value The value
+     * @return Escaped one
+     */
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n");
+    }
+
+    /**
+     * Value of a counter.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    private interface Value {
+        /**
+         * Get it.
+         * @param stats Stats
+         * @return The value
+         */
+        long of(Metrics.Stats stats);
+    }
+
+    /**
+     * Values of one fingerprint, at some moment.
+     * @since 1.0
+     */
+    @ToString
+    public static final class Stats {
+
+        /**
+         * Calls.
+         */
+        private final long calls;
+
+        /**
+         * Rows mapped.
+         */
+        private final long rows;
+
+        /**
+         * Failures.
+         */
+        private final long failures;
+
+        /**
+         * Total nanoseconds, by stage.
+         */
+        private final Map<Timing.Stage, Long> nanos;
+
+        /**
+         * Ctor.
+         * @param total Calls
+         * @param mapped Rows mapped
+         * @param failed Failures
+         * @param time Total nanoseconds, by stage
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Stats(final long total, final long mapped, final long failed,
+            final Map<Timing.Stage, Long> time) {
+            this.calls = total;
+            this.rows = mapped;
+            this.failures = failed;
+            this.nanos = time;
+        }
+
+        /**
+         * How many times it was executed.
+         * @return Number of calls
+         */
+        public long calls() {
+            return this.calls;
+        }
+
+        /**
+         * How many rows outcomes went through.
+         * @return Number of rows
+         */
+        public long rows() {
+            return this.rows;
+        }
+
+        /**
+         * How many times it failed.
+         * @return Number of failures
+         */
+        public long failures() {
+            return this.failures;
+        }
+
+        /**
+         * Total time spent in the stage.
+         * @param stage The stage
+         * @return Nanoseconds
+         */
+        public long nanos(final Timing.Stage stage) {
+            return this.nanos.get(stage);
+        }
+    }
+
+    /**
+     * Live values of one fingerprint.
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * Histograms, by stage.
+         */
+        private final Histogram[] histograms;
+
+        /**
+         * Calls.
+         */
+        private final LongAdder calls;
+
+        /**
+         * Rows.
+         */
+        private final LongAdder rows;
+
+        /**
+         * Failures.
+         */
+        private final LongAdder failures;
+
+        /**
+         * Ctor.
+         */
+        Entry() {
+            this.histograms = new Histogram[Timing.Stage.values().length];
+            for (int idx = 0; idx < this.histograms.length; ++idx) {
+                this.histograms[idx] = new Histogram(Metrics.BOUNDS);
+            }
+            this.calls = new LongAdder();
+            this.rows = new LongAdder();
+            this.failures = new LongAdder();
+        }
+
+        /**
+         * Record the timing.
+         * @param timing Timing
+         */
+        void add(final Timing timing) {
+            for (final Timing.Stage stage : Timing.Stage.values()) {
+                this.histograms[stage.ordinal()].add(timing.nanos(stage));
+            }
+            this.calls.increment();
+            this.rows.add(timing.rows());
+            if (timing.failed()) {
+                this.failures.increment();
+            }
+        }
+
+        /**
+         * Histogram of the stage.
+         * @param stage The stage
+         * @return Histogram
+         */
+        Histogram histogram(final Timing.Stage stage) {
+            return this.histograms[stage.ordinal()];
+        }
+
+        /**
+         * Take a snapshot.
+         * @return Stats
+         */
+        Metrics.Stats stats() {
+            final Map<Timing.Stage, Long> nanos =
+                new EnumMap<>(Timing.Stage.class);
+            for (final Timing.Stage stage : Timing.Stage.values()) {
+                nanos.put(stage, this.histogram(stage).sum());
+            }
+            return new Metrics.Stats(
+                this.calls.sum(), this.rows.sum(), this.failures.sum(), nanos
+            );
+        }
+    }
+}
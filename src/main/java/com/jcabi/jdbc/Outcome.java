@@ -100,6 +100,20 @@ public interface Outcome<T> {
      */
     T handle(ResultSet rset, Statement stmt) throws SQLException;
 
+    /**
+     * Statement tuning this outcome works best with.
+     *
+     * <p>It is applied to the statement before execution, for all
+     * options not set by {@link JdbcSession#tune(Tuning)}.
+     * By default, nothing is suggested.</p>
+     *
+     * @return Tuning
+     * @since 1.0
+     */
+    default Tuning tuning() {
+        return new Tuning();
+    }
+
     /**
      * Mapping.
      * @param <T> Type of output
@@ -117,6 +131,95 @@ public interface Outcome<T> {
         T map(ResultSet rset) throws SQLException;
     }
 
+    /**
+     * Mapping to {@code long}, without boxing.
+     *
+     * <p>Use it where a {@link Mapping} of {@link Long} is expected, if the
+     * consumer may read the primitive value through {@link #mapLong(ResultSet)}.
+     * {@link #map(ResultSet)} still boxes it.</p>
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface LongMapping extends Mapping<Long> {
+
+        /**
+         * Map.
+         * @param rset Result set
+         * @return The value
+         * @throws SQLException If fails
+         */
+        long mapLong(ResultSet rset) throws SQLException;
+
+        @Override
+        default Long map(final ResultSet rset) throws SQLException {
+            return this.mapLong(rset);
+        }
+    }
+
+    /**
+     * Mapping to {@code int}, without boxing.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface IntMapping extends Mapping<Integer> {
+
+        /**
+         * Map.
+         * @param rset Result set
+         * @return The value
+         * @throws SQLException If fails
+         */
+        int mapInt(ResultSet rset) throws SQLException;
+
+        @Override
+        default Integer map(final ResultSet rset) throws SQLException {
+            return this.mapInt(rset);
+        }
+    }
+
+    /**
+     * Mapping to {@code double}, without boxing.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface DoubleMapping extends Mapping<Double> {
+
+        /**
+         * Map.
+         * @param rset Result set
+         * @return The value
+         * @throws SQLException If fails
+         */
+        double mapDouble(ResultSet rset) throws SQLException;
+
+        @Override
+        default Double map(final ResultSet rset) throws SQLException {
+            return this.mapDouble(rset);
+        }
+    }
+
+    /**
+     * Mapping to {@code boolean}, without boxing.
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface BooleanMapping extends Mapping<Boolean> {
+
+        /**
+         * Map.
+         * @param rset Result set
+         * @return The value
+         * @throws SQLException If fails
+         */
+        boolean mapBoolean(ResultSet rset) throws SQLException;
+
+        @Override
+        default Boolean map(final ResultSet rset) throws SQLException {
+            return this.mapBoolean(rset);
+        }
+    }
+
     /**
      * Mappings for different types.
      * @since 0.17.6
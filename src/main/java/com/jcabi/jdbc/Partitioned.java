@@ -0,0 +1,474 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Select split into slices of a key range, which run in parallel.
+ *
+ * <p>The query must end its parameters with the bounds of the range of
+ * an indexed key: the inclusive lower one and the exclusive upper one.
+ * Every slice runs on its own connection, in a {@link ForkJoinPool}:</p>
+ *
+ * <pre> long last = new JdbcSession(source)
+ *   .sql("SELECT MAX(id) FROM event")
+ *   .selectLong();
+ * List&lt;Event&gt; events = new Partitioned(
+ *   source,
+ *   "SELECT * FROM event WHERE type = ? AND id &gt;= ? AND id &lt; ?",
+ *   "click"
+ * ).range(1L, last, 8).list(new RecordMapping&lt;&gt;(Event.class), true);</pre>
+ *
+ * <p>The range is split either evenly, by {@link #range(long, long, int)},
+ * or at the given points, by {@link #boundaries(long...)}, when the keys
+ * are not distributed evenly.</p>
+ *
+ * <p>Slices run in copies of a session, if it's given instead of the data
+ * source, with its tuning, binders, listeners and other settings, but
+ * without its query and arguments:</p>
+ *
+ * <pre> new Partitioned(
+ *   new JdbcSession(source).tune(new Tuning().fetch(10_000)).listen(log),
+ *   "SELECT * FROM event WHERE id &gt;= ? AND id &lt; ?"
+ * ).range(1L, last, 8).list(new RecordMapping&lt;&gt;(Event.class), false);</pre>
+ *
+ * <p>If a slice fails, the slices which haven't started yet don't start,
+ * and the ones which are running are waited for, so that no slice works
+ * on its connection after the select has failed.</p>
+ *
+ * <p>Calls to the database are blocking, that's why they are made through
+ * {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}, which
+ * lets the pool add threads while slices wait for the database. So, even
+ * the common pool, which is used by default, runs all slices at once.</p>
+ *
+ * <p>The class is immutable and thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"query", "bounds"})
+@EqualsAndHashCode(of = {"session", "query", "args", "bounds"})
+public final class Partitioned {
+
+    /**
+     * The session, which every slice runs a copy of.
+     */
+    private final transient JdbcSession session;
+
+    /**
+     * The query.
+     */
+    private final String query;
+
+    /**
+     * Arguments, before the bounds.
+     */
+    private final Object[] args;
+
+    /**
+     * Bounds of slices, in ascending order: every slice is from one
+     * of them, inclusive, to the next one, exclusive.
+     */
+    private final long[] bounds;
+
+    /**
+     * The pool.
+     */
+    private final transient ForkJoinPool pool;
+
+    /**
+     * Public ctor.
+     * @param src The source
+     * @param sql The query, with the bounds of the range as its last
+     *  two parameters
+     * @param params Arguments of the query, before the bounds
+     */
+    public Partitioned(final DataSource src, final String sql,
+        final Object... params) {
+        this(new JdbcSession(src), sql, params);
+    }
+
+    /**
+     * Public ctor, with a session, which is copied for every slice.
+     * @param ssn The session, with the settings of slices
+     * @param sql The query, with the bounds of the range as its last
+     *  two parameters
+     * @param params Arguments of the query, before the bounds
+     */
+    public Partitioned(final JdbcSession ssn, final String sql,
+        final Object... params) {
+        this(
+            ssn, sql, params.clone(), new long[0], ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param ssn The session
+     * @param sql The query
+     * @param params Arguments of the query
+     * @param bnds Bounds of slices
+     * @param fjp The pool
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Partitioned(final JdbcSession ssn, final String sql,
+        final Object[] params, final long[] bnds, final ForkJoinPool fjp) {
+        this.session = ssn;
+        this.query = sql;
+        this.args = params;
+        this.bounds = bnds;
+        this.pool = fjp;
+    }
+
+    /**
+     * Split this range of keys evenly.
+     * @param first The first key, inclusive
+     * @param last The last key, inclusive
+     * @param slices How many slices
+     * @return New select
+     */
+    public Partitioned range(final long first, final long last,
+        final int slices) {
+        if (slices < 1) {
+            throw new IllegalArgumentException(
+                String.format("At least one slice is required: %d", slices)
+            );
+        }
+        if (last < first || last == Long.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("Invalid range: %d..%d", first, last)
+            );
+        }
+        final BigInteger start = BigInteger.valueOf(first);
+        final BigInteger span = BigInteger.valueOf(last).subtract(start)
+            .add(BigInteger.ONE);
+        final int count = (int) Math.min(slices, span.min(
+            BigInteger.valueOf(Integer.MAX_VALUE)
+        ).longValue());
+        final long[] points = new long[count + 1];
+        for (int idx = 0; idx <= count; ++idx) {
+            points[idx] = start.add(
+                span.multiply(BigInteger.valueOf(idx))
+                    .divide(BigInteger.valueOf(count))
+            ).longValue();
+        }
+        return new Partitioned(
+            this.session, this.query, this.args, points, this.pool
+        );
+    }
+
+    /**
+     * Split the range at these points.
+     * @param points The first key, inclusive, points between slices, and
+     *  the last key, exclusive, in ascending order
+     * @return New select
+     */
+    public Partitioned boundaries(final long... points) {
+        if (points.length < 2) {
+            throw new IllegalArgumentException(
+                "At least two boundaries are required"
+            );
+        }
+        for (int idx = 1; idx < points.length; ++idx) {
+            if (points[idx] <= points[idx - 1]) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Boundaries must ascend: %s", Arrays.toString(points)
+                    )
+                );
+            }
+        }
+        return new Partitioned(
+            this.session, this.query, this.args, points.clone(), this.pool
+        );
+    }
+
+    /**
+     * Run slices in this pool, instead of the common one.
+     * @param fjp The pool
+     * @return New select
+     */
+    public Partitioned pool(final ForkJoinPool fjp) {
+        return new Partitioned(
+            this.session, this.query, this.args, this.bounds, fjp
+        );
+    }
+
+    /**
+     * Run all slices with the outcome.
+     * @param outcome The outcome, which is used by all slices at once
+     * @param <T> Type of result
+     * @return Results of slices, in the order of keys
+     * @throws SQLException If any slice fails
+     */
+    public <T> List<T> select(final Outcome<T> outcome) throws SQLException {
+        if (this.bounds.length < 2) {
+            throw new IllegalStateException(
+                "Call #range() or #boundaries() first"
+            );
+        }
+        try {
+            return this.pool.invoke(
+                new Partitioned.Slices<>(
+                    outcome, new AtomicBoolean(), 0, this.bounds.length - 1
+                )
+            );
+        } catch (final IllegalStateException ex) {
+            throw Partitioned.unwrap(ex);
+        }
+    }
+
+    /**
+     * Map rows of all slices.
+     * @param mapping Mapping of rows
+     * @param ordered Shall rows be in the order of slices? If not,
+     *  rows of slices which are done first go first
+     * @param <T> Type of items
+     * @return All rows
+     * @throws SQLException If any slice fails
+     */
+    public <T> List<T> list(final Outcome.Mapping<T> mapping,
+        final boolean ordered) throws SQLException {
+        final Collection<List<T>> parts;
+        if (ordered) {
+            parts = this.select(new ListOutcome<>(mapping));
+        } else {
+            final Queue<List<T>> done = new ConcurrentLinkedQueue<>();
+            final Outcome<List<T>> outcome = new ListOutcome<>(mapping);
+            this.select(
+                (rset, stmt) -> {
+                    done.add(outcome.handle(rset, stmt));
+                    return Boolean.TRUE;
+                }
+            );
+            parts = done;
+        }
+        int size = 0;
+        for (final List<T> part : parts) {
+            size += part.size();
+        }
+        final List<T> rows = new ArrayList<>(size);
+        for (final List<T> part : parts) {
+            rows.addAll(part);
+        }
+        return rows;
+    }
+
+    /**
+     * Find the {@link SQLException} behind the failure.
+     * @param failure The failure
+     * @return The SQL exception
+     */
+    private static SQLException unwrap(final IllegalStateException failure) {
+        Throwable cause = failure;
+        while (cause != null && !(cause instanceof SQLException)) {
+            cause = cause.getCause();
+        }
+        if (cause == null) {
+            throw failure;
+        }
+        return (SQLException) cause;
+    }
+
+    /**
+     * Wait for the task, which is stopped, and add its error, if any.
+     * @param task The task
+     * @param failure The failure to add its error to
+     */
+    private static void await(final ForkJoinTask<?> task,
+        final RuntimeException failure) {
+        task.quietlyJoin();
+        final Throwable error = task.getException();
+        if (error != null && !(error instanceof CancellationException)) {
+            failure.addSuppressed(error);
+        }
+    }
+
+    /**
+     * Slices from one to another, forked in halves.
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    private final class Slices<T> extends RecursiveTask<List<T>> {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The outcome.
+         */
+        private final transient Outcome<T> outcome;
+
+        /**
+         * The first slice, inclusive.
+         */
+        private final int from;
+
+        /**
+         * The last slice, exclusive.
+         */
+        private final int till;
+
+        /**
+         * Has any slice failed, so that the others shall not start?
+         */
+        private final transient AtomicBoolean stopped;
+
+        /**
+         * Ctor.
+         * @param otc The outcome
+         * @param stop Has any slice failed?
+         * @param first The first slice, inclusive
+         * @param last The last slice, exclusive
+         */
+        Slices(final Outcome<T> otc, final AtomicBoolean stop,
+            final int first, final int last) {
+            super();
+            this.outcome = otc;
+            this.stopped = stop;
+            this.from = first;
+            this.till = last;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        protected List<T> compute() {
+            if (this.stopped.get()) {
+                throw new CancellationException("Another slice failed");
+            }
+            final List<T> result;
+            if (this.till - this.from == 1) {
+                final Partitioned.Slice<T> slice = new Partitioned.Slice<>(
+                    this.outcome,
+                    Partitioned.this.bounds[this.from],
+                    Partitioned.this.bounds[this.till]
+                );
+                try {
+                    ForkJoinPool.managedBlock(slice);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                result = Collections.singletonList(slice.result());
+            } else {
+                final int middle = (this.from + this.till) >>> 1;
+                final Partitioned.Slices<T> left =
+                    new Partitioned.Slices<>(
+                        this.outcome, this.stopped, this.from, middle
+                    );
+                left.fork();
+                final List<T> right;
+                try {
+                    right = new Partitioned.Slices<>(
+                        this.outcome, this.stopped, middle, this.till
+                    ).compute();
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final RuntimeException ex) {
+                    this.stopped.set(true);
+                    Partitioned.await(left, ex);
+                    throw ex;
+                }
+                final List<T> first = left.join();
+                result = new ArrayList<>(first.size() + right.size());
+                result.addAll(first);
+                result.addAll(right);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * One slice, which blocks while the database works.
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    private final class Slice<T> implements ForkJoinPool.ManagedBlocker {
+
+        /**
+         * The outcome.
+         */
+        private final Outcome<T> outcome;
+
+        /**
+         * The first key, inclusive.
+         */
+        private final long low;
+
+        /**
+         * The last key, exclusive.
+         */
+        private final long high;
+
+        /**
+         * The result, when it's done.
+         */
+        private T value;
+
+        /**
+         * Is it done?
+         */
+        private boolean done;
+
+        /**
+         * Ctor.
+         * @param otc The outcome
+         * @param first The first key, inclusive
+         * @param last The last key, exclusive
+         */
+        Slice(final Outcome<T> otc, final long first, final long last) {
+            this.outcome = otc;
+            this.low = first;
+            this.high = last;
+        }
+
+        @Override
+        public boolean block() {
+            final JdbcSession session = Partitioned.this.session.fork()
+                .sql(Partitioned.this.query);
+            for (final Object arg : Partitioned.this.args) {
+                session.set(arg);
+            }
+            try {
+                this.value = session.set(this.low).set(this.high)
+                    .select(this.outcome);
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            this.done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return this.done;
+        }
+
+        /**
+         * The result.
+         * @return The value
+         */
+        T result() {
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import lombok.ToString;
+
+/**
+ * Stream of a file, bound to a statement.
+ *
+ * <p>The file is opened when the driver starts reading it, not when it's
+ * bound, and is closed as soon as all of it is read, since drivers don't
+ * close streams they are given. So, the file stays closed if the
+ * statement fails before it's executed. If the driver fails in the middle
+ * of the file, it is closed by {@link #release(Statement)}, which
+ * {@link JdbcSession} calls when the statement is executed.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"path", "length", "done"})
+final class PathStream extends InputStream {
+
+    /**
+     * Streams bound to statements which are not executed yet.
+     */
+    private static final ConcurrentMap<Statement, Queue<PathStream>> BOUND =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * The file.
+     */
+    private final transient Path path;
+
+    /**
+     * Its length.
+     */
+    private final transient long length;
+
+    /**
+     * The stream, or NULL if it's not open yet.
+     */
+    private transient InputStream origin;
+
+    /**
+     * Bytes read so far.
+     */
+    private transient long done;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param size Its length
+     */
+    PathStream(final Path file, final long size) {
+        super();
+        this.path = file;
+        this.length = size;
+    }
+
+    /**
+     * Bind the file to the statement.
+     * @param stmt The statement
+     * @param pos Position of the argument
+     * @param file The file
+     * @throws SQLException If fails
+     */
+    static void bind(final PreparedStatement stmt, final int pos,
+        final Path file) throws SQLException {
+        final long size;
+        try {
+            size = Files.size(file);
+        } catch (final IOException ex) {
+            throw new SQLException(
+                String.format("Can't read the size of %s", file), ex
+            );
+        }
+        final PathStream stream = new PathStream(file, size);
+        PathStream.BOUND.computeIfAbsent(
+            stmt, key -> new ConcurrentLinkedQueue<>()
+        ).add(stream);
+        stmt.setBinaryStream(pos, stream, size);
+    }
+
+    /**
+     * Close files bound to the statement, which is executed.
+     * @param stmt The statement
+     * @throws SQLException If fails to close
+     */
+    static void release(final Statement stmt) throws SQLException {
+        if (!PathStream.BOUND.isEmpty()) {
+            final Queue<PathStream> streams = PathStream.BOUND.remove(stmt);
+            if (streams != null) {
+                try {
+                    for (final PathStream stream : streams) {
+                        stream.close();
+                    }
+                } catch (final IOException ex) {
+                    throw new SQLException("Can't close the file", ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] one = new byte[1];
+        final int read = this.read(one, 0, 1);
+        final int result;
+        if (read < 0) {
+            result = -1;
+        } else {
+            result = one[0] & 0xff;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        int read = -1;
+        if (this.done < this.length) {
+            if (this.origin == null) {
+                this.origin = Files.newInputStream(this.path);
+            }
+            read = this.origin.read(
+                buf, off, (int) Math.min(len, this.length - this.done)
+            );
+            if (read > 0) {
+                this.done += read;
+            }
+        }
+        if (read < 0 || this.done >= this.length) {
+            this.close();
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.done = this.length;
+        if (this.origin != null) {
+            this.origin.close();
+        }
+    }
+}
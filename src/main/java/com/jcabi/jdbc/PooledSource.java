@@ -0,0 +1,662 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import lombok.ToString;
+
+/**
+ * Data source with a pool of connections.
+ *
+ * <p>Use it instead of {@link UrlSource}, when you don't want to open
+ * a new connection for every {@link JdbcSession} call:</p>
+ *
+ * <pre> PooledSource source = new PooledSource("jdbc:h2:mem:foo", 2, 10);
+ * String name = new JdbcSession(source)
+ *   .sql("SELECT name FROM foo WHERE id = ?")
+ *   .set(123)
+ *   .select(new SingleOutcome&lt;&gt;(String.class));
+ * source.close();</pre>
+ *
+ * <p>Connections returned by {@link #getConnection()} go back to the pool
+ * when closed, with their auto-commit, read-only and isolation settings
+ * restored and an open transaction, if any, rolled back. Statements the
+ * borrower left open are closed then too, together with their result sets,
+ * so that cursors don't pile up on the server across borrowers. Idle connections
+ * are validated in background, on a timer, not on every checkout; the ones
+ * idle for too long are closed, unless the pool is at its minimum size.
+ * Checkout doesn't lock: it takes a permit and the most recently used idle
+ * connection. When all {@code max} connections are busy, it waits up to
+ * thirty seconds and then fails.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"origin", "min", "max", "total", "errors"})
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.CloseResource"})
+public final class PooledSource implements DataSource, AutoCloseable {
+
+    /**
+     * How long to wait for a free connection, in milliseconds.
+     */
+    private static final long WAIT = TimeUnit.SECONDS.toMillis(30L);
+
+    /**
+     * How long to wait for validation of a connection, in seconds.
+     */
+    private static final int VALIDATION = 5;
+
+    /**
+     * How many statements a connection tracks before the closed ones
+     * are forgotten.
+     */
+    private static final int TRACKED = 64;
+
+    /**
+     * Where new connections come from.
+     */
+    private final transient DataSource origin;
+
+    /**
+     * Minimum amount of connections.
+     */
+    private final transient int min;
+
+    /**
+     * Maximum amount of connections.
+     */
+    private final transient int max;
+
+    /**
+     * Idle time after which connections are closed, in milliseconds.
+     */
+    private final transient long idle;
+
+    /**
+     * How often to validate idle connections, in milliseconds.
+     */
+    private final transient long period;
+
+    /**
+     * Permits to check out connections.
+     */
+    private final transient Semaphore permits;
+
+    /**
+     * Idle connections, the most recently used first.
+     */
+    private final transient Deque<PooledSource.Entry> free;
+
+    /**
+     * Total amount of connections open, idle and busy.
+     */
+    private final transient AtomicInteger total;
+
+    /**
+     * Timer of validation, started on first checkout.
+     */
+    private final transient AtomicReference<ScheduledExecutorService> timer;
+
+    /**
+     * Is the pool closed?
+     */
+    private final transient AtomicBoolean closed;
+
+    /**
+     * Failures in background, while validating and opening connections.
+     */
+    private final transient AtomicInteger errors;
+
+    /**
+     * Public ctor, with up to eight connections.
+     * @param jdbc The JDBC URL
+     */
+    public PooledSource(final String jdbc) {
+        this(jdbc, 0, 8);
+    }
+
+    /**
+     * Public ctor.
+     * @param jdbc The JDBC URL
+     * @param least Minimum amount of connections
+     * @param most Maximum amount of connections
+     */
+    public PooledSource(final String jdbc, final int least, final int most) {
+        this(new UrlSource(jdbc), least, most);
+    }
+
+    /**
+     * Public ctor, which closes connections idle for ten minutes and
+     * validates idle connections every thirty seconds.
+     * @param src Data source to get new connections from
+     * @param least Minimum amount of connections
+     * @param most Maximum amount of connections
+     */
+    public PooledSource(final DataSource src, final int least, final int most) {
+        this(
+            src, least, most,
+            TimeUnit.MINUTES.toMillis(10L), TimeUnit.SECONDS.toMillis(30L)
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param src Data source to get new connections from
+     * @param least Minimum amount of connections
+     * @param most Maximum amount of connections
+     * @param expire Idle time after which connections are closed, in msec
+     * @param every How often to validate idle connections, in msec
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    public PooledSource(final DataSource src, final int least, final int most,
+        final long expire, final long every) {
+        if (least < 0 || most < 1 || least > most) {
+            throw new IllegalArgumentException(
+                String.format("Invalid pool size: min=%d, max=%d", least, most)
+            );
+        }
+        this.origin = src;
+        this.min = least;
+        this.max = most;
+        this.idle = expire;
+        this.period = every;
+        this.permits = new Semaphore(most);
+        this.free = new ConcurrentLinkedDeque<>();
+        this.total = new AtomicInteger();
+        this.timer = new AtomicReference<>();
+        this.closed = new AtomicBoolean();
+        this.errors = new AtomicInteger();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("The pool is closed");
+        }
+        this.start();
+        try {
+            if (!this.permits.tryAcquire(PooledSource.WAIT, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException(
+                    String.format(
+                        "All %d connections are busy for %d ms",
+                        this.max, PooledSource.WAIT
+                    )
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        PooledSource.Entry entry = this.free.pollFirst();
+        if (entry == null) {
+            boolean created = false;
+            try {
+                entry = this.create();
+                created = true;
+            } finally {
+                if (!created) {
+                    this.permits.release();
+                }
+            }
+        }
+        return (Connection) Proxy.newProxyInstance(
+            PooledSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            new PooledSource.Handle(entry)
+        );
+    }
+
+    @Override
+    public Connection getConnection(final String username,
+        final String password) throws SQLException {
+        return this.getConnection();
+    }
+
+    /**
+     * Maximum number of connections open at the same time.
+     * @return Capacity of the pool
+     */
+    public int capacity() {
+        return this.max;
+    }
+
+    /**
+     * Close all idle connections and stop validation. Busy
+     * connections are closed when they are returned.
+     * @throws SQLException If fails to close some connection
+     */
+    @Override
+    public void close() throws SQLException {
+        if (this.closed.compareAndSet(false, true)) {
+            final ScheduledExecutorService svc = this.timer.get();
+            if (svc != null) {
+                svc.shutdownNow();
+            }
+            for (PooledSource.Entry entry = this.free.pollFirst(); entry != null;
+                entry = this.free.pollFirst()) {
+                this.discard(entry);
+            }
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        throw new UnsupportedOperationException("#getLogWriter()");
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter writer) {
+        throw new UnsupportedOperationException("#setLogWriter()");
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) {
+        throw new UnsupportedOperationException("#setLoginTimeout()");
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        throw new UnsupportedOperationException("#getLoginTimeout()");
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        throw new UnsupportedOperationException("#getParentLogger()");
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) {
+        throw new UnsupportedOperationException("#unwrap()");
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        throw new UnsupportedOperationException("#isWrapperFor()");
+    }
+
+    /**
+     * Start the timer, if it's not started yet.
+     *
+     * <p>The pool is filled up to the minimum right away, while the first
+     * validation happens only after one period.</p>
+     */
+    private void start() {
+        if (this.timer.get() == null) {
+            final ScheduledExecutorService svc =
+                Executors.newSingleThreadScheduledExecutor(
+                    task -> {
+                        final Thread thread = new Thread(task, "jcabi-jdbc-pool");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+            if (this.timer.compareAndSet(null, svc)) {
+                svc.execute(this::fill);
+                svc.scheduleWithFixedDelay(
+                    this::maintain, this.period, this.period,
+                    TimeUnit.MILLISECONDS
+                );
+            } else {
+                svc.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Validate idle connections, close expired ones, and open new ones
+     * up to the minimum.
+     *
+     * <p>It runs in the background, that's why failures are not
+     * thrown, but only counted: broken connections are closed and
+     * the next round will try again to open new ones.</p>
+     *
+     * <p>Only connections idle at the start are checked, each of them
+     * once, from the most recently used to the oldest one. A connection
+     * being checked is out of the pool, like a busy one, and holds
+     * a permit, so that checkouts meanwhile neither take it nor open
+     * connections over the maximum. The healthy one goes back right
+     * away, to the tail. The pass stops when all permits are taken.</p>
+     */
+    void maintain() {
+        final long now = System.currentTimeMillis();
+        for (final PooledSource.Entry entry : new ArrayList<>(this.free)) {
+            if (!this.permits.tryAcquire()) {
+                break;
+            }
+            try {
+                if (this.free.remove(entry)) {
+                    this.check(entry, now);
+                }
+            } finally {
+                this.permits.release();
+            }
+        }
+        this.fill();
+    }
+
+    /**
+     * Close the connection, if it's expired or broken, otherwise put
+     * it back to the pool.
+     * @param entry The entry, taken out of the pool
+     * @param now Current time, in milliseconds
+     */
+    private void check(final PooledSource.Entry entry, final long now) {
+        if (this.total.get() > this.min && now - entry.used > this.idle
+            || !entry.valid()) {
+            this.drop(entry);
+        } else {
+            this.free.offerLast(entry);
+        }
+    }
+
+    /**
+     * Open new connections up to the minimum, each one under a permit,
+     * so that the maximum is never exceeded.
+     */
+    private void fill() {
+        boolean alive = true;
+        while (alive && !this.closed.get() && this.total.get() < this.min
+            && this.permits.tryAcquire()) {
+            try {
+                this.free.offerLast(this.create());
+            } catch (final SQLException | IllegalArgumentException ex) {
+                this.errors.incrementAndGet();
+                alive = false;
+            } finally {
+                this.permits.release();
+            }
+        }
+    }
+
+    /**
+     * Close the connection for good, counting the failure, if any.
+     * @param entry The entry
+     */
+    private void drop(final PooledSource.Entry entry) {
+        try {
+            this.discard(entry);
+        } catch (final SQLException ex) {
+            this.errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Open a new connection.
+     * @return Entry
+     * @throws SQLException If fails
+     */
+    private PooledSource.Entry create() throws SQLException {
+        final PooledSource.Entry entry =
+            new PooledSource.Entry(this.origin.getConnection());
+        this.total.incrementAndGet();
+        return entry;
+    }
+
+    /**
+     * Take the connection back.
+     * @param entry The entry
+     * @throws SQLException If fails to close a broken connection
+     */
+    private void release(final PooledSource.Entry entry) throws SQLException {
+        try {
+            if (this.closed.get() || this.total.get() > this.max
+                || !entry.reset()) {
+                this.discard(entry);
+            } else {
+                this.free.offerFirst(entry);
+            }
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Close the connection for good, without returning it.
+     * @param entry The entry
+     * @throws SQLException If fails
+     */
+    private void abandon(final PooledSource.Entry entry) throws SQLException {
+        try {
+            this.discard(entry);
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Close the connection for good.
+     * @param entry The entry
+     * @throws SQLException If fails
+     */
+    private void discard(final PooledSource.Entry entry) throws SQLException {
+        this.total.decrementAndGet();
+        entry.conn.close();
+    }
+
+    /**
+     * Pooled connection with its original state.
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * The connection.
+         */
+        private final Connection conn;
+
+        /**
+         * Original auto-commit mode.
+         */
+        private final boolean auto;
+
+        /**
+         * Original read-only mode.
+         */
+        private final boolean readonly;
+
+        /**
+         * Original transaction isolation.
+         */
+        private final int isolation;
+
+        /**
+         * When it was used the last time.
+         */
+        private volatile long used;
+
+        /**
+         * Ctor.
+         * @param cnx The connection
+         * @throws SQLException If fails
+         */
+        Entry(final Connection cnx) throws SQLException {
+            this.conn = cnx;
+            this.auto = cnx.getAutoCommit();
+            this.readonly = cnx.isReadOnly();
+            this.isolation = cnx.getTransactionIsolation();
+            this.used = System.currentTimeMillis();
+        }
+
+        /**
+         * Is it still alive?
+         * @return TRUE if it is
+         */
+        boolean valid() {
+            boolean alive;
+            try {
+                alive = this.conn.isValid(PooledSource.VALIDATION);
+            } catch (final SQLException ex) {
+                alive = false;
+            }
+            return alive;
+        }
+
+        /**
+         * Restore the original state of the connection.
+         * @return TRUE if restored, FALSE if the connection is broken
+         */
+        boolean reset() {
+            boolean done;
+            try {
+                if (!this.conn.getAutoCommit()) {
+                    this.conn.rollback();
+                }
+                if (this.conn.getAutoCommit() != this.auto) {
+                    this.conn.setAutoCommit(this.auto);
+                }
+                if (this.conn.isReadOnly() != this.readonly) {
+                    this.conn.setReadOnly(this.readonly);
+                }
+                if (this.conn.getTransactionIsolation() != this.isolation) {
+                    this.conn.setTransactionIsolation(this.isolation);
+                }
+                this.conn.clearWarnings();
+                this.used = System.currentTimeMillis();
+                done = true;
+            } catch (final SQLException ex) {
+                done = false;
+            }
+            return done;
+        }
+    }
+
+    /**
+     * Connection handed out by the pool, which goes back to it
+     * when closed.
+     * @since 1.0
+     */
+    private final class Handle implements InvocationHandler {
+
+        /**
+         * The entry.
+         */
+        private final PooledSource.Entry entry;
+
+        /**
+         * Is it closed already?
+         */
+        private final AtomicBoolean done;
+
+        /**
+         * Statements created through it, which may still be open.
+         */
+        private final Collection<Statement> statements;
+
+        /**
+         * Ctor.
+         * @param ntr The entry
+         */
+        Handle(final PooledSource.Entry ntr) {
+            this.entry = ntr;
+            this.done = new AtomicBoolean();
+            this.statements = new ArrayList<>(0);
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+        public Object invoke(final Object proxy, final Method method,
+            final Object[] args) throws Throwable {
+            final String name = method.getName();
+            final Object result;
+            if ("close".equals(name)) {
+                if (this.done.compareAndSet(false, true)) {
+                    this.sweep();
+                    PooledSource.this.release(this.entry);
+                }
+                result = null;
+            } else if ("abort".equals(name)) {
+                if (this.done.compareAndSet(false, true)) {
+                    PooledSource.this.abandon(this.entry);
+                }
+                result = null;
+            } else if ("isClosed".equals(name)) {
+                result = this.done.get();
+            } else if ("isValid".equals(name) && this.done.get()) {
+                result = false;
+            } else if ("equals".equals(name)) {
+                result = proxy == args[0];
+            } else if ("hashCode".equals(name)) {
+                result = System.identityHashCode(proxy);
+            } else if ("toString".equals(name)) {
+                result = String.format("pooled %s", this.entry.conn);
+            } else if (this.done.get()) {
+                throw new SQLException("The connection is closed");
+            } else {
+                try {
+                    result = method.invoke(this.entry.conn, args);
+                } catch (final InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+                if (result instanceof Statement) {
+                    this.track((Statement) result);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Remember the statement, to close it when the connection is
+         * returned, forgetting the ones closed already from time to time.
+         * @param stmt The statement
+         * @throws SQLException If fails
+         */
+        private void track(final Statement stmt) throws SQLException {
+            synchronized (this.statements) {
+                if (this.statements.size() % PooledSource.TRACKED == 0) {
+                    final Collection<Statement> open = new ArrayList<>(
+                        this.statements.size()
+                    );
+                    for (final Statement item : this.statements) {
+                        if (!item.isClosed()) {
+                            open.add(item);
+                        }
+                    }
+                    this.statements.clear();
+                    this.statements.addAll(open);
+                }
+                this.statements.add(stmt);
+            }
+        }
+
+        /**
+         * Close statements the borrower left open, counting failures.
+         */
+        private void sweep() {
+            synchronized (this.statements) {
+                for (final Statement stmt : this.statements) {
+                    try {
+                        stmt.close();
+                    } catch (final SQLException ex) {
+                        PooledSource.this.errors.incrementAndGet();
+                    }
+                }
+                this.statements.clear();
+            }
+        }
+    }
+}
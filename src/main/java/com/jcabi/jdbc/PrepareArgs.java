@@ -4,14 +4,15 @@
  */
 package com.jcabi.jdbc;
 
-import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.util.Collection;
 
 /**
  * Prepare arguments.
+ *
+ * <p>Every argument is bound by its {@link Binder}, see {@link Binders}.</p>
+ *
  * @since 0.13
  */
 final class PrepareArgs implements Preparation {
@@ -21,37 +22,34 @@ final class PrepareArgs implements Preparation {
      */
     private final transient Collection<Object> args;
 
+    /**
+     * Binders.
+     */
+    private final transient Binders binders;
+
     /**
      * Ctor.
      * @param arguments Arguments
      */
     PrepareArgs(final Collection<Object> arguments) {
+        this(arguments, Binders.DEFAULT);
+    }
+
+    /**
+     * Ctor.
+     * @param arguments Arguments
+     * @param bnd Binders
+     */
+    PrepareArgs(final Collection<Object> arguments, final Binders bnd) {
         this.args = arguments;
+        this.binders = bnd;
     }
 
     @Override
     public void prepare(final PreparedStatement stmt) throws SQLException {
         int pos = 1;
         for (final Object arg : this.args) {
-            if (arg == null) {
-                stmt.setNull(pos, Types.NULL);
-            } else if (arg instanceof Long) {
-                stmt.setLong(pos, Long.class.cast(arg));
-            } else if (arg instanceof Boolean) {
-                stmt.setBoolean(pos, Boolean.class.cast(arg));
-            } else if (arg instanceof Date) {
-                stmt.setDate(pos, Date.class.cast(arg));
-            } else if (arg instanceof Integer) {
-                stmt.setInt(pos, Integer.class.cast(arg));
-            } else if (arg instanceof Utc) {
-                Utc.class.cast(arg).setTimestamp(stmt, pos);
-            } else if (arg instanceof Float) {
-                stmt.setFloat(pos, Float.class.cast(arg));
-            } else if (arg instanceof byte[]) {
-                stmt.setBytes(pos, byte[].class.cast(arg));
-            } else {
-                stmt.setObject(pos, arg);
-            }
+            this.binders.bind(stmt, pos, arg);
             ++pos;
         }
     }
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Mapping of a row to a Java record, or to a constructor of a class.
+ *
+ * <p>The constructor is called with values of the columns which match its
+ * parameters by name (or by position, if names are not available
+ * in runtime), read by the getters matching parameter types:</p>
+ *
+ * <pre> record User(long id, String firstName) { }
+ * Stream&lt;User&gt; users = new JdbcSession(source)
+ *   .sql("SELECT id, first_name FROM user")
+ *   .stream(new RecordMapping&lt;&gt;(User.class));</pre>
+ *
+ * <p>The binding of columns to parameters is resolved once per
+ * {@link ResultSet}, using its {@link java.sql.ResultSetMetaData}, and is
+ * compiled to a {@link MethodHandle}, which is cached per class and
+ * columns. There is no reflection when rows are mapped. The result set
+ * is referenced weakly, so that it is not kept in memory by the
+ * mapping.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+@ToString(of = "type")
+@EqualsAndHashCode(of = "type")
+public final class RecordMapping<T> implements Outcome.Mapping<T> {
+
+    /**
+     * The type.
+     */
+    private final Class<T> type;
+
+    /**
+     * The plan.
+     */
+    private final transient RecordPlan plan;
+
+    /**
+     * The plan of the last result set.
+     */
+    private final transient AtomicReference<RecordMapping.Bound> last;
+
+    /**
+     * Public ctor.
+     * @param cls The type to create
+     */
+    public RecordMapping(final Class<T> cls) {
+        this.type = cls;
+        this.plan = new RecordPlan(cls);
+        this.last = new AtomicReference<>(new RecordMapping.Bound(null, null));
+    }
+
+    @Override
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "PMD.AvoidRethrowingException"})
+    public T map(final ResultSet rset) throws SQLException {
+        RecordMapping.Bound bound = this.last.get();
+        if (bound.rset.get() != rset) {
+            bound = new RecordMapping.Bound(rset, this.plan.handle(rset));
+            this.last.set(bound);
+        }
+        try {
+            return this.type.cast(bound.handle.invokeExact(rset));
+        } catch (final SQLException | RuntimeException | Error ex) {
+            throw ex;
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            throw new SQLException(ex);
+        }
+    }
+
+    /**
+     * Plan bound to a result set.
+     * @since 1.0
+     */
+    private static final class Bound {
+
+        /**
+         * The result set.
+         */
+        private final WeakReference<ResultSet> rset;
+
+        /**
+         * The plan, of the type {@code (ResultSet)Object}.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * Ctor.
+         * @param result The result set
+         * @param plan The plan
+         */
+        Bound(final ResultSet result, final MethodHandle plan) {
+            this.rset = new WeakReference<>(result);
+            this.handle = plan;
+        }
+    }
+}
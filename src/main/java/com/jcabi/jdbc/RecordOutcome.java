@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Outcome that returns a list of Java records, or other objects
+ * created by their constructors.
+ *
+ * <p>Use it instead of {@link ListOutcome}, when the mapping
+ * is just a constructor call:</p>
+ *
+ * <pre> record User(long id, String name) { }
+ * List&lt;User&gt; users = new JdbcSession(source)
+ *   .sql("SELECT id, name FROM user")
+ *   .select(new RecordOutcome&lt;&gt;(User.class));</pre>
+ *
+ * <p>See {@link RecordMapping} for details of how columns are bound
+ * to parameters of the constructor.</p>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class RecordOutcome<T> implements Outcome<List<T>> {
+
+    /**
+     * Outcome to delegate to.
+     */
+    private final ListOutcome<T> origin;
+
+    /**
+     * Public ctor.
+     * @param type The type to create
+     */
+    public RecordOutcome(final Class<T> type) {
+        this.origin = new ListOutcome<>(new RecordMapping<>(type));
+    }
+
+    @Override
+    public List<T> handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        return this.origin.handle(rset, stmt);
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Plan of mapping a row of a {@link ResultSet} to a constructor of a class.
+ *
+ * <p>The plan is a single {@link MethodHandle}, which reads every column
+ * with the getter that matches the type of the constructor parameter,
+ * like {@link ResultSet#getLong(int)} for {@code long}, and calls the
+ * constructor. There is no reflection when rows are mapped.</p>
+ *
+ * <p>Parameters are bound to columns by name, if names are known, which is
+ * the case for Java records and for classes compiled with
+ * {@code -parameters}: the column {@code first_name} matches the parameter
+ * {@code firstName}. If some parameter has no column with its name,
+ * the plan fails, since binding by position would silently put values
+ * of renamed columns into wrong parameters. Parameters are bound by
+ * position only when their names are not known.</p>
+ *
+ * <p>Timestamps, {@link java.util.Date} and {@link Instant} are read
+ * in UTC, as {@link Utc} and {@link DefaultMappings} read them.</p>
+ *
+ * <p>Plans are cached per class and per list of column labels, which is
+ * what identifies the query for the plan, since outcomes don't see
+ * the SQL.</p>
+ *
+ * @since 1.0
+ */
+final class RecordPlan {
+
+    /**
+     * Plans of every class, by column labels.
+     */
+    private static final ClassValue<ConcurrentMap<String, MethodHandle>> PLANS =
+        new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+            @Override
+            protected ConcurrentMap<String, MethodHandle> computeValue(
+                final Class<?> type) {
+                return new ConcurrentHashMap<>(0);
+            }
+        };
+
+    /**
+     * Getters of {@link ResultSet}, by type, with the signature
+     * {@code (ResultSet, int)}.
+     */
+    private static final Map<Class<?>, MethodHandle> GETTERS =
+        RecordPlan.getters();
+
+    /**
+     * The type to create.
+     */
+    private final transient Class<?> type;
+
+    /**
+     * Ctor.
+     * @param cls The type to create
+     */
+    RecordPlan(final Class<?> cls) {
+        this.type = cls;
+    }
+
+    /**
+     * Get the plan for this result set.
+     * @param rset The result set
+     * @return Method handle of the type {@code (ResultSet)Object}
+     * @throws SQLException If fails
+     */
+    MethodHandle handle(final ResultSet rset) throws SQLException {
+        final ResultSetMetaData meta = rset.getMetaData();
+        final String[] labels = new String[meta.getColumnCount()];
+        for (int idx = 0; idx < labels.length; ++idx) {
+            labels[idx] = meta.getColumnLabel(idx + 1);
+        }
+        final ConcurrentMap<String, MethodHandle> plans =
+            RecordPlan.PLANS.get(this.type);
+        final String key = String.join(",", labels);
+        MethodHandle plan = plans.get(key);
+        if (plan == null) {
+            plan = this.compile(labels);
+            plans.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Compile the plan.
+     * @param labels Column labels
+     * @return Method handle of the type {@code (ResultSet)Object}
+     * @throws SQLException If the class doesn't match the columns
+     */
+    private MethodHandle compile(final String[] labels) throws SQLException {
+        final Constructor<?> ctor = this.constructor();
+        final Class<?>[] types = ctor.getParameterTypes();
+        final String[] names = this.names(ctor);
+        final Map<String, Integer> columns = new HashMap<>(labels.length << 1);
+        for (int idx = labels.length; idx > 0; --idx) {
+            columns.put(RecordPlan.normal(labels[idx - 1]), idx);
+        }
+        final int[] positions = this.positions(names, columns, labels);
+        final MethodHandle[] getters = new MethodHandle[types.length];
+        for (int idx = 0; idx < types.length; ++idx) {
+            final int column;
+            if (positions.length == 0) {
+                column = idx + 1;
+            } else {
+                column = positions[idx];
+            }
+            if (column > labels.length) {
+                throw new SQLException(
+                    String.format(
+                        "No column for parameter #%d%s of %s among %s",
+                        idx, RecordPlan.named(names, idx), this.type.getName(),
+                        Arrays.toString(labels)
+                    )
+                );
+            }
+            getters[idx] = RecordPlan.getter(types[idx], column);
+        }
+        try {
+            if (!Modifier.isPublic(ctor.getModifiers())
+                || !Modifier.isPublic(this.type.getModifiers())) {
+                ctor.setAccessible(true);
+            }
+            return MethodHandles.permuteArguments(
+                MethodHandles.filterArguments(
+                    MethodHandles.lookup().unreflectConstructor(ctor),
+                    0, getters
+                ),
+                MethodType.methodType(this.type, ResultSet.class),
+                new int[types.length]
+            ).asType(MethodType.methodType(Object.class, ResultSet.class));
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't access constructor of %s", this.type),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Find the constructor: the canonical one of a record, or the public
+     * one with the most parameters.
+     * @return The constructor
+     */
+    private Constructor<?> constructor() {
+        final Constructor<?> ctor;
+        final Object[] components = RecordPlan.components(this.type);
+        if (components.length > 0) {
+            final Class<?>[] types = new Class<?>[components.length];
+            for (int idx = 0; idx < types.length; ++idx) {
+                types[idx] = (Class<?>) RecordPlan.call(components[idx], "getType");
+            }
+            try {
+                ctor = this.type.getDeclaredConstructor(types);
+            } catch (final NoSuchMethodException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+        } else {
+            Constructor<?>[] all = this.type.getConstructors();
+            if (all.length == 0) {
+                all = this.type.getDeclaredConstructors();
+            }
+            ctor = Arrays.stream(all)
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow(
+                    () -> new IllegalArgumentException(
+                        String.format("No constructors in %s", this.type)
+                    )
+                );
+        }
+        return ctor;
+    }
+
+    /**
+     * Names of constructor parameters, if they are known.
+     * @param ctor The constructor
+     * @return Names, or an empty array if they are not known
+     */
+    private String[] names(final Constructor<?> ctor) {
+        final Object[] components = RecordPlan.components(this.type);
+        String[] names = new String[components.length];
+        for (int idx = 0; idx < names.length; ++idx) {
+            names[idx] = (String) RecordPlan.call(components[idx], "getName");
+        }
+        if (names.length == 0) {
+            final Parameter[] params = ctor.getParameters();
+            if (params.length > 0 && params[0].isNamePresent()) {
+                names = Arrays.stream(params)
+                    .map(Parameter::getName)
+                    .toArray(String[]::new);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Positions of columns matching parameters by name.
+     * @param names Names of parameters, maybe empty
+     * @param columns Positions of columns, by normalized labels
+     * @param labels Column labels
+     * @return Positions, or an empty array, if names are not known
+     * @throws SQLException If some name doesn't match
+     */
+    private int[] positions(final String[] names,
+        final Map<String, Integer> columns, final String[] labels)
+        throws SQLException {
+        final int[] positions = new int[names.length];
+        for (int idx = 0; idx < names.length; ++idx) {
+            final Integer column = columns.get(RecordPlan.normal(names[idx]));
+            if (column == null) {
+                throw new SQLException(
+                    String.format(
+                        "No column for parameter #%d%s of %s among %s",
+                        idx, RecordPlan.named(names, idx), this.type.getName(),
+                        Arrays.toString(labels)
+                    )
+                );
+            }
+            positions[idx] = column;
+        }
+        return positions;
+    }
+
+    /**
+     * Getter of a column of the given type.
+     * @param type Java type
+     * @param column Column position
+     * @return Method handle of the type {@code (ResultSet)type}
+     */
+    private static MethodHandle getter(final Class<?> type, final int column) {
+        MethodHandle getter = RecordPlan.GETTERS.get(type);
+        final MethodHandle bound;
+        if (getter == null) {
+            getter = RecordPlan.GETTERS.get(Object.class);
+            bound = MethodHandles.insertArguments(
+                getter, 1, column, MethodType.methodType(type).wrap().returnType()
+            );
+        } else {
+            bound = MethodHandles.insertArguments(getter, 1, column);
+        }
+        return bound.asType(MethodType.methodType(type, ResultSet.class));
+    }
+
+    /**
+     * All getters of {@link ResultSet} we know.
+     * @return Map of them
+     */
+    private static Map<Class<?>, MethodHandle> getters() {
+        final Map<Class<?>, MethodHandle> map = new HashMap<>(0);
+        final Object[][] pairs = {
+            {long.class, "getLong", long.class},
+            {int.class, "getInt", int.class},
+            {double.class, "getDouble", double.class},
+            {float.class, "getFloat", float.class},
+            {short.class, "getShort", short.class},
+            {byte.class, "getByte", byte.class},
+            {boolean.class, "getBoolean", boolean.class},
+            {String.class, "getString", String.class},
+            {BigDecimal.class, "getBigDecimal", BigDecimal.class},
+            {byte[].class, "getBytes", byte[].class},
+            {java.sql.Date.class, "getDate", java.sql.Date.class},
+            {Time.class, "getTime", Time.class},
+        };
+        try {
+            for (final Object[] pair : pairs) {
+                map.put(
+                    (Class<?>) pair[0],
+                    MethodHandles.publicLookup().findVirtual(
+                        ResultSet.class, (String) pair[1],
+                        MethodType.methodType((Class<?>) pair[2], int.class)
+                    )
+                );
+            }
+            final MethodType utc = MethodType.methodType(
+                Object.class, ResultSet.class, int.class
+            );
+            map.put(
+                Timestamp.class,
+                MethodHandles.lookup().findStatic(
+                    RecordPlan.class, "stamp",
+                    utc.changeReturnType(Timestamp.class)
+                )
+            );
+            map.put(
+                java.util.Date.class,
+                MethodHandles.lookup().findStatic(
+                    Utc.class, "getTimestamp",
+                    utc.changeReturnType(java.util.Date.class)
+                )
+            );
+            map.put(
+                Instant.class,
+                MethodHandles.lookup().findStatic(
+                    Utc.class, "instant", utc.changeReturnType(Instant.class)
+                )
+            );
+            map.put(
+                Object.class,
+                MethodHandles.publicLookup().findVirtual(
+                    ResultSet.class, "getObject",
+                    MethodType.methodType(Object.class, int.class, Class.class)
+                )
+            );
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return map;
+    }
+
+    /**
+     * Read the timestamp in UTC.
+     * @param rset The result set
+     * @param pos Position in the result set
+     * @return The timestamp, or NULL
+     * @throws SQLException If fails
+     */
+    private static Timestamp stamp(final ResultSet rset, final int pos)
+        throws SQLException {
+        final Instant instant = Utc.instant(rset, pos);
+        Timestamp stamp = null;
+        if (instant != null) {
+            stamp = Timestamp.from(instant);
+        }
+        return stamp;
+    }
+
+    /**
+     * Components of a record, through reflection, since records
+     * are not available in all JDKs we support.
+     * @param type The class
+     * @return Components, or an empty array, if it's not a record
+     */
+    private static Object[] components(final Class<?> type) {
+        Object[] components = new Object[0];
+        try {
+            final Method method = Class.class.getMethod("getRecordComponents");
+            final Object result = method.invoke(type);
+            if (result != null) {
+                components = (Object[]) result;
+            }
+        } catch (final NoSuchMethodException ex) {
+            components = new Object[0];
+        } catch (final IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return components;
+    }
+
+    /**
+     * Call a no-args public method.
+     * @param obj The object
+     * @param name Name of the method
+     * @return The result
+     */
+    private static Object call(final Object obj, final String name) {
+        try {
+            return obj.getClass().getMethod(name).invoke(obj);
+        } catch (final NoSuchMethodException | IllegalAccessException
+            | InvocationTargetException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Normalize the name, so that {@code first_name} and {@code firstName}
+     * are the same.
+     * @param name The name
+     * @return Normalized name
+     */
+    private static String normal(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * The name of a parameter, for error messages.
+     * @param names All names
+     * @param idx Position
+     * @return Name in quotes or empty string
+     */
+    private static String named(final String[] names, final int idx) {
+        final String name;
+        if (names.length == 0) {
+            name = "";
+        } else {
+            name = String.format(" '%s'", names[idx]);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import lombok.ToString;
+
+/**
+ * Data source of a primary database and its read replicas.
+ *
+ * <p>Give it to {@link JdbcSession} instead of the data source of the
+ * primary, and {@link JdbcSession#select(Outcome)} outside of
+ * a transaction goes to one of the replicas, while everything else,
+ * including all calls inside {@code autocommit(false)}, goes to
+ * the primary:</p>
+ *
+ * <pre> DataSource source = new ReplicatedSource(
+ *   primary, replica1, replica2
+ * );
+ * long total = new JdbcSession(source)
+ *   .sql("SELECT COUNT(*) FROM user")
+ *   .selectLong();</pre>
+ *
+ * <p>The replica with the least connections open at the moment is
+ * taken, and replicas with the same number of them take turns. If the
+ * replica fails to give a connection, the primary is used.</p>
+ *
+ * <p>Replicas usually lag behind the primary. If a session has to read
+ * what it has just written, see {@link JdbcSession#sticky(long)}.</p>
+ *
+ * <p>{@link #getConnection()} always returns a connection to
+ * the primary.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"primary", "replicas"})
+public final class ReplicatedSource implements DataSource {
+
+    /**
+     * The primary.
+     */
+    private final transient DataSource primary;
+
+    /**
+     * Read replicas.
+     */
+    private final transient DataSource[] replicas;
+
+    /**
+     * Connections open to every replica.
+     */
+    private final transient AtomicIntegerArray busy;
+
+    /**
+     * The replica to start looking from, for round-robin.
+     */
+    private final transient AtomicInteger next;
+
+    /**
+     * Public ctor.
+     * @param main The primary
+     * @param reps Read replicas
+     */
+    public ReplicatedSource(final DataSource main, final DataSource... reps) {
+        this.primary = main;
+        this.replicas = Arrays.copyOf(reps, reps.length);
+        this.busy = new AtomicIntegerArray(reps.length);
+        this.next = new AtomicInteger();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return this.primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username,
+        final String password) throws SQLException {
+        return this.primary.getConnection(username, password);
+    }
+
+    /**
+     * How many connections to this replica are open now.
+     * @param idx Position of the replica
+     * @return Number of connections
+     */
+    public int busy(final int idx) {
+        return this.busy.get(idx);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        throw new UnsupportedOperationException("#getLogWriter()");
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter writer) {
+        throw new UnsupportedOperationException("#setLogWriter()");
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) {
+        throw new UnsupportedOperationException("#setLoginTimeout()");
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        throw new UnsupportedOperationException("#getLoginTimeout()");
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        throw new UnsupportedOperationException("#getParentLogger()");
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) {
+        throw new UnsupportedOperationException("#unwrap()");
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        throw new UnsupportedOperationException("#isWrapperFor()");
+    }
+
+    /**
+     * Get a connection for reading.
+     * @return Connection to a replica, or to the primary, if there are
+     *  no replicas or the replica fails
+     * @throws SQLException If fails
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    Connection reader() throws SQLException {
+        final int idx = this.least();
+        Connection conn = null;
+        if (idx >= 0) {
+            this.busy.incrementAndGet(idx);
+            try {
+                conn = this.replicas[idx].getConnection();
+            } catch (final SQLException ex) {
+                conn = null;
+            }
+            if (conn == null) {
+                this.busy.decrementAndGet(idx);
+            } else {
+                conn = (Connection) Proxy.newProxyInstance(
+                    ReplicatedSource.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    new ReplicatedSource.Handle(conn, idx)
+                );
+            }
+        }
+        if (conn == null) {
+            conn = this.primary.getConnection();
+        }
+        return conn;
+    }
+
+    /**
+     * Find the replica with the least connections open.
+     * @return Its position, or -1 if there are no replicas
+     */
+    private int least() {
+        final int total = this.replicas.length;
+        int best = -1;
+        if (total > 0) {
+            final int start = Math.floorMod(this.next.getAndIncrement(), total);
+            int min = Integer.MAX_VALUE;
+            for (int step = 0; step < total; ++step) {
+                final int idx = (start + step) % total;
+                final int count = this.busy.get(idx);
+                if (count < min) {
+                    min = count;
+                    best = idx;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Connection to a replica, which is counted until it's closed.
+     * @since 1.0
+     */
+    private final class Handle implements InvocationHandler {
+
+        /**
+         * The connection.
+         */
+        private final Connection conn;
+
+        /**
+         * Position of the replica.
+         */
+        private final int idx;
+
+        /**
+         * Is it closed already?
+         */
+        private final AtomicBoolean done;
+
+        /**
+         * Ctor.
+         * @param cnx The connection
+         * @param pos Position of the replica
+         */
+        Handle(final Connection cnx, final int pos) {
+            this.conn = cnx;
+            this.idx = pos;
+            this.done = new AtomicBoolean();
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+        public Object invoke(final Object proxy, final Method method,
+            final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if (("close".equals(name) || "abort".equals(name))
+                && this.done.compareAndSet(false, true)) {
+                ReplicatedSource.this.busy.decrementAndGet(this.idx);
+            }
+            final Object result;
+            if ("equals".equals(name)) {
+                result = proxy == args[0];
+            } else if ("hashCode".equals(name)) {
+                result = System.identityHashCode(proxy);
+            } else {
+                try {
+                    result = method.invoke(this.conn, args);
+                } catch (final InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+            return result;
+        }
+    }
+}
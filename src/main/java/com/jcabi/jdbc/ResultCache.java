@@ -0,0 +1,358 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Cache of results of {@code SELECT} queries.
+ *
+ * <p>It is opt-in, through {@link JdbcSession#cache(ResultCache)}, and
+ * may be shared by many sessions, even with different data sources.
+ * A result is cached by the data source, the SQL, the
+ * arguments, the {@link Tuning} and the {@link Outcome}, which must
+ * implement {@link Object#equals(Object)}, like all outcomes in this
+ * package do, or be the same object. Results are shared by all readers,
+ * they must not be modified:</p>
+ *
+ * <pre> ResultCache cache = new ResultCache(1000, 5L, TimeUnit.MINUTES);
+ * String name = new JdbcSession(source)
+ *   .cache(cache)
+ *   .sql("SELECT name FROM country WHERE code = ?")
+ *   .set("NL")
+ *   .select(new SingleOutcome&lt;&gt;(String.class));</pre>
+ *
+ * <p>Results expire after some time, and the least recently used ones
+ * are evicted when there are too many of them. They are also invalidated
+ * when {@link JdbcSession} with this cache changes a table the query
+ * reads, see {@link Tables}. Inside a transaction results are not cached
+ * and changes invalidate results again on commit or rollback.
+ * Changes made without this cache, by other sessions or
+ * applications, are not noticed, until results expire.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"max", "ttl"})
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public final class ResultCache {
+
+    /**
+     * Entries, the least recently used first.
+     */
+    private final transient Map<ResultCache.Key, ResultCache.Entry> entries;
+
+    /**
+     * Maximum number of entries.
+     */
+    private final int max;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Version, which changes on every invalidation.
+     */
+    private final transient AtomicLong version;
+
+    /**
+     * Hits.
+     */
+    private final transient AtomicLong hits;
+
+    /**
+     * Misses.
+     */
+    private final transient AtomicLong misses;
+
+    /**
+     * Evictions, because of age or size.
+     */
+    private final transient AtomicLong evictions;
+
+    /**
+     * Invalidations, because of changes.
+     */
+    private final transient AtomicLong invalidations;
+
+    /**
+     * Ctor.
+     * @param size Maximum number of results
+     * @param time How long results live
+     * @param unit Unit of time
+     */
+    public ResultCache(final int size, final long time, final TimeUnit unit) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                String.format("Cache size must be positive: %d", size)
+            );
+        }
+        this.max = size;
+        this.ttl = unit.toNanos(time);
+        this.entries = new LinkedHashMap<>(0, 0.75f, true);
+        this.version = new AtomicLong();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+        this.invalidations = new AtomicLong();
+    }
+
+    /**
+     * How many times a cached result was returned.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * How many times the query had to be executed.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * How many results were evicted, because they were too old
+     * or there were too many of them.
+     * @return Number of evictions
+     */
+    public long evictions() {
+        return this.evictions.get();
+    }
+
+    /**
+     * How many results were removed, because their tables were changed.
+     * @return Number of invalidations
+     */
+    public long invalidations() {
+        return this.invalidations.get();
+    }
+
+    /**
+     * How many results are cached now.
+     * @return Number of results
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Remove all results.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.version.incrementAndGet();
+            this.invalidations.addAndGet(this.entries.size());
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Get the cached result or make it.
+     * @param source The data source
+     * @param sql The SQL
+     * @param args Arguments
+     * @param tuning Tuning of the session
+     * @param outcome The outcome
+     * @param query Makes the result
+     * @param <T> Type of result
+     * @return The result
+     * @throws SQLException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final DataSource source, final String sql,
+        final Collection<Object> args, final Tuning tuning,
+        final Outcome<T> outcome, final ResultCache.Query<T> query)
+        throws SQLException {
+        final ResultCache.Key key =
+            new ResultCache.Key(source, sql, args, tuning, outcome);
+        final long now = System.nanoTime();
+        ResultCache.Entry entry;
+        final long ver;
+        synchronized (this.entries) {
+            entry = this.entries.get(key);
+            if (entry != null && now - entry.born >= this.ttl) {
+                this.entries.remove(key);
+                this.evictions.incrementAndGet();
+                entry = null;
+            }
+            ver = this.version.get();
+        }
+        final T value;
+        if (entry == null) {
+            this.misses.incrementAndGet();
+            value = query.make();
+            synchronized (this.entries) {
+                if (this.version.get() == ver) {
+                    this.entries.put(
+                        key,
+                        new ResultCache.Entry(value, now, new Tables(sql).names())
+                    );
+                    this.evict();
+                }
+            }
+        } else {
+            this.hits.incrementAndGet();
+            value = (T) entry.value;
+        }
+        return value;
+    }
+
+    /**
+     * Remove results of queries reading tables this SQL changes.
+     * @param sql The SQL that changes something
+     */
+    void invalidate(final String sql) {
+        final Set<String> tables = new Tables(sql).names();
+        synchronized (this.entries) {
+            this.version.incrementAndGet();
+            final Iterator<ResultCache.Entry> iter =
+                this.entries.values().iterator();
+            while (iter.hasNext()) {
+                final ResultCache.Entry entry = iter.next();
+                if (tables.isEmpty()
+                    || !Collections.disjoint(tables, entry.tables)) {
+                    iter.remove();
+                    this.invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the least recently used results over the limit.
+     */
+    private void evict() {
+        final Iterator<ResultCache.Entry> iter = this.entries.values().iterator();
+        while (this.entries.size() > this.max) {
+            iter.next();
+            iter.remove();
+            this.evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Maker of the result.
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Query<T> {
+        /**
+         * Make it.
+         * @return The result
+         * @throws SQLException If fails
+         */
+        T make() throws SQLException;
+    }
+
+    /**
+     * Key of a result.
+     * @since 1.0
+     */
+    @EqualsAndHashCode
+    private static final class Key {
+
+        /**
+         * The data source, since the same SQL gives different results
+         * in different databases.
+         */
+        private final DataSource source;
+
+        /**
+         * The SQL.
+         */
+        private final String sql;
+
+        /**
+         * Arguments.
+         */
+        private final List<Object> args;
+
+        /**
+         * Tuning, since it may limit rows.
+         */
+        private final Tuning tuning;
+
+        /**
+         * The outcome.
+         */
+        private final Outcome<?> outcome;
+
+        /**
+         * Ctor.
+         * @param src The data source
+         * @param query The SQL
+         * @param values Arguments
+         * @param tng Tuning
+         * @param otc The outcome
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Key(final DataSource src, final String query,
+            final Collection<Object> values, final Tuning tng,
+            final Outcome<?> otc) {
+            this.source = src;
+            this.sql = query;
+            this.args = new ArrayList<>(values);
+            this.tuning = tng;
+            this.outcome = otc;
+        }
+    }
+
+    /**
+     * Cached result.
+     * @since 1.0
+     */
+    private static final class Entry {
+
+        /**
+         * The result.
+         */
+        private final Object value;
+
+        /**
+         * When it was made, in nanoseconds.
+         */
+        private final long born;
+
+        /**
+         * Tables the query reads.
+         */
+        private final Set<String> tables;
+
+        /**
+         * Ctor.
+         * @param val The result
+         * @param time When it was made
+         * @param names Tables the query reads
+         */
+        Entry(final Object val, final long time, final Set<String> names) {
+            this.value = val;
+            this.born = time;
+            this.tables = names;
+        }
+    }
+}
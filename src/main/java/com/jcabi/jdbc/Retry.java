@@ -0,0 +1,442 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+
+/**
+ * Policy of retries of transient failures.
+ *
+ * <p>Give it to {@link JdbcSession#retry(Retry)} and calls made
+ * with {@code autocommit} set to {@code true} are repeated when they
+ * fail because of a deadlock, a serialization failure, or a broken
+ * connection:</p>
+ *
+ * <pre> Retry retry = new Retry().attempts(5);
+ * new JdbcSession(source)
+ *   .retry(retry)
+ *   .sql("UPDATE account SET balance = balance - ? WHERE id = ?")
+ *   .set(100)
+ *   .set(42)
+ *   .execute();</pre>
+ *
+ * <p>A statement inside a transaction is never repeated alone, since the
+ * transaction is already rolled back when it fails. The whole unit of
+ * work has to be repeated, which {@link #call(Retry.Work)} does:</p>
+ *
+ * <pre> retry.call(
+ *   () -&gt; {
+ *     JdbcSession session = new JdbcSession(source).autocommit(false);
+ *     session.sql("...").execute();
+ *     session.sql("...").execute();
+ *     session.commit();
+ *     return null;
+ *   }
+ * );</pre>
+ *
+ * <p>Failures are transient if the SQLState is of class {@code 40}
+ * (transaction rollback, like PostgreSQL {@code 40001} and
+ * {@code 40P01}), the vendor code is a MySQL deadlock ({@code 1213})
+ * or lock wait timeout ({@code 1205}), or the SQLState or code is
+ * registered by {@link #states(String...)} or {@link #codes(int...)}.
+ * Broken connections (SQLState class {@code 08}) are transient only for
+ * selects, since it's not known whether a write was committed or not.</p>
+ *
+ * <p>Attempts are delayed exponentially, with jitter: the n-th retry
+ * waits a random time between a half and the whole of
+ * {@code base * 2^(n-1)}, but not longer than the maximum. Retries are
+ * limited by a budget per time window, shared by all sessions using the
+ * same policy, so they can't snowball when the database is overloaded:
+ * when the budget is spent, failures are thrown right away.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"attempts", "base", "max", "states", "codes", "retries"})
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Retry {
+
+    /**
+     * No retries.
+     */
+    public static final Retry NONE = new Retry().attempts(1);
+
+    /**
+     * MySQL vendor codes, which are transient.
+     */
+    private static final Set<Integer> MYSQL = new HashSet<>(
+        Arrays.asList(1205, 1213)
+    );
+
+    /**
+     * Maximum number of attempts, including the first one.
+     */
+    private final transient int attempts;
+
+    /**
+     * Base delay, in milliseconds.
+     */
+    private final transient long base;
+
+    /**
+     * Maximum delay, in milliseconds.
+     */
+    private final transient long max;
+
+    /**
+     * Additional transient SQLStates, or their prefixes.
+     */
+    private final transient String[] states;
+
+    /**
+     * Additional transient vendor codes.
+     */
+    private final transient int[] codes;
+
+    /**
+     * Budget of retries.
+     */
+    private final transient Retry.Budget budget;
+
+    /**
+     * Retries made so far.
+     */
+    private final transient AtomicLong retries;
+
+    /**
+     * Public ctor, with three attempts, delays from 20 ms to one second,
+     * and up to 100 retries per second.
+     */
+    public Retry() {
+        this(
+            3, 20L, 1000L, new String[0], new int[0],
+            new Retry.Budget(100, 1000L)
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param tries Maximum number of attempts
+     * @param first Base delay, in milliseconds
+     * @param most Maximum delay, in milliseconds
+     * @param sqlstates Additional transient SQLStates
+     * @param vendor Additional transient vendor codes
+     * @param bgt Budget of retries
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Retry(final int tries, final long first, final long most,
+        final String[] sqlstates, final int[] vendor, final Retry.Budget bgt) {
+        this.attempts = tries;
+        this.base = first;
+        this.max = most;
+        this.states = sqlstates;
+        this.codes = vendor;
+        this.budget = bgt;
+        this.retries = new AtomicLong();
+    }
+
+    /**
+     * With this maximum number of attempts.
+     * @param tries Number of attempts, including the first one
+     * @return New policy
+     */
+    public Retry attempts(final int tries) {
+        if (tries < 1) {
+            throw new IllegalArgumentException(
+                String.format("At least one attempt is required: %d", tries)
+            );
+        }
+        return new Retry(
+            tries, this.base, this.max, this.states, this.codes,
+            this.budget.copy()
+        );
+    }
+
+    /**
+     * With these delays between attempts.
+     * @param first Delay before the first retry, in milliseconds
+     * @param most Maximum delay, in milliseconds
+     * @return New policy
+     */
+    public Retry backoff(final long first, final long most) {
+        if (first < 0L || most < first) {
+            throw new IllegalArgumentException(
+                String.format("Invalid backoff: %d..%d ms", first, most)
+            );
+        }
+        return new Retry(
+            this.attempts, first, most, this.states, this.codes,
+            this.budget.copy()
+        );
+    }
+
+    /**
+     * With this budget of retries.
+     * @param total Maximum number of retries in the window
+     * @param window The window, in milliseconds
+     * @return New policy
+     */
+    public Retry budget(final int total, final long window) {
+        if (total < 0 || window < 1L) {
+            throw new IllegalArgumentException(
+                String.format("Invalid budget: %d per %d ms", total, window)
+            );
+        }
+        return new Retry(
+            this.attempts, this.base, this.max, this.states, this.codes,
+            new Retry.Budget(total, window)
+        );
+    }
+
+    /**
+     * With these SQLStates transient too.
+     * @param sqlstates SQLStates, or their prefixes, like {@code "57P"}
+     * @return New policy
+     */
+    public Retry states(final String... sqlstates) {
+        final String[] all = Arrays.copyOf(
+            this.states, this.states.length + sqlstates.length
+        );
+        System.arraycopy(sqlstates, 0, all, this.states.length, sqlstates.length);
+        return new Retry(
+            this.attempts, this.base, this.max, all, this.codes,
+            this.budget.copy()
+        );
+    }
+
+    /**
+     * With these vendor codes transient too.
+     * @param vendor Vendor codes
+     * @return New policy
+     */
+    public Retry codes(final int... vendor) {
+        final int[] all = Arrays.copyOf(
+            this.codes, this.codes.length + vendor.length
+        );
+        System.arraycopy(vendor, 0, all, this.codes.length, vendor.length);
+        return new Retry(
+            this.attempts, this.base, this.max, this.states, all,
+            this.budget.copy()
+        );
+    }
+
+    /**
+     * How many retries were made.
+     * @return Number of retries
+     */
+    public long retries() {
+        return this.retries.get();
+    }
+
+    /**
+     * Do the unit of work, repeating it entirely on transient failures.
+     *
+     * <p>The work is treated as a write: broken connections are not
+     * retried, since it's not known whether it was committed.</p>
+     *
+     * @param work The work
+     * @param <T> Type of result
+     * @return The result
+     * @throws SQLException If fails, or fails too many times
+     */
+    public <T> T call(final Retry.Work<T> work) throws SQLException {
+        return this.call(work, false);
+    }
+
+    /**
+     * Do the work, repeating it on transient failures.
+     * @param work The work
+     * @param read Does it only read?
+     * @param <T> Type of result
+     * @return The result
+     * @throws SQLException If fails, or fails too many times
+     */
+    <T> T call(final Retry.Work<T> work, final boolean read)
+        throws SQLException {
+        int attempt = 1;
+        while (true) {
+            try {
+                return work.call();
+            } catch (final SQLException ex) {
+                if (attempt >= this.attempts || !this.recoverable(ex, read)
+                    || !this.budget.take()) {
+                    throw ex;
+                }
+                this.retries.incrementAndGet();
+                Retry.pause(this.delay(attempt), ex);
+                ++attempt;
+            }
+        }
+    }
+
+    /**
+     * Is it a transient failure, which may go away if repeated?
+     * @param failure The failure
+     * @param read Does it only read?
+     * @return TRUE if it is
+     */
+    boolean recoverable(final SQLException failure, final boolean read) {
+        boolean yes = false;
+        Throwable cause = failure;
+        while (!yes && cause != null) {
+            if (cause instanceof SQLException) {
+                yes = this.matches((SQLException) cause, read);
+            }
+            if (cause.getCause() == null && cause instanceof SQLException) {
+                cause = ((SQLException) cause).getNextException();
+            } else {
+                cause = cause.getCause();
+            }
+        }
+        return yes;
+    }
+
+    /**
+     * Does this exception alone mean a transient failure?
+     * @param failure The failure
+     * @param read Does it only read?
+     * @return TRUE if it does
+     */
+    private boolean matches(final SQLException failure, final boolean read) {
+        final String state = failure.getSQLState();
+        boolean yes = failure instanceof SQLTransactionRollbackException
+            || Retry.MYSQL.contains(failure.getErrorCode())
+            || state != null && state.startsWith("40");
+        if (read) {
+            yes = yes || failure instanceof SQLTransientConnectionException
+                || failure instanceof SQLRecoverableException
+                || state != null && state.startsWith("08");
+        }
+        for (final String prefix : this.states) {
+            yes = yes || state != null && state.startsWith(prefix);
+        }
+        for (final int code : this.codes) {
+            yes = yes || failure.getErrorCode() == code;
+        }
+        return yes;
+    }
+
+    /**
+     * The delay before this retry.
+     * @param attempt Number of the failed attempt, starting from one
+     * @return Delay, in milliseconds
+     */
+    private long delay(final int attempt) {
+        final long full = Math.min(
+            this.max, this.base << Math.min(attempt - 1, 30)
+        );
+        final long half = full >> 1;
+        return half + ThreadLocalRandom.current().nextLong(full - half + 1L);
+    }
+
+    /**
+     * Wait before the next attempt.
+     * @param msec How long, in milliseconds
+     * @param failure The failure to throw, if interrupted
+     * @throws SQLException If interrupted
+     */
+    private static void pause(final long msec, final SQLException failure)
+        throws SQLException {
+        try {
+            TimeUnit.MILLISECONDS.sleep(msec);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(ex);
+            throw failure;
+        }
+    }
+
+    /**
+     * Unit of work.
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+
+        /**
+         * Do it.
+         * @return The result
+         * @throws SQLException If fails
+         */
+        T call() throws SQLException;
+    }
+
+    /**
+     * Retries allowed per time window.
+     * @since 1.0
+     */
+    private static final class Budget {
+
+        /**
+         * Maximum number of retries in the window.
+         */
+        private final transient int total;
+
+        /**
+         * The window, in nanoseconds.
+         */
+        private final transient long window;
+
+        /**
+         * When the current window started.
+         */
+        private transient long start;
+
+        /**
+         * Retries made in the current window.
+         */
+        private transient int used;
+
+        /**
+         * Ctor.
+         * @param max Maximum number of retries in the window
+         * @param msec The window, in milliseconds
+         */
+        Budget(final int max, final long msec) {
+            this.total = max;
+            this.window = TimeUnit.MILLISECONDS.toNanos(msec);
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * The same budget, not used yet.
+         * @return New budget
+         */
+        Retry.Budget copy() {
+            return new Retry.Budget(
+                this.total, TimeUnit.NANOSECONDS.toMillis(this.window)
+            );
+        }
+
+        /**
+         * Take one retry from the budget.
+         * @return TRUE if it's taken, FALSE if the budget is spent
+         */
+        synchronized boolean take() {
+            final long now = System.nanoTime();
+            if (now - this.start >= this.window) {
+                this.start = now;
+                this.used = 0;
+            }
+            final boolean taken = this.used < this.total;
+            if (taken) {
+                ++this.used;
+            }
+            return taken;
+        }
+    }
+}
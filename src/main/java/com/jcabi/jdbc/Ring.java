@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.ToString;
+
+/**
+ * Ring of the last items added, without locks.
+ *
+ * <p>Adding is one atomic increment and one volatile write, so writers
+ * never wait for each other or for readers. A reader may see an item
+ * overwritten by a newer one, while it reads, which is fine for
+ * diagnostics.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+@ToString(of = "counter")
+final class Ring<T> {
+
+    /**
+     * Slots, their number is a power of two.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Mask of positions in slots.
+     */
+    private final int mask;
+
+    /**
+     * How many items to keep.
+     */
+    private final int capacity;
+
+    /**
+     * Items added so far.
+     */
+    private final AtomicLong counter;
+
+    /**
+     * Ctor.
+     * @param max How many items to keep
+     */
+    Ring(final int max) {
+        if (max < 1 || max > 1 << 30) {
+            throw new IllegalArgumentException(
+                String.format("Invalid capacity of the ring: %d", max)
+            );
+        }
+        final int size = Integer.highestOneBit((max << 1) - 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.capacity = max;
+        this.counter = new AtomicLong();
+    }
+
+    /**
+     * Add an item, overwriting the oldest one if the ring is full.
+     * @param item The item
+     */
+    void add(final T item) {
+        this.slots.set(
+            (int) (this.counter.getAndIncrement() & this.mask), item
+        );
+    }
+
+    /**
+     * How many items were added so far.
+     * @return Number of them
+     */
+    long added() {
+        return this.counter.get();
+    }
+
+    /**
+     * Items in the ring.
+     * @return Items, the newest first
+     */
+    List<T> items() {
+        final long last = this.counter.get();
+        final int total = (int) Math.min(last, this.capacity);
+        final List<T> items = new ArrayList<>(total);
+        for (long pos = last - 1L; pos >= last - total; --pos) {
+            final T item = this.slots.get((int) (pos & this.mask));
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
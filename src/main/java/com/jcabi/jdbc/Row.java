@@ -0,0 +1,183 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Current row of a {@link ResultSet}, with columns found by labels.
+ *
+ * <p>It is what {@link RowMapping} gives to its {@link Row.Mapping}.
+ * Labels are resolved to positions once per result set, and values are
+ * read by positions, so {@code row.getString("name")} is as fast as
+ * {@code rset.getString(2)}, while {@code rset.getString("name")} makes
+ * most drivers search for the column in every row.</p>
+ *
+ * <p>The object is valid only while the result set is at the same row.</p>
+ *
+ * @since 1.0
+ */
+public final class Row {
+
+    /**
+     * The result set.
+     */
+    private final transient ResultSet rset;
+
+    /**
+     * Its columns.
+     */
+    private final transient Columns columns;
+
+    /**
+     * Ctor.
+     * @param result The result set
+     * @param cols Its columns
+     */
+    Row(final ResultSet result, final Columns cols) {
+        this.rset = result;
+        this.columns = cols;
+    }
+
+    /**
+     * The result set, to read columns by positions.
+     * @return The result set
+     */
+    public ResultSet resultSet() {
+        return this.rset;
+    }
+
+    /**
+     * Position of the column.
+     * @param label Column label
+     * @return Position, starting from one
+     * @throws SQLException If there is no such column
+     */
+    public int index(final String label) throws SQLException {
+        return this.columns.index(label);
+    }
+
+    /**
+     * Read the column as a string.
+     * @param label Column label
+     * @return The value
+     * @throws SQLException If fails
+     */
+    public String getString(final String label) throws SQLException {
+        return this.rset.getString(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as a long.
+     * @param label Column label
+     * @return The value, zero for SQL {@code NULL}
+     * @throws SQLException If fails
+     */
+    public long getLong(final String label) throws SQLException {
+        return this.rset.getLong(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as an int.
+     * @param label Column label
+     * @return The value, zero for SQL {@code NULL}
+     * @throws SQLException If fails
+     */
+    public int getInt(final String label) throws SQLException {
+        return this.rset.getInt(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as a double.
+     * @param label Column label
+     * @return The value, zero for SQL {@code NULL}
+     * @throws SQLException If fails
+     */
+    public double getDouble(final String label) throws SQLException {
+        return this.rset.getDouble(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as a boolean.
+     * @param label Column label
+     * @return The value, false for SQL {@code NULL}
+     * @throws SQLException If fails
+     */
+    public boolean getBoolean(final String label) throws SQLException {
+        return this.rset.getBoolean(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as a big decimal.
+     * @param label Column label
+     * @return The value
+     * @throws SQLException If fails
+     */
+    public BigDecimal getBigDecimal(final String label) throws SQLException {
+        return this.rset.getBigDecimal(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as bytes.
+     * @param label Column label
+     * @return The value
+     * @throws SQLException If fails
+     */
+    public byte[] getBytes(final String label) throws SQLException {
+        return this.rset.getBytes(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as a timestamp.
+     * @param label Column label
+     * @return The value
+     * @throws SQLException If fails
+     */
+    public Timestamp getTimestamp(final String label) throws SQLException {
+        return this.rset.getTimestamp(this.columns.index(label));
+    }
+
+    /**
+     * Read the column as an object of the given type.
+     * @param label Column label
+     * @param type The type
+     * @param <T> Type of the value
+     * @return The value
+     * @throws SQLException If fails
+     */
+    public <T> T getObject(final String label, final Class<T> type)
+        throws SQLException {
+        return this.rset.getObject(this.columns.index(label), type);
+    }
+
+    /**
+     * Was the last column read SQL {@code NULL}?
+     * @return TRUE if it was
+     * @throws SQLException If fails
+     */
+    public boolean wasNull() throws SQLException {
+        return this.rset.wasNull();
+    }
+
+    /**
+     * Mapping of a row.
+     * @param <T> Type of output
+     * @since 1.0
+     */
+    @FunctionalInterface
+    public interface Mapping<T> {
+
+        /**
+         * Map.
+         * @param row The row
+         * @return Object
+         * @throws SQLException If fails
+         */
+        T map(Row row) throws SQLException;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Mapping which reads columns by labels, at the speed of positions.
+ *
+ * <p>Use it instead of {@code rset.getString("name")} in mappings of
+ * wide results:</p>
+ *
+ * <pre> List&lt;User&gt; users = new JdbcSession(source)
+ *   .sql("SELECT * FROM user")
+ *   .select(
+ *     new ListOutcome&lt;&gt;(
+ *       new RowMapping&lt;&gt;(
+ *         row -&gt; new User(row.getLong("id"), row.getString("name"))
+ *       )
+ *     )
+ *   );</pre>
+ *
+ * <p>Labels are resolved to positions once per {@link ResultSet}, using
+ * its {@link java.sql.ResultSetMetaData}, and positions are cached
+ * per statement. The result set is referenced weakly, so that it is not
+ * kept in memory by the mapping.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+@ToString(of = "mapping")
+@EqualsAndHashCode(of = "mapping")
+public final class RowMapping<T> implements Outcome.Mapping<T> {
+
+    /**
+     * Mapping of rows.
+     */
+    private final transient Row.Mapping<T> mapping;
+
+    /**
+     * Columns of the last result set.
+     */
+    private final transient AtomicReference<RowMapping.Bound> last;
+
+    /**
+     * Public ctor.
+     * @param mpg Mapping of rows
+     */
+    public RowMapping(final Row.Mapping<T> mpg) {
+        this.mapping = mpg;
+        this.last = new AtomicReference<>(new RowMapping.Bound(null, null));
+    }
+
+    @Override
+    public T map(final ResultSet rset) throws SQLException {
+        RowMapping.Bound bound = this.last.get();
+        if (bound.rset.get() != rset) {
+            bound = new RowMapping.Bound(rset, Columns.of(rset));
+            this.last.set(bound);
+        }
+        return this.mapping.map(new Row(rset, bound.columns));
+    }
+
+    /**
+     * Columns bound to a result set.
+     * @since 1.0
+     */
+    private static final class Bound {
+
+        /**
+         * The result set.
+         */
+        private final WeakReference<ResultSet> rset;
+
+        /**
+         * Its columns.
+         */
+        private final Columns columns;
+
+        /**
+         * Ctor.
+         * @param result The result set
+         * @param cols Its columns
+         */
+        Bound(final ResultSet result, final Columns cols) {
+            this.rset = new WeakReference<>(result);
+            this.columns = cols;
+        }
+    }
+}
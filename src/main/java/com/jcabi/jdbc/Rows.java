@@ -0,0 +1,172 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy iterator over a live {@link ResultSet}.
+ *
+ * <p>Rows are mapped one by one, while the consumer pulls them, so the
+ * memory footprint doesn't depend on the size of the result. The result
+ * set and the statement are closed when the iterator is exhausted or
+ * closed explicitly, whatever happens first. The connection is closed
+ * too, if it is owned by the iterator. An owned connection is not in
+ * auto-commit mode, since some drivers (PostgreSQL, for example) ignore
+ * the fetch size otherwise, so its transaction is committed on close,
+ * or rolled back, if reading failed.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @param <T> Type of items
+ * @since 1.0
+ */
+final class Rows<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The connection.
+     */
+    private final transient Connection conn;
+
+    /**
+     * The statement.
+     */
+    private final transient PreparedStatement stmt;
+
+    /**
+     * The result set.
+     */
+    private final transient ResultSet rset;
+
+    /**
+     * Mapping.
+     */
+    private final transient Outcome.Mapping<T> mapping;
+
+    /**
+     * Shall we close the connection too?
+     */
+    private final transient boolean owned;
+
+    /**
+     * Already closed?
+     */
+    private final transient AtomicBoolean closed;
+
+    /**
+     * Is the cursor moved to the next row already?
+     */
+    private transient boolean moved;
+
+    /**
+     * Is there a row under the cursor?
+     */
+    private transient boolean present;
+
+    /**
+     * Ctor.
+     * @param cnx The connection
+     * @param statement The statement
+     * @param result The result set
+     * @param mpg Mapping
+     * @param own Close the connection on close
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Rows(final Connection cnx, final PreparedStatement statement,
+        final ResultSet result, final Outcome.Mapping<T> mpg,
+        final boolean own) {
+        this.conn = cnx;
+        this.stmt = statement;
+        this.rset = result;
+        this.mapping = mpg;
+        this.owned = own;
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.moved && !this.closed.get()) {
+            try {
+                this.present = this.rset.next();
+            } catch (final SQLException ex) {
+                this.close(false);
+                throw new IllegalStateException(ex);
+            }
+            this.moved = true;
+            if (!this.present) {
+                this.close();
+            }
+        }
+        return this.present;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more rows");
+        }
+        this.moved = false;
+        try {
+            return this.mapping.map(this.rset);
+        } catch (final SQLException ex) {
+            this.close(false);
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.close(true);
+    }
+
+    /**
+     * Close everything, and finish the transaction of the owned connection.
+     * @param success Commit the transaction, otherwise roll it back
+     */
+    private void close(final boolean success) {
+        if (this.closed.compareAndSet(false, true)) {
+            this.present = false;
+            try {
+                // @checkstyle NestedTryDepth (10 lines)
+                try {
+                    this.rset.close();
+                } finally {
+                    try {
+                        this.stmt.close();
+                    } finally {
+                        if (this.owned) {
+                            this.release(success);
+                        }
+                    }
+                }
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Finish the transaction of the owned connection and close it.
+     * @param success Commit the transaction, otherwise roll it back
+     * @throws SQLException If fails
+     */
+    private void release(final boolean success) throws SQLException {
+        try {
+            if (success) {
+                this.conn.commit();
+            } else {
+                this.conn.rollback();
+            }
+        } finally {
+            this.conn.close();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Outcome that reads the first column of the first row as a primitive.
+ *
+ * <p>It is used by {@link JdbcSession#selectLong()} and its siblings. The
+ * value is not returned as an object, but is kept in primitive fields of
+ * a per-thread {@link Scalar.Slot}, and {@link #handle(ResultSet, Statement)}
+ * returns the constant itself. So, once the slot of the thread exists,
+ * nothing is allocated or boxed for the value. The value must be read
+ * right after the query, in the same thread.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+enum Scalar implements Outcome<Scalar> {
+
+    /**
+     * Through {@link ResultSet#getLong(int)}.
+     */
+    LONG {
+        @Override
+        void read(final ResultSet rset, final Scalar.Slot slot)
+            throws SQLException {
+            slot.number = rset.getLong(1);
+        }
+    },
+
+    /**
+     * Through {@link ResultSet#getInt(int)}.
+     */
+    INT {
+        @Override
+        void read(final ResultSet rset, final Scalar.Slot slot)
+            throws SQLException {
+            slot.number = rset.getInt(1);
+        }
+    },
+
+    /**
+     * Through {@link ResultSet#getDouble(int)}.
+     */
+    DOUBLE {
+        @Override
+        void read(final ResultSet rset, final Scalar.Slot slot)
+            throws SQLException {
+            slot.real = rset.getDouble(1);
+        }
+    },
+
+    /**
+     * Through {@link ResultSet#getBoolean(int)}.
+     */
+    BOOLEAN {
+        @Override
+        void read(final ResultSet rset, final Scalar.Slot slot)
+            throws SQLException {
+            slot.flag = rset.getBoolean(1);
+        }
+    };
+
+    /**
+     * Only one row is needed, the server doesn't have to send more.
+     */
+    private static final Tuning ONE = new Tuning().max(1);
+
+    /**
+     * Values read by every thread.
+     */
+    private static final ThreadLocal<Scalar.Slot> SLOTS =
+        ThreadLocal.withInitial(Scalar.Slot::new);
+
+    @Override
+    public Scalar handle(final ResultSet rset, final Statement stmt)
+        throws SQLException {
+        if (!rset.next()) {
+            throw new SQLException("No records found");
+        }
+        this.read(rset, Scalar.SLOTS.get());
+        return this;
+    }
+
+    @Override
+    public Tuning tuning() {
+        return Scalar.ONE;
+    }
+
+    /**
+     * The integer value, read last by this thread.
+     * @return The value
+     */
+    long number() {
+        return Scalar.SLOTS.get().number;
+    }
+
+    /**
+     * The floating-point value, read last by this thread.
+     * @return The value
+     */
+    double real() {
+        return Scalar.SLOTS.get().real;
+    }
+
+    /**
+     * The boolean value, read last by this thread.
+     * @return The value
+     */
+    boolean flag() {
+        return Scalar.SLOTS.get().flag;
+    }
+
+    /**
+     * Read the first column into the slot.
+     * @param rset Result set, at the row
+     * @param slot The slot
+     * @throws SQLException If fails
+     */
+    abstract void read(ResultSet rset, Scalar.Slot slot) throws SQLException;
+
+    /**
+     * Values read by one thread.
+     * @since 1.0
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    static final class Slot {
+
+        /**
+         * Integer value.
+         */
+        private long number;
+
+        /**
+         * Floating-point value.
+         */
+        private double real;
+
+        /**
+         * Boolean value.
+         */
+        private boolean flag;
+    }
+}
@@ -45,15 +45,20 @@ import lombok.ToString;
 @EqualsAndHashCode(of = {"mapping", "silently"})
 public final class SingleOutcome<T> implements Outcome<T> {
 
+    /**
+     * Only one row is needed, the server doesn't have to send more.
+     */
+    private static final Tuning ONE = new Tuning().max(1);
+
     /**
      * The type.
      */
-    private final Mapping<? extends T> mapping;
+    private final transient Mapping<? extends T> mapping;
 
     /**
      * Silently return NULL if no row found.
      */
-    private final boolean silently;
+    private final transient boolean silently;
 
     /**
      * Public ctor.
@@ -109,6 +114,15 @@ public final class SingleOutcome<T> implements Outcome<T> {
         return result;
     }
 
+    /**
+     * Only one row is needed, the server doesn't have to send more.
+     * @return Tuning with max rows set to one
+     */
+    @Override
+    public Tuning tuning() {
+        return SingleOutcome.ONE;
+    }
+
     /**
      * Fetch the value from result set.
      * @param rset Result set
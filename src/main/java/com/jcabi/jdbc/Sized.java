@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import lombok.ToString;
+
+/**
+ * Stream or reader of a known length, to bind as an argument.
+ *
+ * <p>An {@link InputStream} or a {@link Reader} given to
+ * {@link JdbcSession#set(Object)} is bound without its length, and some
+ * drivers, like Oracle and older PostgreSQL ones, read all of it into
+ * memory to find out the length. If it's known, wrap the stream, and it
+ * will be bound with
+ * {@link PreparedStatement#setBinaryStream(int, InputStream, long)} or
+ * {@link PreparedStatement#setCharacterStream(int, Reader, long)}:</p>
+ *
+ * <pre> new JdbcSession(source)
+ *   .sql("INSERT INTO doc (body) VALUES (?)")
+ *   .set(new Sized(stream, 1_048_576L))
+ *   .execute();</pre>
+ *
+ * <p>The class is immutable and thread-safe, but the stream is not.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = "length")
+public final class Sized {
+
+    /**
+     * The stream, or NULL if it's a reader.
+     */
+    private final transient InputStream stream;
+
+    /**
+     * The reader, or NULL if it's a stream.
+     */
+    private final transient Reader reader;
+
+    /**
+     * Its length, in bytes or characters.
+     */
+    private final transient long length;
+
+    /**
+     * Ctor.
+     * @param input The stream
+     * @param bytes Its length, in bytes
+     */
+    public Sized(final InputStream input, final long bytes) {
+        this(input, null, bytes);
+    }
+
+    /**
+     * Ctor.
+     * @param input The reader
+     * @param chars Its length, in characters
+     */
+    public Sized(final Reader input, final long chars) {
+        this(null, input, chars);
+    }
+
+    /**
+     * Primary ctor.
+     * @param input The stream, or NULL
+     * @param text The reader, or NULL
+     * @param size Its length
+     */
+    private Sized(final InputStream input, final Reader text, final long size) {
+        if (size < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Length can't be negative: %d", size)
+            );
+        }
+        this.stream = input;
+        this.reader = text;
+        this.length = size;
+    }
+
+    /**
+     * Bind it to the statement.
+     * @param stmt The statement
+     * @param pos Position of the argument
+     * @throws SQLException If fails
+     */
+    void bind(final PreparedStatement stmt, final int pos)
+        throws SQLException {
+        if (this.stream == null) {
+            stmt.setCharacterStream(pos, this.reader, this.length);
+        } else {
+            stmt.setBinaryStream(pos, this.stream, this.length);
+        }
+    }
+}
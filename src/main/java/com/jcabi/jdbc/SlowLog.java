@@ -0,0 +1,357 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import lombok.ToString;
+
+/**
+ * Log of slow queries and of the last queries executed.
+ *
+ * <p>Every query, with its arguments, timing and number of rows, goes to
+ * a ring of the recent ones. If it takes longer than the threshold, it also
+ * goes to a ring of slow ones. Both rings are lock-free. A query which is
+ * not slow costs what any listener costs: the session copies its arguments
+ * and makes a {@link Timing} of it. Then it is stored in the ring, which
+ * is one atomic increment. The rings don't keep large arguments, such as
+ * {@code byte[]} documents or streams, only their types and short
+ * texts. The real arguments are kept only while
+ * {@code EXPLAIN} runs with them:</p>
+ *
+ * <pre> SlowLog log = new SlowLog(source, 500L, 100);
+ * new JdbcSession(source)
+ *   .listen(log)
+ *   .sql("SELECT * FROM user WHERE name = ?")
+ *   .set("Jeff")
+ *   .select(new ListOutcome&lt;&gt;(...));
+ * String text = log.dump();</pre>
+ *
+ * <p>If the data source is given, {@code EXPLAIN} of the dialect of the
+ * database runs for every slow {@code SELECT}, on a separate connection,
+ * in the background. Only one of them runs at a time, the others are
+ * skipped, so that a storm of slow queries doesn't make the database
+ * even busier. The plan is stored in the {@link SlowLog.Entry}.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = "threshold")
+public final class SlowLog implements Listener {
+
+    /**
+     * How many slow queries to keep.
+     */
+    private static final int SLOW = 64;
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double MSEC = 1_000_000.0d;
+
+    /**
+     * Source to run EXPLAIN on, or NULL if it's not needed.
+     */
+    private final transient DataSource source;
+
+    /**
+     * Threshold, in nanoseconds.
+     */
+    private final long threshold;
+
+    /**
+     * The last queries.
+     */
+    private final transient Ring<Timing> recent;
+
+    /**
+     * The last slow queries.
+     */
+    private final transient Ring<SlowLog.Entry> slow;
+
+    /**
+     * Is EXPLAIN running now?
+     */
+    private final transient AtomicBoolean explaining;
+
+    /**
+     * Ctor, without EXPLAIN and with the last 100 queries.
+     * @param msec Threshold, in milliseconds
+     */
+    public SlowLog(final long msec) {
+        this(msec, 100);
+    }
+
+    /**
+     * Ctor, without EXPLAIN.
+     * @param msec Threshold, in milliseconds
+     * @param last How many recent queries to keep
+     */
+    public SlowLog(final long msec, final int last) {
+        this(null, msec, last);
+    }
+
+    /**
+     * Ctor.
+     * @param src Data source to run EXPLAIN on, or NULL if it's not needed
+     * @param msec Threshold, in milliseconds
+     * @param last How many recent queries to keep
+     */
+    public SlowLog(final DataSource src, final long msec, final int last) {
+        if (msec < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Invalid threshold: %d ms", msec)
+            );
+        }
+        this.source = src;
+        this.threshold = TimeUnit.MILLISECONDS.toNanos(msec);
+        this.recent = new Ring<>(last);
+        this.slow = new Ring<>(SlowLog.SLOW);
+        this.explaining = new AtomicBoolean();
+    }
+
+    @Override
+    public void done(final Timing timing) {
+        final Timing brief = timing.brief();
+        this.recent.add(brief);
+        if (timing.total() >= this.threshold) {
+            final SlowLog.Entry entry = new SlowLog.Entry(brief);
+            this.slow.add(entry);
+            if (this.source != null && SlowLog.select(timing.sql())
+                && this.explaining.compareAndSet(false, true)) {
+                this.explain(entry, timing);
+            }
+        }
+    }
+
+    /**
+     * The last queries.
+     * @return Their timings, the newest first
+     */
+    public List<Timing> recent() {
+        return this.recent.items();
+    }
+
+    /**
+     * The last slow queries.
+     * @return Entries, the newest first
+     */
+    public List<SlowLog.Entry> slow() {
+        return this.slow.items();
+    }
+
+    /**
+     * Everything in the log, as text.
+     * @return Text, one query per line, plans are indented
+     */
+    public String dump() {
+        final StringBuilder text = new StringBuilder(0).append(
+            String.format(
+                "Slow queries, over %d ms: %d",
+                TimeUnit.NANOSECONDS.toMillis(this.threshold),
+                this.slow.added()
+            )
+        ).append('\n');
+        for (final SlowLog.Entry entry : this.slow()) {
+            text.append(entry.when()).append(' ')
+                .append(SlowLog.line(entry.timing())).append('\n');
+            for (final String line : entry.plan().split("\n")) {
+                if (!line.isEmpty()) {
+                    text.append("    ").append(line).append('\n');
+                }
+            }
+        }
+        text.append(
+            String.format("Recent queries: %d", this.recent.added())
+        ).append('\n');
+        for (final Timing timing : this.recent()) {
+            text.append(SlowLog.line(timing)).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Run EXPLAIN of the query in the background.
+     * @param entry The entry, to put the plan into
+     * @param timing Timing of the query, with its real arguments
+     */
+    private void explain(final SlowLog.Entry entry, final Timing timing) {
+        Async.of(this.source).submit(
+            new CompletableFuture<String>(),
+            () -> {
+                final Dialect dialect = Dialects.of(this.source);
+                final String query = dialect.explain(timing.sql());
+                final String plan;
+                if (query.isEmpty()) {
+                    plan = String.format(
+                        "EXPLAIN is not supported by %s", dialect.product()
+                    );
+                } else if (SlowLog.streamed(timing)) {
+                    plan = "EXPLAIN is skipped, arguments are streams";
+                } else {
+                    final JdbcSession session = new JdbcSession(this.source)
+                        .sql(query);
+                    for (final Object arg : timing.args()) {
+                        session.set(arg);
+                    }
+                    plan = session.select(SlowLog::plan);
+                }
+                return plan;
+            }
+        ).whenComplete(
+            (plan, error) -> {
+                this.explaining.set(false);
+                if (error == null) {
+                    entry.plan.set(plan);
+                } else {
+                    entry.plan.set(
+                        String.format("EXPLAIN failed: %s", error.getMessage())
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Are there arguments that can't be read again?
+     * @param timing Timing of the query
+     * @return TRUE if there are streams among them
+     */
+    private static boolean streamed(final Timing timing) {
+        boolean found = false;
+        for (final Object arg : timing.args()) {
+            found = found || arg instanceof InputStream
+                || arg instanceof Reader || arg instanceof Sized;
+        }
+        return found;
+    }
+
+    /**
+     * Is it a SELECT, which is safe to EXPLAIN?
+     * @param sql The query
+     * @return TRUE if it is
+     */
+    private static boolean select(final String sql) {
+        final String start = sql.trim();
+        return start.regionMatches(true, 0, "SELECT", 0, 6)
+            || start.regionMatches(true, 0, "WITH", 0, 4);
+    }
+
+    /**
+     * Read the plan, every row on its own line.
+     * @param rset Result set
+     * @param stmt Statement
+     * @return The plan
+     * @throws SQLException If fails
+     */
+    private static String plan(final ResultSet rset,
+        final Statement stmt) throws SQLException {
+        final ResultSetMetaData meta = rset.getMetaData();
+        final int columns = meta.getColumnCount();
+        final StringBuilder text = new StringBuilder(0);
+        while (rset.next()) {
+            for (int col = 1; col <= columns; ++col) {
+                if (col > 1) {
+                    text.append(' ');
+                }
+                text.append(rset.getString(col));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * One line about the query.
+     * @param timing Its timing
+     * @return The line
+     */
+    private static String line(final Timing timing) {
+        final StringBuilder text = new StringBuilder(0).append(
+            String.format(
+                "%.3f ms rows=%d",
+                (double) timing.total() / SlowLog.MSEC,
+                timing.rows()
+            )
+        );
+        if (timing.failed()) {
+            text.append(" failed");
+        }
+        text.append(": ").append(timing.sql().replace('\n', ' '));
+        if (!timing.args().isEmpty()) {
+            text.append(' ').append(timing.args());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Slow query.
+     * @since 1.0
+     */
+    @ToString(of = {"when", "timing"})
+    public static final class Entry {
+
+        /**
+         * When it was recorded.
+         */
+        private final Instant when;
+
+        /**
+         * Its timing.
+         */
+        private final Timing timing;
+
+        /**
+         * Its plan, empty if it's not known.
+         */
+        private final AtomicReference<String> plan;
+
+        /**
+         * Ctor.
+         * @param tmg Its timing
+         */
+        Entry(final Timing tmg) {
+            this.when = Instant.now();
+            this.timing = tmg;
+            this.plan = new AtomicReference<>("");
+        }
+
+        /**
+         * When it was recorded.
+         * @return The time
+         */
+        public Instant when() {
+            return this.when;
+        }
+
+        /**
+         * Its timing, with SQL, arguments, and the number of rows.
+         * @return Timing
+         */
+        public Timing timing() {
+            return this.timing;
+        }
+
+        /**
+         * The plan, as reported by {@code EXPLAIN}.
+         * @return The plan, empty if it's not known (yet)
+         */
+        public String plan() {
+            return this.plan.get();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.ToString;
+
+/**
+ * Cache of prepared statements of one connection.
+ *
+ * <p>It is used by {@link JdbcSession} when {@code autocommit} is
+ * {@code false}, so that the same SQL executed many times inside one
+ * transaction is prepared by the driver only once. Statements are
+ * reused until {@link JdbcSession#commit()} or
+ * {@link JdbcSession#rollback()}, when they are closed together with
+ * the connection. Least recently used statements are closed
+ * when there are more of them than the limit.</p>
+ *
+ * <p>A statement is taken out of the cache while it is being used, so two
+ * threads never get the same statement. Fetch size, max rows, query timeout
+ * and fetch direction are set back to their defaults when the statement
+ * is returned, but other options changed by {@link Preparation}s stay.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+@ToString(of = {"max", "hits", "misses"})
+public final class Statements {
+
+    /**
+     * Idle statements, the least recently used first.
+     */
+    private final transient Map<Connect, PreparedStatement> idle;
+
+    /**
+     * Cache hits.
+     */
+    private final transient AtomicLong hits;
+
+    /**
+     * Cache misses.
+     */
+    private final transient AtomicLong misses;
+
+    /**
+     * Maximum amount of idle statements, zero means no caching.
+     */
+    private transient int max;
+
+    /**
+     * Ctor.
+     * @param limit Maximum amount of statements to keep
+     */
+    Statements(final int limit) {
+        this.idle = new LinkedHashMap<>(0);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.max = limit;
+    }
+
+    /**
+     * How many times a cached statement was reused.
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * How many times a statement had to be prepared.
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * How many statements are cached now.
+     * @return Number of idle statements
+     */
+    public int size() {
+        synchronized (this.idle) {
+            return this.idle.size();
+        }
+    }
+
+    /**
+     * Maximum amount of idle statements.
+     * @return The limit, zero means no caching
+     */
+    int limit() {
+        synchronized (this.idle) {
+            return this.max;
+        }
+    }
+
+    /**
+     * Change the limit, closing statements over it.
+     * @param limit Maximum amount of statements to keep
+     * @throws SQLException If fails to close
+     */
+    void limit(final int limit) throws SQLException {
+        if (limit < 0) {
+            throw new IllegalArgumentException(
+                String.format("Cache size can't be negative: %d", limit)
+            );
+        }
+        synchronized (this.idle) {
+            this.max = limit;
+            this.evict();
+        }
+    }
+
+    /**
+     * Take a statement from the cache or prepare a new one.
+     * @param connect Connect, which is the key of the cache
+     * @param conn The connection
+     * @param dialect Its dialect
+     * @return The statement
+     * @throws SQLException If fails
+     */
+    PreparedStatement open(final Connect connect, final Connection conn,
+        final Dialect dialect) throws SQLException {
+        PreparedStatement stmt;
+        synchronized (this.idle) {
+            stmt = this.idle.remove(connect);
+        }
+        if (stmt == null || stmt.isClosed()) {
+            this.misses.incrementAndGet();
+            stmt = connect.open(conn, dialect);
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return stmt;
+    }
+
+    /**
+     * Return the statement to the cache.
+     *
+     * <p>If the statement can't be reset, it is broken and is closed
+     * instead of being cached.</p>
+     *
+     * @param connect Connect, which is the key of the cache
+     * @param stmt The statement
+     * @throws SQLException If fails to close
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    void release(final Connect connect, final PreparedStatement stmt)
+        throws SQLException {
+        boolean broken = false;
+        try {
+            Statements.reset(stmt);
+        } catch (final SQLException ex) {
+            broken = true;
+        }
+        if (broken) {
+            stmt.close();
+        } else {
+            this.keep(connect, stmt);
+        }
+    }
+
+    /**
+     * Close all statements.
+     * @throws SQLException If fails
+     */
+    void clear() throws SQLException {
+        synchronized (this.idle) {
+            for (final PreparedStatement stmt : this.idle.values()) {
+                stmt.close();
+            }
+            this.idle.clear();
+        }
+    }
+
+    /**
+     * Put the statement into the cache.
+     * @param connect Connect, which is the key of the cache
+     * @param stmt The statement
+     * @throws SQLException If fails to close
+     */
+    private void keep(final Connect connect, final PreparedStatement stmt)
+        throws SQLException {
+        final PreparedStatement prev;
+        synchronized (this.idle) {
+            prev = this.idle.put(connect, stmt);
+            this.evict();
+        }
+        if (prev != null) {
+            prev.close();
+        }
+    }
+
+    /**
+     * Close least recently used statements over the limit.
+     * @throws SQLException If fails
+     */
+    private void evict() throws SQLException {
+        final Iterator<PreparedStatement> stmts = this.idle.values().iterator();
+        while (this.idle.size() > this.max) {
+            final PreparedStatement stmt = stmts.next();
+            stmts.remove();
+            stmt.close();
+        }
+    }
+
+    /**
+     * Make the statement ready for the next use.
+     *
+     * <p>The batch is cleared too, since a failure in the middle of
+     * {@link PreparedStatement#addBatch()} calls leaves rows in it, which
+     * would be sent by the next user of the statement.</p>
+     *
+     * @param stmt The statement
+     * @throws SQLException If fails
+     */
+    private static void reset(final PreparedStatement stmt)
+        throws SQLException {
+        stmt.clearParameters();
+        stmt.clearBatch();
+        if (stmt.getMaxRows() != 0) {
+            stmt.setMaxRows(0);
+        }
+        if (stmt.getQueryTimeout() != 0) {
+            stmt.setQueryTimeout(0);
+        }
+        if (stmt.getFetchDirection() != ResultSet.FETCH_FORWARD) {
+            stmt.setFetchDirection(ResultSet.FETCH_FORWARD);
+        }
+        stmt.setFetchSize(0);
+    }
+}
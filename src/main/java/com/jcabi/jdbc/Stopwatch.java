@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+/**
+ * Stopwatch of one query, which makes a {@link Timing}.
+ *
+ * <p>Every lap is the time since the previous lap, or since
+ * the start.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Stopwatch {
+
+    /**
+     * Nanoseconds of every stage.
+     */
+    private final transient long[] nanos;
+
+    /**
+     * When the last lap ended.
+     */
+    private transient long mark;
+
+    /**
+     * Rows mapped.
+     */
+    private transient long rows;
+
+    /**
+     * Did it fail?
+     */
+    private transient boolean failed;
+
+    /**
+     * Ctor, which starts it.
+     */
+    Stopwatch() {
+        this.nanos = new long[Timing.Stage.values().length];
+        this.mark = System.nanoTime();
+    }
+
+    /**
+     * Finish the stage.
+     * @param stage The stage
+     */
+    void lap(final Timing.Stage stage) {
+        final long now = System.nanoTime();
+        this.nanos[stage.ordinal()] += now - this.mark;
+        this.mark = now;
+    }
+
+    /**
+     * Add mapped rows.
+     * @param count How many
+     */
+    void rows(final long count) {
+        this.rows += count;
+    }
+
+    /**
+     * Mark it as failed.
+     */
+    void fail() {
+        this.failed = true;
+    }
+
+    /**
+     * Make the timing.
+     * @param sql The query
+     * @param args Its arguments
+     * @return Timing
+     */
+    Timing timing(final String sql, final Object[] args) {
+        return new Timing(sql, args, this.nanos, this.rows, this.failed);
+    }
+}
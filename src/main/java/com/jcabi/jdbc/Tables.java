@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Names of tables an SQL statement reads or writes.
+ *
+ * <p>It's a lightweight extraction, not a parser: names that follow
+ * {@code FROM}, {@code JOIN}, {@code INTO}, {@code UPDATE} and
+ * {@code TABLE} are taken, together with comma-separated lists
+ * after {@code FROM}. Quotes and schema names are dropped and names are
+ * lower-cased, so {@code "Public"."User"} is {@code user}. Mistakes
+ * are on the safe side for cache invalidation: some extra names may be
+ * found, when they are not tables.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode
+final class Tables {
+
+    /**
+     * Tokens: names, possibly quoted and qualified, literals,
+     * and single characters.
+     */
+    private static final Pattern TOKENS = Pattern.compile(
+        String.join(
+            "|",
+            "'(?:[^']|'')*'",
+            "(?:\"[^\"]*\"|`[^`]*`|\\[[^\\]]*]|[\\w$]+)(?:\\s*\\.\\s*(?:\"[^\"]*\"|`[^`]*`|\\[[^\\]]*]|[\\w$]+))*",
+            "\\S"
+        )
+    );
+
+    /**
+     * Keywords followed by a table name.
+     */
+    private static final Set<String> BEFORE = new HashSet<>(
+        Arrays.asList("FROM", "JOIN", "INTO", "UPDATE", "TABLE")
+    );
+
+    /**
+     * Keywords that can go between those above and the name.
+     */
+    private static final Set<String> SKIP = new HashSet<>(
+        Arrays.asList("IF", "NOT", "EXISTS", "ONLY", "LATERAL")
+    );
+
+    /**
+     * Keywords that end the list of tables after {@code FROM}.
+     */
+    private static final Set<String> AFTER = new HashSet<>(
+        Arrays.asList(
+            "WHERE", "JOIN", "LEFT", "RIGHT", "INNER", "OUTER", "CROSS",
+            "FULL", "NATURAL", "ON", "USING", "GROUP", "ORDER", "HAVING",
+            "LIMIT", "OFFSET", "FETCH", "FOR", "WINDOW", "UNION", "EXCEPT",
+            "INTERSECT", "SET", "VALUES", "SELECT", "RETURNING"
+        )
+    );
+
+    /**
+     * The SQL.
+     */
+    private final String sql;
+
+    /**
+     * Ctor.
+     * @param query The SQL
+     */
+    Tables(final String query) {
+        this.sql = query;
+    }
+
+    /**
+     * Find all names.
+     * @return Names of tables, lower-case, without schema
+     */
+    Set<String> names() {
+        final List<String> tokens = new ArrayList<>(0);
+        final Matcher matcher = Tables.TOKENS.matcher(this.sql);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        final Set<String> names = new HashSet<>(0);
+        for (int idx = 0; idx < tokens.size(); ++idx) {
+            final String word = tokens.get(idx).toUpperCase(Locale.ENGLISH);
+            if (Tables.BEFORE.contains(word)) {
+                int next = idx + 1;
+                while (next < tokens.size() && Tables.SKIP.contains(
+                    tokens.get(next).toUpperCase(Locale.ENGLISH)
+                )) {
+                    ++next;
+                }
+                next = Tables.take(tokens, next, names);
+                while ("FROM".equals(word) && next >= 0) {
+                    next = Tables.more(tokens, next, names);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Take the name, if it's a name.
+     * @param tokens Tokens
+     * @param pos Position of the name
+     * @param names Where to put it
+     * @return Position after the name, or -1 if there is no name
+     */
+    private static int take(final List<String> tokens, final int pos,
+        final Set<String> names) {
+        int next = -1;
+        if (pos < tokens.size() && Tables.isName(tokens.get(pos))) {
+            names.add(Tables.normal(tokens.get(pos)));
+            next = pos + 1;
+        }
+        return next;
+    }
+
+    /**
+     * Skip an alias and take the next name after a comma, if any.
+     * @param tokens Tokens
+     * @param pos Position right after the previous name
+     * @param names Where to put it
+     * @return Position after the name, or -1 if there are no more names
+     */
+    private static int more(final List<String> tokens, final int pos,
+        final Set<String> names) {
+        int next = pos;
+        if (next < tokens.size() && "AS".equalsIgnoreCase(tokens.get(next))) {
+            ++next;
+        }
+        if (next < tokens.size() && Tables.isName(tokens.get(next))) {
+            ++next;
+        }
+        int result = -1;
+        if (next < tokens.size() && ",".equals(tokens.get(next))) {
+            result = Tables.take(tokens, next + 1, names);
+        }
+        return result;
+    }
+
+    /**
+     * Is it a name, and not a keyword, a literal or a character?
+     * @param token The token
+     * @return TRUE if it's a name
+     */
+    private static boolean isName(final String token) {
+        final char first = token.charAt(0);
+        return (Character.isLetter(first) || first == '_' || first == '"'
+            || first == '`' || first == '[')
+            && !Tables.AFTER.contains(token.toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Drop quotes and schema, lower-case.
+     * @param name The name
+     * @return Normalized name
+     */
+    private static String normal(final String name) {
+        final String bare = name.replaceAll("[\"`\\[\\]\\s]", "");
+        return bare.substring(bare.lastIndexOf('.') + 1)
+            .toLowerCase(Locale.ENGLISH);
+    }
+}
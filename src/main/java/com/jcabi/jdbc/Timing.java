@@ -0,0 +1,233 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Timing of one query, reported to a {@link Listener}.
+ *
+ * <p>The time is split into stages, see {@link Timing.Stage}. Stages that
+ * didn't happen, because of a failure, take zero nanoseconds.</p>
+ *
+ * @since 1.0
+ */
+@EqualsAndHashCode(of = {"sql", "args", "nanos", "rows", "failed"})
+public final class Timing {
+
+    /**
+     * Longest text of an argument kept by {@link #brief()}.
+     */
+    private static final int BRIEF = 64;
+
+    /**
+     * The SQL query.
+     */
+    private final transient String sql;
+
+    /**
+     * Arguments of the query.
+     */
+    private final transient Object[] args;
+
+    /**
+     * Nanoseconds of every stage, by ordinal.
+     */
+    private final transient long[] nanos;
+
+    /**
+     * Rows mapped.
+     */
+    private final transient long rows;
+
+    /**
+     * Did it fail?
+     */
+    private final transient boolean failed;
+
+    /**
+     * Ctor.
+     * @param query The SQL query
+     * @param params Arguments of the query
+     * @param stages Nanoseconds of every stage
+     * @param mapped Rows mapped
+     * @param failure Did it fail?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Timing(final String query, final Object[] params, final long[] stages,
+        final long mapped, final boolean failure) {
+        this.sql = query;
+        this.args = params;
+        this.nanos = Arrays.copyOf(stages, stages.length);
+        this.rows = mapped;
+        this.failed = failure;
+    }
+
+    /**
+     * The SQL query, as it was given to {@link JdbcSession#sql(String)}.
+     * @return SQL
+     */
+    public String sql() {
+        return this.sql;
+    }
+
+    /**
+     * Arguments of the query, as they were given to
+     * {@link JdbcSession#set(Object)}.
+     * @return Arguments
+     */
+    public List<Object> args() {
+        return Collections.unmodifiableList(Arrays.asList(this.args));
+    }
+
+    /**
+     * Time spent in all stages.
+     * @return Nanoseconds
+     */
+    public long total() {
+        long sum = 0L;
+        for (final long stage : this.nanos) {
+            sum += stage;
+        }
+        return sum;
+    }
+
+    /**
+     * Time spent in the stage.
+     * @param stage The stage
+     * @return Nanoseconds
+     */
+    public long nanos(final Timing.Stage stage) {
+        return this.nanos[stage.ordinal()];
+    }
+
+    /**
+     * How many rows the outcome went through.
+     * @return Number of rows
+     */
+    public long rows() {
+        return this.rows;
+    }
+
+    /**
+     * Did the query fail with an exception?
+     * @return TRUE if failed
+     */
+    public boolean failed() {
+        return this.failed;
+    }
+
+    /**
+     * The same timing, with arguments that are safe to keep for long.
+     *
+     * <p>Numbers, booleans, dates and the like stay as they are. Other
+     * arguments, such as documents in {@code byte[]}, streams and long
+     * texts, are replaced with their type and a short text, so that
+     * the timing doesn't keep them reachable.</p>
+     * @return Timing with short arguments
+     */
+    Timing brief() {
+        final Object[] params = new Object[this.args.length];
+        boolean same = true;
+        for (int idx = 0; idx < params.length; ++idx) {
+            params[idx] = Timing.brief(this.args[idx]);
+            same = same && params[idx] == this.args[idx];
+        }
+        final Timing timing;
+        if (same) {
+            timing = this;
+        } else {
+            timing = new Timing(
+                this.sql, params, this.nanos, this.rows, this.failed
+            );
+        }
+        return timing;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder(this.sql.length() << 1)
+            .append(this.sql);
+        for (final Timing.Stage stage : Timing.Stage.values()) {
+            text.append(' ').append(stage.label())
+                .append('=').append(this.nanos(stage)).append("ns");
+        }
+        text.append(" rows=").append(this.rows);
+        if (this.failed) {
+            text.append(" failed");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Short form of the argument.
+     * @param arg The argument
+     * @return The argument itself, if it's small, or its short text
+     */
+    private static Object brief(final Object arg) {
+        final Object brief;
+        if (arg == null || arg instanceof Number || arg instanceof Boolean
+            || arg instanceof Character || arg instanceof Enum
+            || arg instanceof Temporal || arg instanceof java.util.Date
+            || arg instanceof String
+            && ((String) arg).length() <= Timing.BRIEF) {
+            brief = arg;
+        } else if (arg instanceof byte[]) {
+            brief = String.format("byte[%d]", ((byte[]) arg).length);
+        } else {
+            final String text = arg.toString();
+            if (text.length() > Timing.BRIEF) {
+                brief = String.format(
+                    "%s:%s...", arg.getClass().getSimpleName(),
+                    text.substring(0, Timing.BRIEF)
+                );
+            } else {
+                brief = String.format(
+                    "%s:%s", arg.getClass().getSimpleName(), text
+                );
+            }
+        }
+        return brief;
+    }
+
+    /**
+     * Stage of a query.
+     * @since 1.0
+     */
+    public enum Stage {
+        /**
+         * Getting the connection from the {@link javax.sql.DataSource}.
+         */
+        CONNECT,
+
+        /**
+         * Preparing the statement and binding its arguments.
+         */
+        PREPARE,
+
+        /**
+         * Executing the statement.
+         */
+        EXECUTE,
+
+        /**
+         * Mapping the result in {@link Outcome#handle}.
+         */
+        MAP;
+
+        /**
+         * Short lower-case name of it.
+         * @return Name
+         */
+        public String label() {
+            return this.name().toLowerCase(Locale.ENGLISH);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * Work done in a transaction, by {@link JdbcSession#transaction(Transaction)}.
+ *
+ * @param <T> Type of result
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface Transaction<T> {
+
+    /**
+     * Do the work.
+     * @param session The session bound to the transaction
+     * @return The result
+     * @throws SQLException If fails
+     */
+    T exec(JdbcSession session) throws SQLException;
+}
@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Statement options: fetch size, max rows, query timeout, fetch direction.
+ *
+ * <p>Options not set explicitly are not touched, and the driver defaults
+ * stay in place. The object is immutable, every setter returns
+ * a new instance:</p>
+ *
+ * <pre> new JdbcSession(source)
+ *   .tune(new Tuning().fetch(500).timeout(30))
+ *   .sql("SELECT * FROM user")
+ *   .select(new ListOutcome&lt;&gt;(rset -&gt; rset.getString(1)));</pre>
+ *
+ * <p>Outcomes may suggest their own tuning, through
+ * {@link Outcome#tuning()}, which is used for the options not set on
+ * the session. For example, {@link SingleOutcome} asks for one row only.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = {"fetch", "rows", "seconds", "direction"})
+public final class Tuning implements Preparation {
+
+    /**
+     * The option is not set.
+     */
+    private static final int UNSET = -1;
+
+    /**
+     * Fetch size.
+     */
+    private final transient int fetch;
+
+    /**
+     * Max rows.
+     */
+    private final transient int rows;
+
+    /**
+     * Query timeout, in seconds.
+     */
+    private final transient int seconds;
+
+    /**
+     * Fetch direction.
+     */
+    private final transient int direction;
+
+    /**
+     * Public ctor, with nothing set.
+     */
+    public Tuning() {
+        this(Tuning.UNSET, Tuning.UNSET, Tuning.UNSET, Tuning.UNSET);
+    }
+
+    /**
+     * Primary ctor.
+     * @param size Fetch size
+     * @param max Max rows
+     * @param timeout Query timeout
+     * @param dir Fetch direction
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Tuning(final int size, final int max, final int timeout,
+        final int dir) {
+        this.fetch = size;
+        this.rows = max;
+        this.seconds = timeout;
+        this.direction = dir;
+    }
+
+    /**
+     * With this fetch size.
+     * @param size How many rows to fetch from the server at once
+     * @return New tuning
+     * @see java.sql.Statement#setFetchSize(int)
+     */
+    public Tuning fetch(final int size) {
+        return new Tuning(
+            Tuning.notNegative(size, "Fetch size"),
+            this.rows, this.seconds, this.direction
+        );
+    }
+
+    /**
+     * With this limit of rows.
+     * @param max Maximum number of rows, zero means no limit
+     * @return New tuning
+     * @see java.sql.Statement#setMaxRows(int)
+     */
+    public Tuning max(final int max) {
+        return new Tuning(
+            this.fetch, Tuning.notNegative(max, "Max rows"),
+            this.seconds, this.direction
+        );
+    }
+
+    /**
+     * With this query timeout.
+     * @param timeout Timeout in seconds, zero means no limit
+     * @return New tuning
+     * @see java.sql.Statement#setQueryTimeout(int)
+     */
+    public Tuning timeout(final int timeout) {
+        return new Tuning(
+            this.fetch, this.rows,
+            Tuning.notNegative(timeout, "Query timeout"), this.direction
+        );
+    }
+
+    /**
+     * With this fetch direction.
+     * @param dir One of {@link ResultSet#FETCH_FORWARD},
+     *  {@link ResultSet#FETCH_REVERSE}, or {@link ResultSet#FETCH_UNKNOWN}
+     * @return New tuning
+     * @see java.sql.Statement#setFetchDirection(int)
+     */
+    public Tuning direction(final int dir) {
+        if (dir != ResultSet.FETCH_FORWARD && dir != ResultSet.FETCH_REVERSE
+            && dir != ResultSet.FETCH_UNKNOWN) {
+            throw new IllegalArgumentException(
+                String.format("Unknown fetch direction: %d", dir)
+            );
+        }
+        return new Tuning(this.fetch, this.rows, this.seconds, dir);
+    }
+
+    /**
+     * Take options not set here from the defaults.
+     * @param defaults Default options
+     * @return New tuning
+     */
+    public Tuning over(final Tuning defaults) {
+        return new Tuning(
+            Tuning.first(this.fetch, defaults.fetch),
+            Tuning.first(this.rows, defaults.rows),
+            Tuning.first(this.seconds, defaults.seconds),
+            Tuning.first(this.direction, defaults.direction)
+        );
+    }
+
+    @Override
+    public void prepare(final PreparedStatement stmt) throws SQLException {
+        if (this.fetch != Tuning.UNSET) {
+            stmt.setFetchSize(this.fetch);
+        }
+        if (this.rows != Tuning.UNSET) {
+            stmt.setMaxRows(this.rows);
+        }
+        if (this.seconds != Tuning.UNSET) {
+            stmt.setQueryTimeout(this.seconds);
+        }
+        if (this.direction != Tuning.UNSET) {
+            stmt.setFetchDirection(this.direction);
+        }
+    }
+
+    /**
+     * Make sure the value is not negative.
+     * @param value The value
+     * @param name Name of the option
+     * @return The same value
+     */
+    private static int notNegative(final int value, final String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(
+                String.format("%s can't be negative: %d", name, value)
+            );
+        }
+        return value;
+    }
+
+    /**
+     * The first value, if it's set, otherwise the second one.
+     * @param value The value
+     * @param fallback The fallback
+     * @return One of them
+     */
+    private static int first(final int value, final int fallback) {
+        final int result;
+        if (value == Tuning.UNSET) {
+            result = fallback;
+        } else {
+            result = value;
+        }
+        return result;
+    }
+}
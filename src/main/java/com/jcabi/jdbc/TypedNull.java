@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * {@code NULL} of a known Java type, set by
+ * {@link JdbcSession#setNull(Class)}.
+ *
+ * <p>It is bound with the SQL type of the {@link Binder} of the class,
+ * instead of {@link java.sql.Types#NULL}, since some drivers prepare
+ * the statement again when the type of a parameter changes.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode
+final class TypedNull {
+
+    /**
+     * The type.
+     */
+    private final Class<?> cls;
+
+    /**
+     * Ctor.
+     * @param type The type
+     */
+    TypedNull(final Class<?> type) {
+        this.cls = type;
+    }
+
+    /**
+     * The type.
+     * @return Class
+     */
+    Class<?> type() {
+        return this.cls;
+    }
+}
@@ -15,6 +15,10 @@ import lombok.ToString;
 
 /**
  * Data source when all you have is a URL.
+ *
+ * <p>Every call of {@link #getConnection()} opens a new connection.
+ * Use {@link PooledSource} to reuse them.</p>
+ *
  * @since 0.19.0
  */
 @ToString
@@ -8,8 +8,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
 import java.util.SimpleTimeZone;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,6 +45,8 @@ import lombok.ToString;
  * <p>{@link Timestamp} is used because {@link java.sql.Date}
  * supports only dates (without time).
  *
+ * <p>The class is thread-safe.</p>
+ *
  * @since 0.1.8
  */
 @ToString
@@ -50,10 +55,12 @@ import lombok.ToString;
 public final class Utc {
 
     /**
-     * The calendar to use.
+     * Calendars in UTC, one per thread, since drivers modify them while
+     * converting timestamps.
      */
-    private static final Calendar CALENDAR =
-        Calendar.getInstance(new SimpleTimeZone(0, "UTC"));
+    private static final ThreadLocal<Calendar> CALENDAR = ThreadLocal.withInitial(
+        () -> new GregorianCalendar(new SimpleTimeZone(0, "UTC"), Locale.ENGLISH)
+    );
 
     /**
      * The date to work with.
@@ -92,11 +99,7 @@ public final class Utc {
      */
     public void setTimestamp(final PreparedStatement stmt, final int pos)
         throws SQLException {
-        stmt.setTimestamp(
-            pos,
-            new Timestamp(this.date),
-            Utc.CALENDAR
-        );
+        Utc.set(stmt, pos, Instant.ofEpochMilli(this.date));
     }
 
     /**
@@ -109,10 +112,46 @@ public final class Utc {
     @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
     public static Date getTimestamp(final ResultSet rset, final int pos)
         throws SQLException {
-        final Timestamp stamp = rset.getTimestamp(pos, Utc.CALENDAR);
+        final Instant instant = Utc.instant(rset, pos);
         Date when = null;
+        if (instant != null) {
+            when = Date.from(instant);
+        }
+        return when;
+    }
+
+    /**
+     * Save the instant to the statement, as a timestamp in UTC.
+     *
+     * <p>The timestamp goes to the driver with a calendar in UTC, which
+     * is an explicit offset for every driver, whatever the time zone of
+     * the session is. The calendar is taken from this thread, since
+     * drivers modify it while converting.</p>
+     *
+     * @param stmt The statement
+     * @param pos Position in the statement
+     * @param instant The instant
+     * @throws SQLException If some SQL problem inside
+     */
+    static void set(final PreparedStatement stmt, final int pos,
+        final Instant instant) throws SQLException {
+        stmt.setTimestamp(pos, Timestamp.from(instant), Utc.CALENDAR.get());
+    }
+
+    /**
+     * Retrieve the instant from the result set, where it's a timestamp
+     * in UTC.
+     * @param rset The result set
+     * @param pos Position in the result set
+     * @return The instant, or NULL
+     * @throws SQLException If some SQL problem inside
+     */
+    static Instant instant(final ResultSet rset, final int pos)
+        throws SQLException {
+        final Timestamp stamp = rset.getTimestamp(pos, Utc.CALENDAR.get());
+        Instant when = null;
         if (stamp != null) {
-            when = new Date(stamp.getTime());
+            when = stamp.toInstant();
         }
         return when;
     }
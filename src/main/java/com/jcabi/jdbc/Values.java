@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * {@code INSERT} statement with one row in {@code VALUES}, which
+ * can be expanded to many rows.
+ *
+ * <p>For example, {@code INSERT INTO foo (a, b) VALUES (?, ?)} expanded
+ * to three rows is {@code INSERT INTO foo (a, b) VALUES (?, ?), (?, ?),
+ * (?, ?)}. Anything after the row, like {@code ON CONFLICT DO NOTHING},
+ * stays at the end.</p>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = {"head", "row", "tail"})
+final class Values {
+
+    /**
+     * The keyword with the opening parenthesis of the row.
+     */
+    private static final Pattern KEYWORD = Pattern.compile(
+        "\\bVALUES\\s*\\(", Pattern.CASE_INSENSITIVE
+    );
+
+    /**
+     * Text before the row.
+     */
+    private final transient String head;
+
+    /**
+     * The row, like {@code (?, ?)}.
+     */
+    private final transient String row;
+
+    /**
+     * Text after the row.
+     */
+    private final transient String tail;
+
+    /**
+     * Number of placeholders in the row.
+     */
+    private final transient int params;
+
+    /**
+     * Ctor.
+     * @param sql The SQL with one row in {@code VALUES}
+     */
+    Values(final String sql) {
+        final int start = Values.start(sql);
+        final int end = Values.end(sql, start);
+        this.head = sql.substring(0, start);
+        this.row = sql.substring(start, end);
+        this.tail = sql.substring(end);
+        this.params = Values.placeholders(this.row);
+    }
+
+    /**
+     * Number of placeholders in one row.
+     * @return Number of parameters
+     */
+    int params() {
+        return this.params;
+    }
+
+    /**
+     * Make SQL with this many rows.
+     * @param rows How many rows
+     * @return SQL
+     */
+    String expand(final int rows) {
+        final StringBuilder sql = new StringBuilder(
+            this.head.length() + this.tail.length()
+                + (this.row.length() + 2) * rows
+        ).append(this.head).append(this.row);
+        for (int idx = 1; idx < rows; ++idx) {
+            sql.append(", ").append(this.row);
+        }
+        return sql.append(this.tail).toString();
+    }
+
+    /**
+     * Find the opening parenthesis of the row.
+     * @param sql The SQL
+     * @return Position of it
+     */
+    private static int start(final String sql) {
+        final Matcher matcher = Values.KEYWORD.matcher(sql);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException(
+                String.format("There is no VALUES (...) in \"%s\"", sql)
+            );
+        }
+        return matcher.end() - 1;
+    }
+
+    /**
+     * Find the position right after the closing parenthesis of the row.
+     * @param sql The SQL
+     * @param start Position of the opening parenthesis
+     * @return Position after the closing one
+     */
+    private static int end(final String sql, final int start) {
+        int depth = 0;
+        boolean quoted = false;
+        int end = -1;
+        for (int pos = start; pos < sql.length() && end < 0; ++pos) {
+            final char chr = sql.charAt(pos);
+            if (chr == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && chr == '(') {
+                ++depth;
+            } else if (!quoted && chr == ')') {
+                --depth;
+                if (depth == 0) {
+                    end = pos + 1;
+                }
+            }
+        }
+        if (end < 0) {
+            throw new IllegalArgumentException(
+                String.format("The row after VALUES is not closed in \"%s\"", sql)
+            );
+        }
+        return end;
+    }
+
+    /**
+     * Count placeholders outside of string literals.
+     * @param text The text
+     * @return How many of them
+     */
+    private static int placeholders(final String text) {
+        int count = 0;
+        boolean quoted = false;
+        for (int pos = 0; pos < text.length(); ++pos) {
+            final char chr = text.charAt(pos);
+            if (chr == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && chr == '?') {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
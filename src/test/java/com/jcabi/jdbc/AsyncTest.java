@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Async}.
+ * @since 1.0
+ */
+final class AsyncTest {
+
+    @Test
+    void selectsAsynchronously() throws Exception {
+        final DataSource source = new H2Source("asn1a");
+        final JdbcSession session = new JdbcSession(source)
+            .sql("CREATE TABLE foo (id INT, name VARCHAR(30))").execute()
+            .sql("INSERT INTO foo VALUES (1, 'Jeff'), (2, 'Walter')").execute();
+        final CompletableFuture<String> first = session
+            .sql("SELECT name FROM foo WHERE id = ?")
+            .set(1)
+            .selectAsync(new SingleOutcome<>(String.class));
+        final CompletableFuture<String> second = session
+            .sql("SELECT name FROM foo WHERE id = ?")
+            .set(2)
+            .selectAsync(new SingleOutcome<>(String.class));
+        MatcherAssert.assertThat(
+            "both calls are made with their own arguments",
+            first.thenCombine(second, (one, two) -> one + two)
+                .get(1L, TimeUnit.MINUTES),
+            Matchers.equalTo("JeffWalter")
+        );
+    }
+
+    @Test
+    void limitsCallsInFlight() throws Exception {
+        final int limit = 2;
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final JdbcSession session = new JdbcSession(new H2Source("asn2b"))
+                .async(new Async(threads, limit));
+            final Collection<CompletableFuture<Integer>> futures =
+                new LinkedList<>();
+            for (int idx = 0; idx < 16; ++idx) {
+                futures.add(
+                    session.sql("SELECT 1").selectAsync(
+                        (rset, stmt) -> {
+                            most.accumulateAndGet(
+                                running.incrementAndGet(), Math::max
+                            );
+                            try {
+                                TimeUnit.MILLISECONDS.sleep(10L);
+                            } catch (final InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                                throw new IllegalStateException(ex);
+                            }
+                            running.decrementAndGet();
+                            return 1;
+                        }
+                    )
+                );
+            }
+            CompletableFuture.allOf(
+                futures.toArray(new CompletableFuture<?>[0])
+            ).get(1L, TimeUnit.MINUTES);
+        } finally {
+            threads.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "no more calls than the limit run at the same time",
+            most.get(),
+            Matchers.lessThanOrEqualTo(limit)
+        );
+    }
+
+    @Test
+    void doesntExecuteCancelledCalls() throws Exception {
+        final DataSource source = new H2Source("asn3c");
+        new JdbcSession(source).sql("CREATE TABLE foo (id INT)").execute();
+        final List<Runnable> tasks = new ArrayList<>(1);
+        final CompletableFuture<Void> future = new JdbcSession(source)
+            .async(new Async(tasks::add, 1))
+            .sql("INSERT INTO foo VALUES (1)")
+            .insertAsync(Outcome.VOID);
+        future.cancel(true);
+        tasks.forEach(Runnable::run);
+        MatcherAssert.assertThat(
+            "the insert is not executed",
+            new JdbcSession(source)
+                .sql("SELECT * FROM foo")
+                .select(Outcome.NOT_EMPTY),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "the future is cancelled",
+            future.isCancelled(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void cancelsRunningStatement() throws Exception {
+        final DataSource source = new H2Source("asn5e");
+        final ExecutorService threads = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<Long> future = new JdbcSession(source)
+                .async(new Async(threads, 1))
+                .sql(
+                    String.join(
+                        " ",
+                        "SELECT MAX(a.x + b.x) FROM SYSTEM_RANGE(1, 1000000) a,",
+                        "SYSTEM_RANGE(1, 1000000) b"
+                    )
+                )
+                .selectAsync(new SingleOutcome<>(Long.class));
+            final JdbcSession monitor = new JdbcSession(source).sql(
+                String.join(
+                    " ",
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS",
+                    "WHERE EXECUTING_STATEMENT LIKE 'SELECT MAX%'"
+                )
+            );
+            while (monitor.selectLong() == 0L) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+            future.cancel(true);
+            MatcherAssert.assertThat(
+                "the thread is released by the cancelled statement",
+                threads.submit(() -> true).get(1L, TimeUnit.MINUTES),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "the future is cancelled",
+                future.isCancelled(),
+                Matchers.is(true)
+            );
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsCallsInsideTransaction() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new JdbcSession(new H2Source("asn4d"))
+                .autocommit(false)
+                .sql("SELECT 1")
+                .selectAsync(Outcome.NOT_EMPTY)
+        );
+    }
+
+    @Test
+    void cancelsQuietlyWhenStatementFails() throws Exception {
+        final Cancellable<Object> future = new Cancellable<>();
+        future.prepare(
+            (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if ("cancel".equals(method.getName())) {
+                        throw new SQLException("closed by now");
+                    }
+                    return Boolean.FALSE;
+                }
+            )
+        );
+        MatcherAssert.assertThat(
+            "the future is cancelled, without an exception",
+            future.cancel(true),
+            Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Binders}.
+ * @since 1.0
+ */
+final class BindersTest {
+
+    @Test
+    void bindsCommonTypes() throws Exception {
+        final DataSource source = new H2Source("bnd1a");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (a SMALLINT, b DOUBLE, c DECIMAL(5, 2), d DATE, e VARCHAR(10))")
+            .execute()
+            .sql("INSERT INTO foo VALUES (?, ?, ?, ?, ?)")
+            .set((short) 7)
+            .set(2.5d)
+            .set(new BigDecimal("1.25"))
+            .set(LocalDate.of(2024, 1, 31))
+            .set(TimeUnit.SECONDS)
+            .execute();
+        MatcherAssert.assertThat(
+            "all values are stored",
+            new JdbcSession(source)
+                .sql("SELECT CONCAT_WS('|', a, b, c, d, e) FROM foo")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("7|2.5|1.25|2024-01-31|SECONDS")
+        );
+    }
+
+    @Test
+    void bindsStreamsOfKnownLength() throws Exception {
+        final DataSource source = new H2Source("bnd5e");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (a VARBINARY(10), b VARCHAR(10))")
+            .execute()
+            .sql("INSERT INTO foo VALUES (?, ?)")
+            .set(
+                new Sized(
+                    new ByteArrayInputStream(
+                        "bytes".getBytes(StandardCharsets.UTF_8)
+                    ),
+                    5L
+                )
+            )
+            .set(new Sized(new StringReader("chars"), 5L))
+            .execute();
+        MatcherAssert.assertThat(
+            "streams are stored",
+            new JdbcSession(source)
+                .sql("SELECT CONCAT(UTF8TOSTRING(a), b) FROM foo")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("byteschars")
+        );
+    }
+
+    @Test
+    void usesCustomBinders() throws Exception {
+        final DataSource source = new H2Source("bnd2b");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (name VARCHAR(30))")
+            .execute()
+            .binders(
+                Binders.DEFAULT.with(
+                    StringBuilder.class,
+                    (stmt, pos, value) -> stmt.setString(
+                        pos, value.reverse().toString()
+                    )
+                )
+            )
+            .sql("INSERT INTO foo VALUES (?)")
+            .set(new StringBuilder("olleh"))
+            .execute();
+        MatcherAssert.assertThat(
+            "custom binder is used",
+            new JdbcSession(source)
+                .sql("SELECT name FROM foo")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("hello")
+        );
+    }
+
+    @Test
+    void bindsZonedTimeThroughCustomBinder() throws Exception {
+        final DataSource source = new H2Source("bnd6f");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (t VARCHAR(20))")
+            .execute()
+            .binders(
+                Binders.DEFAULT.with(
+                    OffsetDateTime.class,
+                    (stmt, pos, value) -> stmt.setString(
+                        pos, value.toLocalDate().toString()
+                    )
+                )
+            )
+            .sql("INSERT INTO foo VALUES (?)")
+            .set(ZonedDateTime.parse("2024-05-06T07:08:09Z"))
+            .execute();
+        MatcherAssert.assertThat(
+            "zoned time goes through the custom binder of offset time",
+            new JdbcSession(source)
+                .sql("SELECT t FROM foo")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("2024-05-06")
+        );
+    }
+
+    @Test
+    void findsBindersOfParents() {
+        MatcherAssert.assertThat(
+            "enum is bound as a string",
+            Binders.DEFAULT.of(TimeUnit.class).type(),
+            Matchers.equalTo(Types.VARCHAR)
+        );
+    }
+
+    @Test
+    void bindsTypedNulls() throws Exception {
+        final DataSource source = new H2Source("bnd4d");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (name VARCHAR(30))")
+            .execute()
+            .sql("INSERT INTO foo VALUES (?)")
+            .setNull(String.class)
+            .execute();
+        MatcherAssert.assertThat(
+            "NULL is stored",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM foo WHERE name IS NULL")
+                .select(new SingleOutcome<>(Long.class)),
+            Matchers.equalTo(1L)
+        );
+    }
+}
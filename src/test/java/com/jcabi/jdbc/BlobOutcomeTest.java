@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Random;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link BlobOutcome}.
+ * @since 1.0
+ */
+final class BlobOutcomeTest {
+
+    @Test
+    void streamsFileIntoBlobAndBack(@TempDir final Path dir)
+        throws Exception {
+        final DataSource source = new H2Source("bo1a");
+        new JdbcSession(source)
+            .sql("CREATE TABLE doc (id INT, body BLOB)")
+            .execute();
+        final byte[] data = new byte[1 << 20];
+        new Random(0L).nextBytes(data);
+        final Path file = dir.resolve("doc.bin");
+        Files.write(file, data);
+        new JdbcSession(source)
+            .sql("INSERT INTO doc VALUES (1, ?)")
+            .set(file)
+            .execute();
+        Files.delete(file);
+        final byte[] loaded = new JdbcSession(source).transaction(
+            session -> {
+                try (InputStream body = session
+                    .sql("SELECT body FROM doc WHERE id = 1")
+                    .select(new BlobOutcome())) {
+                    final ByteArrayOutputStream out =
+                        new ByteArrayOutputStream();
+                    final byte[] buf = new byte[8192];
+                    while (true) {
+                        final int read = body.read(buf);
+                        if (read < 0) {
+                            break;
+                        }
+                        out.write(buf, 0, read);
+                    }
+                    return out.toByteArray();
+                } catch (final IOException ex) {
+                    throw new SQLException(ex);
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "the file is stored and read back as it was",
+            loaded,
+            Matchers.equalTo(data)
+        );
+    }
+
+    @Test
+    void bindsInputStream() throws Exception {
+        final DataSource source = new H2Source("bo2b");
+        new JdbcSession(source)
+            .sql("CREATE TABLE pic (data VARBINARY(10))")
+            .execute()
+            .sql("INSERT INTO pic VALUES (?)")
+            .set(new ByteArrayInputStream(new byte[] {1, 2, 3}))
+            .execute();
+        try (InputStream data = new JdbcSession(source)
+            .sql("SELECT data FROM pic")
+            .select(new BlobOutcome())) {
+            MatcherAssert.assertThat(
+                "VARBINARY is readable after the connection is closed",
+                data.read() + data.read() + data.read(),
+                Matchers.equalTo(6)
+            );
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BulkLoader}.
+ * @since 1.0
+ */
+final class BulkLoaderTest {
+
+    @Test
+    void loadsRowsIntoH2() throws Exception {
+        final DataSource source = new H2Source("blk1a");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (id BIGINT, name VARCHAR(30))")
+            .execute();
+        final long total = new BulkLoader(source, "foo", "id", "name").load(
+            LongStream.range(0L, 2500L).mapToObj(
+                idx -> Arrays.<Object>asList(idx, String.format("n%d", idx))
+            )
+        );
+        MatcherAssert.assertThat(
+            "all rows are reported",
+            total,
+            Matchers.equalTo(2500L)
+        );
+        MatcherAssert.assertThat(
+            "all rows are in the table",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM foo")
+                .select(new SingleOutcome<>(Long.class)),
+            Matchers.equalTo(2500L)
+        );
+    }
+
+    @Test
+    void rejectsRowsOfWrongWidth() {
+        final DataSource source = new H2Source("blk2b");
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BulkLoader(source, "foo", "id", "name").load(
+                Stream.of(Arrays.asList(1L))
+            )
+        );
+    }
+
+    @Test
+    void encodesCsvLazily() throws Exception {
+        final List<Collection<?>> rows = Arrays.asList(
+            Arrays.asList(1L, "say \"hi\"", null),
+            Arrays.asList(null, true, new byte[] {10, 31})
+        );
+        final CsvStream csv = new CsvStream(rows.iterator(), 3, "", true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkLoaderTest.copy(csv, out);
+        MatcherAssert.assertThat(
+            "rows are encoded as CSV",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("1,\"say \"\"hi\"\"\",\n,1,\"\\x0a1f\"\n")
+        );
+    }
+
+    @Test
+    void doesntEncodeRowsAhead() throws Exception {
+        final List<Collection<?>> rows = LongStream.range(0L, 1000L)
+            .mapToObj(idx -> Arrays.asList(idx))
+            .collect(Collectors.toList());
+        final AtomicInteger taken = new AtomicInteger();
+        final CsvStream csv = new CsvStream(
+            rows.stream().peek(row -> taken.incrementAndGet()).iterator(),
+            1, "", true
+        );
+        csv.read(new byte[2], 0, 2);
+        MatcherAssert.assertThat(
+            "only the rows needed are encoded",
+            taken.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void refusesBytesWhereTheyCantBeLoaded() {
+        final List<Collection<?>> rows = Arrays.asList(
+            Arrays.asList(new byte[] {1})
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> BulkLoaderTest.copy(
+                new CsvStream(rows.iterator(), 1, "NULL", false),
+                new ByteArrayOutputStream()
+            )
+        );
+    }
+
+    /**
+     * Copy the stream.
+     * @param input Input
+     * @param out Output
+     * @throws Exception If fails
+     */
+    private static void copy(final InputStream input,
+        final ByteArrayOutputStream out) throws Exception {
+        final byte[] buf = new byte[3];
+        for (int len = input.read(buf); len >= 0; len = input.read(buf)) {
+            out.write(buf, 0, len);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ClobOutcome}.
+ * @since 1.0
+ */
+final class ClobOutcomeTest {
+
+    @Test
+    void streamsReaderIntoClobAndBack() throws Exception {
+        final DataSource source = new H2Source("cl1a");
+        new JdbcSession(source)
+            .sql("CREATE TABLE log (id INT, text CLOB)")
+            .execute();
+        final StringBuilder text = new StringBuilder(0);
+        for (int idx = 0; idx < 50_000; ++idx) {
+            text.append("line ").append(idx).append('\n');
+        }
+        new JdbcSession(source)
+            .sql("INSERT INTO log VALUES (1, ?)")
+            .set(new StringReader(text.toString()))
+            .execute();
+        MatcherAssert.assertThat(
+            "text is stored and read back as it was",
+            new JdbcSession(source).transaction(
+                session -> {
+                    try (Reader reader = session
+                        .sql("SELECT text FROM log WHERE id = 1")
+                        .select(new ClobOutcome())) {
+                        final StringWriter out = new StringWriter();
+                        final char[] buf = new char[4096];
+                        while (true) {
+                            final int read = reader.read(buf);
+                            if (read < 0) {
+                                break;
+                            }
+                            out.write(buf, 0, read);
+                        }
+                        return out.toString();
+                    } catch (final IOException ex) {
+                        throw new SQLException(ex);
+                    }
+                }
+            ),
+            Matchers.equalTo(text.toString())
+        );
+    }
+}
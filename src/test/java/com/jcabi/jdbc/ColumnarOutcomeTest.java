@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ColumnarOutcome}.
+ * @since 1.0
+ */
+final class ColumnarOutcomeTest {
+
+    @Test
+    void readsTypedColumns() throws Exception {
+        final DataSource source = new H2Source("co1a");
+        new JdbcSession(source)
+            .sql(
+                String.join(
+                    " ",
+                    "CREATE TABLE sale (id BIGINT, qty INT, price DOUBLE,",
+                    "paid BOOLEAN, sold DATE, stamp TIMESTAMP,",
+                    "amount DECIMAL(10, 2), city VARCHAR(20))"
+                )
+            )
+            .execute()
+            .sql("INSERT INTO sale VALUES (?, ?, ?, ?, ?, ?, ?, ?)")
+            .set(1L).set(3).set(2.5d).set(true)
+            .set(LocalDate.of(2024, 2, 29))
+            .set(LocalDateTime.of(2024, 2, 29, 13, 45, 1, 123_456_000))
+            .set(new BigDecimal("12.34")).set("Paris")
+            .execute()
+            .sql("INSERT INTO sale (id, city) VALUES (2, NULL)")
+            .execute();
+        final Columnar table = new JdbcSession(source)
+            .sql("SELECT * FROM sale ORDER BY id")
+            .select(new ColumnarOutcome());
+        MatcherAssert.assertThat(
+            "all rows are read",
+            table.rows(),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "long column is readable",
+            table.longs(table.column("id")).get(1),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "values are typed",
+            Assertions.assertDoesNotThrow(
+                () -> new Object[] {
+                    table.getInt(0, 2),
+                    table.getDouble(0, 3),
+                    table.getBoolean(0, 4),
+                    table.getObject(0, 5),
+                    table.getObject(0, 6),
+                    table.getObject(0, 7),
+                    table.getString(0, 8),
+                }
+            ),
+            Matchers.arrayContaining(
+                3, 2.5d, true,
+                LocalDate.of(2024, 2, 29),
+                LocalDateTime.of(2024, 2, 29, 13, 45, 1, 123_456_000),
+                new BigDecimal("12.34"),
+                "Paris"
+            )
+        );
+        MatcherAssert.assertThat(
+            "NULL is marked",
+            table.isNull(1, table.column("city"))
+                && table.getString(1, 8) == null
+                && table.isNull(1, 2) && table.getInt(1, 2) == 0,
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void encodesRepeatedStringsOnce() throws Exception {
+        final DataSource source = new H2Source("co2b");
+        new JdbcSession(source)
+            .sql("CREATE TABLE visit (city VARCHAR(20), ms DOUBLE)")
+            .execute();
+        final String[] cities = {"Berlin", "Madrid", "Tokyo"};
+        for (int idx = 0; idx < 300; ++idx) {
+            new JdbcSession(source)
+                .sql("INSERT INTO visit VALUES (?, ?)")
+                .set(cities[idx % cities.length])
+                .set((double) idx)
+                .execute();
+        }
+        final Columnar table = new JdbcSession(source)
+            .sql("SELECT city, ms FROM visit")
+            .select(new ColumnarOutcome());
+        final IntBuffer codes = table.codes(1);
+        final DoubleBuffer values = table.doubles(2);
+        final double[] sums = new double[cities.length];
+        while (codes.hasRemaining()) {
+            sums[codes.get()] += values.get();
+        }
+        MatcherAssert.assertThat(
+            "rows are grouped by codes",
+            sums[0] + sums[1] + sums[2],
+            Matchers.equalTo(44_850.0d)
+        );
+        MatcherAssert.assertThat(
+            "strings are stored once, numbers take eight bytes each",
+            table.bytes(),
+            Matchers.lessThan(300L * 12L + 100L)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> table.longs(1),
+            "strings are not longs"
+        );
+    }
+
+    @Test
+    void codesNullsApartFromValues() throws Exception {
+        final Columnar table = new JdbcSession(new H2Source("co3c"))
+            .sql(
+                String.join(
+                    " ",
+                    "SELECT * FROM (VALUES ('Berlin'), (NULL),",
+                    "('Berlin'), (NULL), ('Tokyo')) AS t(city)"
+                )
+            )
+            .select(new ColumnarOutcome());
+        final IntBuffer codes = table.codes(1);
+        final int[] all = new int[codes.remaining()];
+        codes.get(all);
+        MatcherAssert.assertThat(
+            "NULLs have their own code",
+            all,
+            Matchers.equalTo(new int[] {0, -1, 0, -1, 1})
+        );
+        MatcherAssert.assertThat(
+            "NULL is still NULL",
+            table.getString(1, 1),
+            Matchers.nullValue()
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Dialect}.
+ * @since 1.0
+ */
+final class DialectTest {
+
+    @Test
+    void readsProductFromMetaData() throws Exception {
+        final DataSource source = new H2Source("d1a7e");
+        try (Connection conn = source.getConnection()) {
+            MatcherAssert.assertThat(
+                "H2 is recognized",
+                Dialects.of(source, conn).is("h2"),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void cachesDialectPerDataSource() throws Exception {
+        final DataSource source = new H2Source("d2b8f");
+        try (Connection conn = source.getConnection()) {
+            MatcherAssert.assertThat(
+                "the same dialect is returned",
+                Dialects.of(source, conn),
+                Matchers.sameInstance(Dialects.of(source, conn))
+            );
+        }
+    }
+
+    @Test
+    void quotesIdentifiers() {
+        MatcherAssert.assertThat(
+            "identifier is quoted and escaped",
+            new Dialect("H2", "2.4", true, true, "\"").quote("a\"b"),
+            Matchers.equalTo("\"a\"\"b\"")
+        );
+    }
+
+    @Test
+    void limitsBindParameters() {
+        MatcherAssert.assertThat(
+            "PostgreSQL allows 65535 parameters",
+            new Dialect("PostgreSQL", "16", true, true, "\"").parameters(),
+            Matchers.equalTo(65_535)
+        );
+    }
+
+    @Test
+    void knowsWhereManyRowsAreAllowedInValues() {
+        MatcherAssert.assertThat(
+            "Oracle 19c has no multi-row VALUES",
+            new Dialect(
+                "Oracle",
+                "Oracle Database 19c Enterprise Edition Release 19.0.0.0.0",
+                true, true, "\""
+            ).multirow(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Oracle 23ai has multi-row VALUES",
+            new Dialect(
+                "Oracle", "Oracle Database 23ai Free Release 23.0.0.0.0",
+                true, true, "\""
+            ).multirow(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "H2 has multi-row VALUES",
+            new Dialect("H2", "2.4.240", true, true, "\"").multirow(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void explainsQueries() {
+        MatcherAssert.assertThat(
+            "HSQLDB explains with its own syntax",
+            new Dialect("HSQL Database Engine", "2.7", true, true, "\"")
+                .explain("SELECT 1"),
+            Matchers.equalTo("EXPLAIN PLAN FOR SELECT 1")
+        );
+        MatcherAssert.assertThat(
+            "unknown database can't explain",
+            new Dialect("Derby", "10", true, true, "\"").explain("SELECT 1"),
+            Matchers.emptyString()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link DoubleColumnOutcome}.
+ * @since 1.0
+ */
+final class DoubleColumnOutcomeTest {
+
+    @Test
+    void retrievesDoubles() throws Exception {
+        MatcherAssert.assertThat(
+            "doubles are retrieved",
+            new JdbcSession(new H2Source("dc1a"))
+                .sql("SELECT X / 2.0 FROM SYSTEM_RANGE(1, 2)")
+                .select(new DoubleColumnOutcome()),
+            Matchers.equalTo(new double[] {0.5, 1.0})
+        );
+    }
+}
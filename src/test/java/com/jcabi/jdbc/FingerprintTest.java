@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link Fingerprint}.
+ * @since 1.0
+ */
+final class FingerprintTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        quoteCharacter = '"',
+        value = {
+            "SELECT * FROM t WHERE id = 42|SELECT * FROM t WHERE id = ?",
+            "SELECT  *   FROM t|SELECT * FROM t",
+            "SELECT 'it''s', -1.5e3|SELECT ?, ?",
+            "SELECT * FROM t2 WHERE a IN (1, 2, 3)|SELECT * FROM t2 WHERE a IN (?)",
+            "SELECT * FROM t WHERE a IN (?,?)|SELECT * FROM t WHERE a IN (?)",
+            "INSERT INTO t VALUES (?, ?), (?, ?), (?, ?)|INSERT INTO t VALUES (?)",
+        }
+    )
+    void normalizesSql(final String sql, final String expected) {
+        MatcherAssert.assertThat(
+            "SQL is normalized",
+            new Fingerprint(sql).asString(),
+            Matchers.equalTo(expected)
+        );
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link IntColumnOutcome}.
+ * @since 1.0
+ */
+final class IntColumnOutcomeTest {
+
+    @Test
+    void retrievesSecondColumn() throws Exception {
+        MatcherAssert.assertThat(
+            "second column is retrieved",
+            new JdbcSession(new H2Source("ic1a"))
+                .sql("SELECT X, X * 2 FROM SYSTEM_RANGE(1, 3)")
+                .select(new IntColumnOutcome(2)),
+            Matchers.equalTo(new int[] {2, 4, 6})
+        );
+    }
+}
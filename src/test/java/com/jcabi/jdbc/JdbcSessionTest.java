@@ -5,9 +5,16 @@
 package com.jcabi.jdbc;
 
 import com.jcabi.aspects.Parallel;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -144,6 +151,414 @@ final class JdbcSessionTest {
         );
     }
 
+    /**
+     * JdbcSession can execute a batch in chunks.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void executesBatchInChunks() throws Exception {
+        final DataSource source = new H2Source("t0b1a");
+        final JdbcSession session = new JdbcSession(source)
+            .sql("CREATE TABLE t0b1a (id INT AUTO_INCREMENT, name VARCHAR(30))")
+            .execute()
+            .sql("INSERT INTO t0b1a (name) VALUES (?)")
+            .chunk(2);
+        for (int idx = 0; idx < 5; ++idx) {
+            session.set(String.format("name-%d", idx)).addBatch();
+        }
+        final Batch<Long> batch = session.executeBatch(rset -> rset.getLong(1));
+        MatcherAssert.assertThat(
+            "all generated keys are returned",
+            batch.keys(),
+            Matchers.contains(1L, 2L, 3L, 4L, 5L)
+        );
+        MatcherAssert.assertThat(
+            "all update counts are returned",
+            batch.counts().length,
+            Matchers.equalTo(5)
+        );
+    }
+
+    /**
+     * JdbcSession can find the broken row in a failed batch.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void findsBrokenRowInBatch() throws Exception {
+        final DataSource source = new H2Source("t0b2b");
+        final JdbcSession session = new JdbcSession(source)
+            .sql("CREATE TABLE t0b2b (id INT PRIMARY KEY)")
+            .execute()
+            .sql("INSERT INTO t0b2b (id) VALUES (?)")
+            .chunk(4);
+        for (final int num : new int[] {1, 2, 3, 2, 5, 6}) {
+            session.set(num).addBatch();
+        }
+        MatcherAssert.assertThat(
+            "broken row is reported",
+            Assertions.assertThrows(
+                SQLException.class,
+                () -> session.executeBatch(rset -> rset.getLong(1))
+            ).getMessage(),
+            Matchers.containsString("row #3")
+        );
+        MatcherAssert.assertThat(
+            "rows before the broken one are committed",
+            new JdbcSession(source)
+                .sql("SELECT id FROM t0b2b ORDER BY id")
+                .select(new ColumnOutcome<>(Long.class)),
+            Matchers.contains(1L, 2L, 3L)
+        );
+    }
+
+    /**
+     * JdbcSession can stream rows lazily.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void streamsRowsLazily() throws Exception {
+        final DataSource source = new H2Source("t3s0c");
+        final JdbcSession session = new JdbcSession(source)
+            .sql("CREATE TABLE t3s0c (id INT)")
+            .execute()
+            .sql("INSERT INTO t3s0c (id) VALUES (?)");
+        for (int idx = 1; idx <= 100; ++idx) {
+            session.set(idx).addBatch();
+        }
+        session.executeBatch(rset -> rset.getLong(1));
+        try (Stream<Integer> ids = new JdbcSession(source)
+            .tune(new Tuning().fetch(7))
+            .sql("SELECT id FROM t3s0c ORDER BY id")
+            .stream(rset -> rset.getInt(1))) {
+            MatcherAssert.assertThat(
+                "all rows are streamed",
+                ids.mapToInt(Integer::intValue).sum(),
+                Matchers.equalTo(5050)
+            );
+        }
+    }
+
+    /**
+     * JdbcSession can stream rows outside of auto-commit mode.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void streamsRowsWithoutAutoCommit() throws Exception {
+        final DataSource source = new H2Source("t5s2e");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t5s2e (id INT)")
+            .execute()
+            .sql("INSERT INTO t5s2e VALUES (1), (2)")
+            .execute();
+        try (Stream<Boolean> modes = new JdbcSession(source)
+            .sql("SELECT id FROM t5s2e")
+            .stream(
+                rset -> rset.getStatement().getConnection().getAutoCommit()
+            )) {
+            MatcherAssert.assertThat(
+                "rows are read outside of auto-commit mode",
+                modes.collect(Collectors.toList()),
+                Matchers.contains(false, false)
+            );
+        }
+    }
+
+    /**
+     * JdbcSession can stream rows inside a transaction.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void streamsRowsInsideTransaction() throws Exception {
+        final DataSource source = new H2Source("t4s1d");
+        final JdbcSession session = new JdbcSession(source)
+            .autocommit(false)
+            .sql("CREATE TABLE t4s1d (name VARCHAR(30))")
+            .execute()
+            .sql("INSERT INTO t4s1d VALUES ('first'), ('second')")
+            .execute();
+        try (Stream<String> names = session
+            .sql("SELECT name FROM t4s1d ORDER BY name")
+            .stream(rset -> rset.getString(1))) {
+            MatcherAssert.assertThat(
+                "the first row is streamed",
+                names.findFirst().get(),
+                Matchers.equalTo("first")
+            );
+        }
+        session.commit();
+        MatcherAssert.assertThat(
+            "the transaction is committed",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM t4s1d")
+                .select(new SingleOutcome<>(Long.class)),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    /**
+     * JdbcSession can keep tuning after clear.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void keepsTuningAfterClear() throws Exception {
+        final DataSource source = new H2Source("t5k2e");
+        final JdbcSession session = new JdbcSession(source)
+            .tune(new Tuning().max(2))
+            .sql("CREATE TABLE t5k2e (id INT)")
+            .execute()
+            .sql("INSERT INTO t5k2e VALUES (1), (2), (3)")
+            .execute()
+            .clear();
+        MatcherAssert.assertThat(
+            "max rows are limited",
+            session.sql("SELECT id FROM t5k2e")
+                .select(new ColumnOutcome<>(Long.class)),
+            Matchers.hasSize(2)
+        );
+    }
+
+    /**
+     * JdbcSession can insert many rows with multi-row statements,
+     * of a few shapes only.
+     * @throws Exception If there is some problem inside
+     * @since 1.0
+     */
+    @Test
+    void insertsManyRowsWithValues() throws Exception {
+        final DataSource source = new H2Source("t6v3f");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t6v3f (id INT AUTO_INCREMENT, name VARCHAR(30))")
+            .execute();
+        final List<List<Object>> rows = new ArrayList<>(21);
+        for (int idx = 0; idx < 21; ++idx) {
+            rows.add(Collections.singletonList(String.format("n%d", idx)));
+        }
+        final JdbcSession session = new JdbcSession(source)
+            .autocommit(false)
+            .chunk(8)
+            .sql("INSERT INTO t6v3f (name) VALUES (?)");
+        final List<Long> keys = session.insertAll(rows, rset -> rset.getLong(1));
+        MatcherAssert.assertThat(
+            "only three shapes are prepared, for 8, 4 and 1 rows",
+            session.statements().misses(),
+            Matchers.equalTo(3L)
+        );
+        session.commit();
+        MatcherAssert.assertThat(
+            "generated keys of all rows are returned",
+            keys,
+            Matchers.hasSize(21)
+        );
+        MatcherAssert.assertThat(
+            "all rows are inserted",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM t6v3f")
+                .select(new SingleOutcome<>(Long.class)),
+            Matchers.equalTo(21L)
+        );
+    }
+
+    @Test
+    void keepsSettingsInTransaction() throws Exception {
+        final DataSource source = new H2Source("t8k4c");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t8k4c (id INT AUTO_INCREMENT, name VARCHAR(9))")
+            .execute();
+        final List<List<Object>> rows = new ArrayList<>(4);
+        for (int idx = 0; idx < 4; ++idx) {
+            rows.add(Collections.singletonList(String.format("k%d", idx)));
+        }
+        MatcherAssert.assertThat(
+            "rows are inserted two by two, through one cached statement",
+            new JdbcSession(source).chunk(2).transaction(
+                session -> {
+                    session.sql("INSERT INTO t8k4c (name) VALUES (?)")
+                        .insertAll(rows, rset -> rset.getLong(1));
+                    return session.statements().hits();
+                }
+            ),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "statements are not cached, if the session doesn't cache them",
+            new JdbcSession(source).chunk(2).statements(0).transaction(
+                session -> {
+                    session.sql("INSERT INTO t8k4c (name) VALUES (?)")
+                        .insertAll(rows, rset -> rset.getLong(1));
+                    return session.statements().hits();
+                }
+            ),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void rejectsArgumentsBeforeInsertAll() throws Exception {
+        final DataSource source = new H2Source("t9r5d");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t9r5d (id INT AUTO_INCREMENT, name VARCHAR(9))")
+            .execute();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new JdbcSession(source)
+                .sql("INSERT INTO t9r5d (name) VALUES (?)")
+                .set("extra")
+                .insertAll(
+                    Collections.singletonList(Collections.singletonList("a")),
+                    rset -> rset.getLong(1)
+                ),
+            "arguments of set() would shift values of rows"
+        );
+    }
+
+    @Test
+    void selectsPrimitiveScalars() throws Exception {
+        final DataSource source = new H2Source("t7p2x");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t7p2x (id INT, price DOUBLE, open BOOLEAN)")
+            .execute()
+            .sql("INSERT INTO t7p2x VALUES (1, 2.5, TRUE), (2, 0.25, FALSE)")
+            .execute();
+        MatcherAssert.assertThat(
+            "count is selected as long",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM t7p2x")
+                .selectLong(),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "max is selected as int",
+            new JdbcSession(source)
+                .sql("SELECT MAX(id) FROM t7p2x")
+                .selectInt(),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "sum is selected as double",
+            new JdbcSession(source)
+                .sql("SELECT SUM(price) FROM t7p2x")
+                .selectDouble(),
+            Matchers.closeTo(2.75, 0.001)
+        );
+        MatcherAssert.assertThat(
+            "flag is selected as boolean",
+            new JdbcSession(source)
+                .sql("SELECT open FROM t7p2x WHERE id = ?")
+                .set(1)
+                .selectBoolean(),
+            Matchers.is(true)
+        );
+        Assertions.assertThrows(
+            SQLException.class,
+            () -> new JdbcSession(source)
+                .sql("SELECT id FROM t7p2x WHERE id > 5")
+                .selectLong(),
+            "empty result can't be a scalar"
+        );
+    }
+
+    @Test
+    void commitsOrRollsBackTransaction() throws Exception {
+        final DataSource source = new H2Source("t8x4q");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t8x4q (name VARCHAR(10))")
+            .execute();
+        new JdbcSession(source).transaction(
+            session -> session.sql("INSERT INTO t8x4q VALUES ('a')")
+                .execute()
+                .sql("INSERT INTO t8x4q VALUES ('b')")
+                .execute()
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new JdbcSession(source).transaction(
+                session -> {
+                    session.sql("INSERT INTO t8x4q VALUES ('c')").execute();
+                    throw new IllegalStateException("broken");
+                }
+            ),
+            "failure of the work is thrown"
+        );
+        MatcherAssert.assertThat(
+            "the first transaction is committed, the second is rolled back",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM t8x4q")
+                .selectLong(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void rollsBackNestedTransactionToSavepoint() throws Exception {
+        final DataSource source = new H2Source("t9n5s");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t9n5s (id INT PRIMARY KEY)")
+            .execute();
+        final long total = new JdbcSession(source).transaction(
+            session -> {
+                session.sql("INSERT INTO t9n5s VALUES (1)").execute();
+                try {
+                    session.transaction(
+                        nested -> nested.sql("INSERT INTO t9n5s VALUES (2)")
+                            .execute()
+                            .sql("INSERT INTO t9n5s VALUES (1)")
+                            .execute()
+                    );
+                } catch (final SQLException ex) {
+                    session.transaction(
+                        nested -> nested.sql("INSERT INTO t9n5s VALUES (3)")
+                            .execute()
+                    );
+                }
+                return session.sql("SELECT COUNT(*) FROM t9n5s").selectLong();
+            }
+        );
+        MatcherAssert.assertThat(
+            "only the failed nested step is rolled back",
+            total,
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "the outer transaction is committed",
+            new JdbcSession(source)
+                .sql("SELECT SUM(id) FROM t9n5s")
+                .selectLong(),
+            Matchers.equalTo(4L)
+        );
+    }
+
+    @Test
+    void runsReadOnlyTransactionOnOneConnection() throws Exception {
+        final DataSource source = new H2Source("t1r6o");
+        new JdbcSession(source)
+            .sql("CREATE TABLE t1r6o (id INT)")
+            .execute()
+            .sql("INSERT INTO t1r6o VALUES (7)")
+            .execute();
+        MatcherAssert.assertThat(
+            "all statements use the same connection",
+            new JdbcSession(source).transaction(
+                session -> {
+                    final long first = session
+                        .sql("SELECT SESSION_ID()")
+                        .selectLong();
+                    final long second = session
+                        .sql("SELECT SESSION_ID() FROM t1r6o WHERE id = 7")
+                        .selectLong();
+                    return first == second;
+                },
+                true
+            ),
+            Matchers.is(true)
+        );
+    }
+
     /**
      * Insert a row into a table.
      * @param src Data source
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.stream.LongStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LongColumnOutcome}.
+ * @since 1.0
+ */
+final class LongColumnOutcomeTest {
+
+    @Test
+    void retrievesColumnOfAnySize() throws Exception {
+        MatcherAssert.assertThat(
+            "all values are retrieved, in order",
+            new JdbcSession(new H2Source("lc1a"))
+                .sql("SELECT X FROM SYSTEM_RANGE(1, 1000)")
+                .select(new LongColumnOutcome()),
+            Matchers.equalTo(LongStream.rangeClosed(1L, 1000L).toArray())
+        );
+    }
+
+    @Test
+    void retrievesEmptyColumn() throws Exception {
+        MatcherAssert.assertThat(
+            "empty array is returned",
+            new JdbcSession(new H2Source("lc2b"))
+                .sql("SELECT X FROM SYSTEM_RANGE(1, 0)")
+                .select(new LongColumnOutcome()).length,
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void mapsRowsWithPrimitiveMapping() throws Exception {
+        MatcherAssert.assertThat(
+            "every row is mapped without boxing",
+            new JdbcSession(new H2Source("lc3c"))
+                .sql("SELECT X, X * 10 FROM SYSTEM_RANGE(1, 3)")
+                .select(new LongColumnOutcome(rs -> rs.getLong(1) + rs.getLong(2))),
+            Matchers.equalTo(new long[] {11L, 22L, 33L})
+        );
+    }
+
+    @Test
+    void comparesByColumn() {
+        MatcherAssert.assertThat(
+            "outcomes of the same column are equal",
+            new LongColumnOutcome(2),
+            Matchers.equalTo(new LongColumnOutcome(2))
+        );
+    }
+}
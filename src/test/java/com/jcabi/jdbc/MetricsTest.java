@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Metrics}.
+ * @since 1.0
+ */
+final class MetricsTest {
+
+    @Test
+    void collectsStatsByFingerprint() throws Exception {
+        final DataSource source = new H2Source("mtr1a");
+        final Metrics metrics = new Metrics();
+        final JdbcSession session = new JdbcSession(source).listen(metrics)
+            .sql("CREATE TABLE foo (id INT, name VARCHAR(30))").execute()
+            .sql("INSERT INTO foo VALUES (1, 'a'), (2, 'b'), (3, 'c')")
+            .execute();
+        for (int idx = 1; idx < 3; ++idx) {
+            session.sql(String.format("SELECT name FROM foo WHERE id >= %d", idx))
+                .select(new ListOutcome<>(rset -> rset.getString(1)));
+        }
+        final Metrics.Stats stats = metrics.snapshot()
+            .get("SELECT name FROM foo WHERE id >= ?");
+        MatcherAssert.assertThat(
+            "both selects are counted together",
+            stats.calls(),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "rows of both selects are counted",
+            stats.rows(),
+            Matchers.equalTo(5L)
+        );
+        MatcherAssert.assertThat(
+            "execution time is measured",
+            stats.nanos(Timing.Stage.EXECUTE),
+            Matchers.greaterThan(0L)
+        );
+    }
+
+    @Test
+    void countsFailures() {
+        final Metrics metrics = new Metrics();
+        Assertions.assertThrows(
+            SQLException.class,
+            () -> new JdbcSession(new H2Source("mtr2b"))
+                .listen(metrics)
+                .sql("SELECT * FROM absent")
+                .select(Outcome.NOT_EMPTY)
+        );
+        final Map<String, Metrics.Stats> snapshot = metrics.snapshot();
+        MatcherAssert.assertThat(
+            "failure is counted",
+            snapshot.get("SELECT * FROM absent").failures(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void reportsStreams() throws Exception {
+        final Metrics metrics = new Metrics();
+        try (Stream<Long> rows = new JdbcSession(new H2Source("mtr3c"))
+            .listen(metrics)
+            .sql("SELECT X FROM SYSTEM_RANGE(1, 10)")
+            .stream(rset -> rset.getLong(1))) {
+            MatcherAssert.assertThat(
+                "all rows are streamed",
+                rows.count(),
+                Matchers.equalTo(10L)
+            );
+        }
+        MatcherAssert.assertThat(
+            "stream is reported once",
+            metrics.snapshot().get("SELECT X FROM SYSTEM_RANGE(?)").calls(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void exportsPrometheusText() throws Exception {
+        final Metrics metrics = new Metrics();
+        new JdbcSession(new H2Source("mtr4d"))
+            .listen(metrics)
+            .sql("SELECT 'say \"hi\"'")
+            .select(Outcome.NOT_EMPTY);
+        MatcherAssert.assertThat(
+            "histogram and counters are exported",
+            metrics.prometheus(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "# TYPE jcabi_jdbc_seconds histogram\n"
+                ),
+                Matchers.containsString(
+                    "jcabi_jdbc_seconds_count{sql=\"SELECT ?\",stage=\"map\"} 1\n"
+                ),
+                Matchers.containsString(
+                    "jcabi_jdbc_seconds_bucket{sql=\"SELECT ?\",stage=\"connect\",le=\"0.0001\"}"
+                ),
+                Matchers.containsString(
+                    "jcabi_jdbc_seconds_bucket{sql=\"SELECT ?\",stage=\"execute\",le=\"+Inf\"} 1\n"
+                ),
+                Matchers.containsString(
+                    "jcabi_jdbc_rows_total{sql=\"SELECT ?\"} 1\n"
+                )
+            )
+        );
+    }
+
+    @Test
+    void escapesLabels() {
+        final Metrics metrics = new Metrics();
+        metrics.done(
+            new Timing(
+                "SELECT \"a\\b\"\nFROM t", new Object[0], new long[4], 0L, false
+            )
+        );
+        MatcherAssert.assertThat(
+            "quotes and backslashes are escaped",
+            metrics.prometheus(),
+            Matchers.containsString(
+                "jcabi_jdbc_calls_total{sql=\"SELECT \\\"a\\\\b\\\" FROM t\"} 1\n"
+            )
+        );
+    }
+}
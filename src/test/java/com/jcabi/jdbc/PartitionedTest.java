@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Partitioned}.
+ * @since 1.0
+ */
+final class PartitionedTest {
+
+    @Test
+    void selectsAllRowsInOrder() throws Exception {
+        MatcherAssert.assertThat(
+            "rows of all slices are merged in the order of keys",
+            new Partitioned(
+                PartitionedTest.table("pt1a"),
+                "SELECT id FROM item WHERE kind = ? AND id >= ? AND id < ? ORDER BY id",
+                "odd"
+            ).range(1L, 1000L, 7).list(rset -> rset.getLong(1), true),
+            Matchers.equalTo(
+                LongStream.rangeClosed(1L, 1000L).filter(id -> id % 2L == 1L)
+                    .boxed().collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void selectsAllRowsUnordered() throws Exception {
+        final List<Long> ids = new Partitioned(
+            PartitionedTest.table("pt2b"),
+            "SELECT id FROM item WHERE id >= ? AND id < ?"
+        ).boundaries(0L, 10L, 500L, 501L, 2000L)
+            .list(rset -> rset.getLong(1), false);
+        MatcherAssert.assertThat(
+            "all rows are selected",
+            ids,
+            Matchers.hasSize(1000)
+        );
+        MatcherAssert.assertThat(
+            "no row is selected twice",
+            ids.stream().distinct().count(),
+            Matchers.equalTo(1000L)
+        );
+    }
+
+    @Test
+    void runsOutcomeForEverySlice() throws Exception {
+        MatcherAssert.assertThat(
+            "every slice counts its own rows",
+            new Partitioned(
+                PartitionedTest.table("pt3c"),
+                "SELECT COUNT(*) FROM item WHERE id >= ? AND id < ?"
+            ).range(1L, 1000L, 4).select(new SingleOutcome<>(Long.class)),
+            Matchers.contains(250L, 250L, 250L, 250L)
+        );
+    }
+
+    @Test
+    void reportsFailureOfSlice() {
+        Assertions.assertThrows(
+            SQLException.class,
+            () -> new Partitioned(
+                new H2Source("pt4d"),
+                "SELECT id FROM absent WHERE id >= ? AND id < ?"
+            ).range(1L, 10L, 2).select(Outcome.NOT_EMPTY),
+            "SQL failure of a slice is thrown"
+        );
+    }
+
+    @Test
+    void stopsSlicesWhenOneFails() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertThrows(
+                SQLException.class,
+                () -> new Partitioned(
+                    new H2Source("pt5e"),
+                    "SELECT CAST(? AS BIGINT), CAST(? AS BIGINT)"
+                ).range(0L, 9L, 2).pool(pool).select(
+                    (rset, stmt) -> {
+                        rset.next();
+                        if (rset.getLong(1) > 0L) {
+                            throw new SQLException("the right slice fails");
+                        }
+                        running.incrementAndGet();
+                        try {
+                            TimeUnit.MILLISECONDS.sleep(300L);
+                        } catch (final InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            running.decrementAndGet();
+                        }
+                        return Boolean.TRUE;
+                    }
+                ),
+                "failure of the right slice is thrown"
+            );
+            MatcherAssert.assertThat(
+                "the left slice doesn't run after the failure",
+                running.get(),
+                Matchers.equalTo(0)
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void runsSlicesWithSettingsOfSession() throws Exception {
+        final AtomicInteger queries = new AtomicInteger();
+        new Partitioned(
+            new JdbcSession(PartitionedTest.table("pt6f"))
+                .listen(timing -> queries.incrementAndGet()),
+            "SELECT COUNT(*) FROM item WHERE id >= ? AND id < ?"
+        ).range(1L, 1000L, 4).select(Outcome.NOT_EMPTY);
+        MatcherAssert.assertThat(
+            "every slice reports to the listener of the session",
+            queries.get(),
+            Matchers.equalTo(4)
+        );
+    }
+
+    /**
+     * Make a table with a thousand rows.
+     * @param name Name of the database
+     * @return Data source
+     * @throws Exception If fails
+     */
+    private static DataSource table(final String name) throws Exception {
+        final DataSource source = new H2Source(name);
+        new JdbcSession(source)
+            .sql("CREATE TABLE item (id BIGINT PRIMARY KEY, kind VARCHAR(4))")
+            .execute()
+            .sql(
+                String.join(
+                    " ",
+                    "INSERT INTO item SELECT X,",
+                    "CASEWHEN(MOD(X, 2) = 1, 'odd', 'even')",
+                    "FROM SYSTEM_RANGE(1, 1000)"
+                )
+            )
+            .execute();
+        return source;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PooledSource}.
+ * @since 1.0
+ */
+final class PooledSourceTest {
+
+    @Test
+    void reusesConnections() throws Exception {
+        try (PooledSource source = new PooledSource(new H2Source("ps1a"), 0, 2)) {
+            final Connection first;
+            try (Connection conn = source.getConnection()) {
+                first = conn.unwrap(Connection.class);
+            }
+            try (Connection conn = source.getConnection()) {
+                MatcherAssert.assertThat(
+                    "the same connection is returned",
+                    conn.unwrap(Connection.class),
+                    Matchers.sameInstance(first)
+                );
+            }
+        }
+    }
+
+    @Test
+    void restoresStateOfReturnedConnection() throws Exception {
+        try (PooledSource source = new PooledSource(new H2Source("ps2b"), 0, 1)) {
+            try (Connection conn = source.getConnection()) {
+                conn.setAutoCommit(false);
+                conn.setReadOnly(true);
+            }
+            try (Connection conn = source.getConnection()) {
+                MatcherAssert.assertThat(
+                    "auto-commit is restored",
+                    conn.getAutoCommit(),
+                    Matchers.is(true)
+                );
+                MatcherAssert.assertThat(
+                    "read-only is restored",
+                    conn.isReadOnly(),
+                    Matchers.is(false)
+                );
+            }
+        }
+    }
+
+    @Test
+    void closesStatementsLeftOpen() throws Exception {
+        try (PooledSource source = new PooledSource(new H2Source("ps6f"), 0, 1)) {
+            final Statement stmt;
+            final ResultSet rset;
+            try (Connection conn = source.getConnection()) {
+                stmt = conn.prepareStatement("SELECT 1");
+                rset = ((PreparedStatement) stmt).executeQuery();
+            }
+            MatcherAssert.assertThat(
+                "statement is closed when the connection is returned",
+                stmt.isClosed(),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "its result set is closed too",
+                rset.isClosed(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void worksWithJdbcSession() throws Exception {
+        try (PooledSource source = new PooledSource(new H2Source("ps3c"), 1, 3)) {
+            new JdbcSession(source)
+                .sql("CREATE TABLE ps3c (id INT)")
+                .execute();
+            for (int idx = 0; idx < 10; ++idx) {
+                new JdbcSession(source)
+                    .sql("INSERT INTO ps3c VALUES (?)")
+                    .set(idx)
+                    .execute();
+            }
+            MatcherAssert.assertThat(
+                "all rows are inserted",
+                new JdbcSession(source)
+                    .sql("SELECT COUNT(*) FROM ps3c")
+                    .select(new SingleOutcome<>(Long.class)),
+                Matchers.equalTo(10L)
+            );
+        }
+    }
+
+    @Test
+    void validatesEveryIdleConnectionOncePerPass() throws Exception {
+        final AtomicInteger checks = new AtomicInteger();
+        final DataSource counting = PooledSourceTest.watched(
+            new H2Source("ps4d"), new AtomicInteger(),
+            () -> checks.incrementAndGet()
+        );
+        try (PooledSource source = PooledSourceTest.untimed(counting, 2)) {
+            try (Connection first = source.getConnection();
+                Connection second = source.getConnection()) {
+                MatcherAssert.assertThat(
+                    "both connections are open",
+                    first.isClosed() || second.isClosed(),
+                    Matchers.is(false)
+                );
+            }
+            source.maintain();
+            MatcherAssert.assertThat(
+                "idle connections are validated once",
+                checks.get(),
+                Matchers.equalTo(2)
+            );
+            source.maintain();
+            MatcherAssert.assertThat(
+                "healthy connections stay in the pool",
+                checks.get(),
+                Matchers.equalTo(4)
+            );
+        }
+    }
+
+    @Test
+    void staysWithinMaximumWhileValidating() throws Exception {
+        final AtomicInteger opened = new AtomicInteger();
+        final AtomicBoolean armed = new AtomicBoolean();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch resume = new CountDownLatch(1);
+        final DataSource slow = PooledSourceTest.watched(
+            new H2Source("ps5e"), opened,
+            () -> {
+                if (armed.compareAndSet(true, false)) {
+                    entered.countDown();
+                    resume.await();
+                }
+                return null;
+            }
+        );
+        final ExecutorService svc = Executors.newFixedThreadPool(2);
+        try (PooledSource source = PooledSourceTest.untimed(slow, 2)) {
+            try (Connection first = source.getConnection();
+                Connection second = source.getConnection()) {
+                MatcherAssert.assertThat(
+                    "both connections are taken",
+                    first.isClosed() || second.isClosed(),
+                    Matchers.is(false)
+                );
+            }
+            armed.set(true);
+            final Future<?> pass = svc.submit(source::maintain);
+            entered.await();
+            try (Connection conn = source.getConnection()) {
+                final Future<Boolean> late = svc.submit(
+                    () -> {
+                        try (Connection other = source.getConnection()) {
+                            return other.isClosed();
+                        }
+                    }
+                );
+                resume.countDown();
+                pass.get();
+                MatcherAssert.assertThat(
+                    "the connection being validated is given out later",
+                    late.get() || conn.isClosed(),
+                    Matchers.is(false)
+                );
+            }
+            MatcherAssert.assertThat(
+                "no connections are opened over the maximum",
+                opened.get(),
+                Matchers.equalTo(2)
+            );
+        } finally {
+            svc.shutdownNow();
+        }
+    }
+
+    /**
+     * Make a pool, which doesn't validate connections on a timer.
+     * @param origin Where connections come from
+     * @param max Maximum amount of connections
+     * @return The pool
+     */
+    private static PooledSource untimed(final DataSource origin,
+        final int max) {
+        return new PooledSource(
+            origin, 0, max, TimeUnit.DAYS.toMillis(1L),
+            TimeUnit.DAYS.toMillis(1L)
+        );
+    }
+
+    /**
+     * Make a source, which counts opened connections and runs a callback
+     * on every validation.
+     * @param origin Where connections come from
+     * @param opened Counter of opened connections
+     * @param check Callback, before every validation
+     * @return The source
+     */
+    private static DataSource watched(final DataSource origin,
+        final AtomicInteger opened, final Callable<?> check) {
+        return (DataSource) Proxy.newProxyInstance(
+            PooledSourceTest.class.getClassLoader(),
+            new Class<?>[] {DataSource.class},
+            (src, call, params) -> {
+                final Connection conn = origin.getConnection();
+                opened.incrementAndGet();
+                return Proxy.newProxyInstance(
+                    PooledSourceTest.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if ("isValid".equals(method.getName())) {
+                            check.call();
+                        }
+                        return method.invoke(conn, args);
+                    }
+                );
+            }
+        );
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RecordOutcome}.
+ * @since 1.0
+ */
+final class RecordOutcomeTest {
+
+    @Test
+    void mapsRowsToConstructor() throws Exception {
+        final List<RecordOutcomeTest.User> users = new JdbcSession(
+            new H2Source("ro1a")
+        )
+            .sql(
+                String.join(
+                    " ",
+                    "SELECT X AS num, CONCAT('user-', X) AS txt, NULL AS scr",
+                    "FROM SYSTEM_RANGE(1, 3)"
+                )
+            )
+            .select(new RecordOutcome<>(RecordOutcomeTest.User.class));
+        MatcherAssert.assertThat(
+            "all rows are mapped",
+            users,
+            Matchers.hasSize(3)
+        );
+        MatcherAssert.assertThat(
+            "columns are read by parameter types",
+            users.get(2).toString(),
+            Matchers.equalTo("3:user-3:null")
+        );
+    }
+
+    @Test
+    void reusesPlanForSameColumns() throws Exception {
+        final RecordMapping<RecordOutcomeTest.User> mapping =
+            new RecordMapping<>(RecordOutcomeTest.User.class);
+        final JdbcSession session = new JdbcSession(new H2Source("ro2b"));
+        session.sql("SELECT 1 AS num, 'a' AS txt, 7 AS scr").select(new ListOutcome<>(mapping));
+        MatcherAssert.assertThat(
+            "the same mapping works for the next query",
+            session.sql("SELECT 2 AS num, 'b' AS txt, 8 AS scr")
+                .select(new SingleOutcome<>(mapping, false))
+                .toString(),
+            Matchers.equalTo("2:b:8")
+        );
+        final RecordPlan plan = new RecordPlan(RecordOutcomeTest.User.class);
+        try (
+            Connection conn = new H2Source("ro3c").getConnection();
+            Statement first = conn.createStatement();
+            Statement second = conn.createStatement();
+            ResultSet left = first.executeQuery(
+                "SELECT 1 AS num, 'x' AS txt, 2 AS scr"
+            );
+            ResultSet right = second.executeQuery(
+                "SELECT 3 AS num, 'y' AS txt, 4 AS scr"
+            )
+        ) {
+            MatcherAssert.assertThat(
+                "the plan is built once for the same columns",
+                plan.handle(right),
+                Matchers.sameInstance(plan.handle(left))
+            );
+        }
+    }
+
+    @Test
+    void readsTimestampsInUtc() throws Exception {
+        final JdbcSession session = new JdbcSession(new H2Source("ro4d"))
+            .sql("SELECT TIMESTAMP '2020-01-02 03:04:05' AS at");
+        MatcherAssert.assertThat(
+            "records get the same instant as Utc",
+            session.select(new RecordOutcome<>(RecordOutcomeTest.Event.class))
+                .get(0).when(),
+            Matchers.equalTo(
+                session.select(new SingleOutcome<>(Utc.class)).getDate()
+            )
+        );
+    }
+
+    /**
+     * Event, for tests.
+     * @since 1.0
+     */
+    private static final class Event {
+
+        /**
+         * When it happened.
+         */
+        private final Date time;
+
+        /**
+         * Ctor.
+         * @param at When it happened
+         */
+        Event(final Date at) {
+            this.time = at;
+        }
+
+        /**
+         * When it happened.
+         * @return The time
+         */
+        Date when() {
+            return this.time;
+        }
+    }
+
+    /**
+     * User, for tests.
+     * @since 1.0
+     */
+    private static final class User {
+
+        /**
+         * Id.
+         */
+        private final long id;
+
+        /**
+         * Name.
+         */
+        private final String name;
+
+        /**
+         * Score, nullable.
+         */
+        private final Long score;
+
+        /**
+         * Ctor.
+         * @param num Id
+         * @param txt Name
+         * @param scr Score
+         */
+        User(final long num, final String txt, final Long scr) {
+            this.id = num;
+            this.name = txt;
+            this.score = scr;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d:%s:%s", this.id, this.name, this.score);
+        }
+    }
+}
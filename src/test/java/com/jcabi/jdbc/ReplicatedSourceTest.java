@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ReplicatedSource}.
+ * @since 1.0
+ */
+final class ReplicatedSourceTest {
+
+    @Test
+    void sendsSelectsToReplicas() throws Exception {
+        final ReplicatedSource source = new ReplicatedSource(
+            ReplicatedSourceTest.node("rs1p"),
+            ReplicatedSourceTest.node("rs1a"),
+            ReplicatedSourceTest.node("rs1b")
+        );
+        final Set<String> names = new HashSet<>(0);
+        for (int idx = 0; idx < 4; ++idx) {
+            names.add(
+                new JdbcSession(source)
+                    .sql("SELECT name FROM node")
+                    .select(new SingleOutcome<>(String.class))
+            );
+        }
+        MatcherAssert.assertThat(
+            "replicas take turns",
+            names,
+            Matchers.containsInAnyOrder("rs1a", "rs1b")
+        );
+        MatcherAssert.assertThat(
+            "connections to replicas are closed",
+            source.busy(0) + source.busy(1),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void sendsWritesAndTransactionsToPrimary() throws Exception {
+        final DataSource primary = ReplicatedSourceTest.node("rs2p");
+        final ReplicatedSource source = new ReplicatedSource(
+            primary, ReplicatedSourceTest.node("rs2a")
+        );
+        new JdbcSession(source)
+            .sql("INSERT INTO node (name) VALUES (?)")
+            .set("new")
+            .insert(Outcome.VOID);
+        MatcherAssert.assertThat(
+            "insert goes to the primary",
+            new JdbcSession(primary)
+                .sql("SELECT COUNT(*) FROM node")
+                .selectLong(),
+            Matchers.equalTo(2L)
+        );
+        final JdbcSession session = new JdbcSession(source).autocommit(false);
+        MatcherAssert.assertThat(
+            "select inside a transaction goes to the primary",
+            session.sql("SELECT COUNT(*) FROM node").selectLong(),
+            Matchers.equalTo(2L)
+        );
+        session.commit();
+        MatcherAssert.assertThat(
+            "select outside a transaction goes to the replica",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM node")
+                .selectLong(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void readsOwnWritesWhenSticky() throws Exception {
+        final ReplicatedSource source = new ReplicatedSource(
+            ReplicatedSourceTest.node("rs3p"),
+            ReplicatedSourceTest.node("rs3a")
+        );
+        final JdbcSession session = new JdbcSession(source).sticky(60_000L);
+        session.sql("UPDATE node SET name = ?").set("changed").execute();
+        MatcherAssert.assertThat(
+            "select after write goes to the primary",
+            session.sql("SELECT name FROM node")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("changed")
+        );
+        MatcherAssert.assertThat(
+            "other sessions still read from the replica",
+            new JdbcSession(source)
+                .sql("SELECT name FROM node")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("rs3a")
+        );
+    }
+
+    @Test
+    void readsOwnAsynchronousWritesWhenSticky() throws Exception {
+        final ReplicatedSource source = new ReplicatedSource(
+            ReplicatedSourceTest.node("rs5p"),
+            ReplicatedSourceTest.node("rs5a")
+        );
+        final JdbcSession session = new JdbcSession(source).sticky(60_000L);
+        session.sql("UPDATE node SET name = ?")
+            .set("async")
+            .updateAsync(Outcome.VOID)
+            .get(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "select after asynchronous write goes to the primary",
+            session.sql("SELECT name FROM node")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo("async")
+        );
+    }
+
+    @Test
+    void picksLeastBusyReplica() throws Exception {
+        final ReplicatedSource source = new ReplicatedSource(
+            ReplicatedSourceTest.node("rs4p"),
+            ReplicatedSourceTest.node("rs4a"),
+            ReplicatedSourceTest.node("rs4b")
+        );
+        try (Connection first = source.reader();
+            Connection second = source.reader()) {
+            MatcherAssert.assertThat(
+                "both replicas are busy",
+                source.busy(0) + source.busy(1),
+                Matchers.equalTo(2)
+            );
+            MatcherAssert.assertThat(
+                "connections go to different replicas",
+                first.getMetaData().getURL(),
+                Matchers.not(second.getMetaData().getURL())
+            );
+        }
+    }
+
+    /**
+     * Make a node with a table that has its name.
+     * @param name Name of the node
+     * @return Data source
+     * @throws Exception If fails
+     */
+    private static DataSource node(final String name) throws Exception {
+        final DataSource source = new H2Source(name);
+        new JdbcSession(source)
+            .sql("CREATE TABLE node (name VARCHAR(50))")
+            .execute()
+            .sql("INSERT INTO node (name) VALUES (?)")
+            .set(name)
+            .execute();
+        return source;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ResultCache}.
+ * @since 1.0
+ */
+final class ResultCacheTest {
+
+    @Test
+    void returnsCachedResult() throws Exception {
+        final DataSource source = new H2Source("rch1a");
+        final ResultCache cache = new ResultCache(10, 1L, TimeUnit.HOURS);
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (id INT, name VARCHAR(30))").execute()
+            .sql("INSERT INTO foo VALUES (1, 'Jeff')").execute();
+        final JdbcSession session = new JdbcSession(source).cache(cache);
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                "the right result is returned",
+                session.sql("SELECT name FROM foo WHERE id = ?")
+                    .set(1)
+                    .select(new SingleOutcome<>(String.class)),
+                Matchers.equalTo("Jeff")
+            );
+        }
+        MatcherAssert.assertThat(
+            "the query is executed only once",
+            cache.misses(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "cached result is returned twice",
+            cache.hits(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void separatesResultsOfDataSources() throws Exception {
+        final ResultCache cache = new ResultCache(10, 1L, TimeUnit.HOURS);
+        final DataSource first = new H2Source("rch5e");
+        final DataSource second = new H2Source("rch6f");
+        for (final DataSource source : new DataSource[] {first, second}) {
+            new JdbcSession(source)
+                .sql("CREATE TABLE foo (name VARCHAR(30))").execute()
+                .sql("INSERT INTO foo VALUES (?)")
+                .set(source.toString())
+                .execute();
+        }
+        new JdbcSession(first).cache(cache)
+            .sql("SELECT name FROM foo")
+            .select(new SingleOutcome<>(String.class));
+        MatcherAssert.assertThat(
+            "the result of another data source is not returned",
+            new JdbcSession(second).cache(cache)
+                .sql("SELECT name FROM foo")
+                .select(new SingleOutcome<>(String.class)),
+            Matchers.equalTo(second.toString())
+        );
+    }
+
+    @Test
+    void invalidatesOnChange() throws Exception {
+        final DataSource source = new H2Source("rch2b");
+        final ResultCache cache = new ResultCache(10, 1L, TimeUnit.HOURS);
+        final JdbcSession session = new JdbcSession(source).cache(cache)
+            .sql("CREATE TABLE foo (id INT)").execute()
+            .sql("CREATE TABLE bar (id INT)").execute();
+        session.sql("SELECT COUNT(*) FROM foo f, bar b")
+            .select(new SingleOutcome<>(Long.class));
+        session.sql("SELECT COUNT(*) FROM foo")
+            .select(new SingleOutcome<>(Long.class));
+        session.sql("INSERT INTO bar VALUES (1)").execute();
+        MatcherAssert.assertThat(
+            "only the query reading the table is invalidated",
+            cache.size(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "new data is visible",
+            session.sql("SELECT COUNT(*) FROM bar b, foo f")
+                .select(new SingleOutcome<>(Long.class)),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final ResultCache cache = new ResultCache(2, 1L, TimeUnit.HOURS);
+        final JdbcSession session = new JdbcSession(new H2Source("rch3c"))
+            .cache(cache);
+        for (int idx = 0; idx < 3; ++idx) {
+            session.sql("SELECT ?").set(idx)
+                .select(new SingleOutcome<>(Long.class));
+        }
+        MatcherAssert.assertThat(
+            "the oldest result is evicted",
+            cache.evictions(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void expiresOldResults() throws Exception {
+        final ResultCache cache = new ResultCache(2, 0L, TimeUnit.SECONDS);
+        final JdbcSession session = new JdbcSession(new H2Source("rch4d"))
+            .cache(cache);
+        for (int idx = 0; idx < 2; ++idx) {
+            session.sql("SELECT 1").select(new SingleOutcome<>(Long.class));
+        }
+        MatcherAssert.assertThat(
+            "expired result is not used",
+            cache.misses(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void extractsTableNames() {
+        MatcherAssert.assertThat(
+            "all tables are found",
+            new Tables(
+                String.join(
+                    " ",
+                    "SELECT * FROM \"Public\".\"User\" u, role AS r",
+                    "JOIN (SELECT * FROM perm) p ON p.id = u.id",
+                    "WHERE u.id IN (SELECT id FROM banned)"
+                )
+            ).names(),
+            Matchers.containsInAnyOrder("user", "role", "perm", "banned")
+        );
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Retry}.
+ * @since 1.0
+ */
+final class RetryTest {
+
+    @Test
+    void repeatsStatementAfterDeadlock() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Retry retry = new Retry().attempts(3).backoff(1L, 2L);
+        MatcherAssert.assertThat(
+            "the third attempt succeeds",
+            new JdbcSession(new H2Source("rt1a"))
+                .retry(retry)
+                .sql("SELECT 42")
+                .prepare(
+                    stmt -> {
+                        if (calls.incrementAndGet() < 3) {
+                            throw new SQLException("deadlock", "40P01");
+                        }
+                    }
+                )
+                .selectLong(),
+            Matchers.equalTo(42L)
+        );
+        MatcherAssert.assertThat(
+            "two retries are made",
+            retry.retries(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void doesNotRepeatWriteAfterBrokenConnection() throws Exception {
+        final DataSource source = new H2Source("rt2b");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (name VARCHAR(10))")
+            .execute();
+        final AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(
+            SQLException.class,
+            () -> new JdbcSession(source)
+                .retry(new Retry().backoff(1L, 2L))
+                .sql("INSERT INTO foo VALUES ('x')")
+                .prepare(
+                    stmt -> {
+                        calls.incrementAndGet();
+                        throw new SQLException("connection reset", "08006");
+                    }
+                )
+                .execute(),
+            "broken connection on write is not retried"
+        );
+        MatcherAssert.assertThat(
+            "only one attempt is made",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void stopsWhenBudgetIsSpent() throws Exception {
+        final Retry retry = new Retry().attempts(10).backoff(0L, 0L)
+            .budget(3, 60_000L);
+        final AtomicInteger calls = new AtomicInteger();
+        Assertions.assertThrows(
+            SQLException.class,
+            () -> retry.call(
+                () -> {
+                    calls.incrementAndGet();
+                    throw new SQLTransactionRollbackException("serialization");
+                }
+            ),
+            "failure is thrown when the budget is spent"
+        );
+        MatcherAssert.assertThat(
+            "only three retries are allowed in the window",
+            calls.get(),
+            Matchers.equalTo(4)
+        );
+    }
+
+    @Test
+    void repeatsWholeTransaction() throws Exception {
+        final DataSource source = new H2Source("rt4d");
+        new JdbcSession(source)
+            .sql("CREATE TABLE bar (id INT)")
+            .execute();
+        final AtomicInteger calls = new AtomicInteger();
+        new Retry().backoff(1L, 2L).call(
+            () -> {
+                final JdbcSession session = new JdbcSession(source)
+                    .autocommit(false);
+                session.sql("INSERT INTO bar VALUES (1)").execute();
+                session.sql("INSERT INTO bar VALUES (2)")
+                    .prepare(
+                        stmt -> {
+                            if (calls.incrementAndGet() == 1) {
+                                throw new SQLException("conflict", "40001");
+                            }
+                        }
+                    )
+                    .execute();
+                session.commit();
+                return null;
+            }
+        );
+        MatcherAssert.assertThat(
+            "the first statement is not duplicated",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM bar")
+                .selectLong(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void classifiesVendorCodes() {
+        MatcherAssert.assertThat(
+            "MySQL deadlock is transient",
+            new Retry().recoverable(
+                new SQLException(new SQLException("deadlock", "HY000", 1213)),
+                false
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "syntax error is not transient",
+            new Retry().codes(1040).recoverable(
+                new SQLException("syntax", "42000", 1064), true
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void resumesBatchAfterCommittedChunks() throws Exception {
+        final DataSource source = new H2Source("rt6f");
+        new JdbcSession(source)
+            .sql("CREATE TABLE baz (id INT)")
+            .execute()
+            .sql("CREATE SEQUENCE seen")
+            .execute()
+            .sql(
+                String.join(
+                    "\n",
+                    "CREATE ALIAS once AS $$",
+                    "int once(java.sql.Connection conn, int value)",
+                    "  throws java.sql.SQLException {",
+                    "  if (value == 4) {",
+                    "    try (java.sql.ResultSet rset = conn.createStatement()",
+                    "      .executeQuery(\"SELECT NEXT VALUE FOR seen\")) {",
+                    "      rset.next();",
+                    "      if (rset.getLong(1) <= 2L) {",
+                    "        throw new java.sql.SQLException(",
+                    "          \"deadlock\", \"40P01\"",
+                    "        );",
+                    "      }",
+                    "    }",
+                    "  }",
+                    "  return value;",
+                    "}",
+                    "$$"
+                )
+            )
+            .execute();
+        final Retry retry = new Retry().backoff(1L, 2L);
+        final JdbcSession session = new JdbcSession(source)
+            .retry(retry)
+            .sql("INSERT INTO baz VALUES (once(?))")
+            .chunk(2);
+        for (int idx = 0; idx < 6; ++idx) {
+            session.set(idx).addBatch();
+        }
+        MatcherAssert.assertThat(
+            "every row is counted once",
+            session.executeBatch(rset -> rset.getInt(1)).counts(),
+            Matchers.equalTo(new int[] {1, 1, 1, 1, 1, 1})
+        );
+        MatcherAssert.assertThat(
+            "committed rows are not inserted again",
+            new JdbcSession(source)
+                .sql("SELECT COUNT(*) FROM baz")
+                .selectLong(),
+            Matchers.equalTo(6L)
+        );
+        MatcherAssert.assertThat(
+            "the batch is repeated",
+            retry.retries(),
+            Matchers.equalTo(1L)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RowMapping}.
+ * @since 1.0
+ */
+final class RowMappingTest {
+
+    @Test
+    void readsColumnsByLabels() throws Exception {
+        MatcherAssert.assertThat(
+            "columns are found by labels, in any case",
+            new JdbcSession(new H2Source("rm1a"))
+                .sql(
+                    String.join(
+                        " ", "SELECT X AS id, CONCAT('user-', X) AS name",
+                        "FROM SYSTEM_RANGE(1, 3)"
+                    )
+                )
+                .select(
+                    new ListOutcome<>(
+                        new RowMapping<>(
+                            row -> String.format(
+                                "%d:%s", row.getLong("ID"), row.getString("name")
+                            )
+                        )
+                    )
+                ),
+            Matchers.contains("1:user-1", "2:user-2", "3:user-3")
+        );
+    }
+
+    @Test
+    void resolvesColumnsForEveryResultSet() throws Exception {
+        final RowMapping<Integer> mapping =
+            new RowMapping<>(row -> row.index("b"));
+        final JdbcSession session = new JdbcSession(new H2Source("rm2b"));
+        session.sql("SELECT 1 AS a, 2 AS b").select(new ListOutcome<>(mapping));
+        MatcherAssert.assertThat(
+            "the same mapping works for the next query with other columns",
+            session.sql("SELECT 1 AS b, 2 AS a")
+                .select(new SingleOutcome<>(mapping, false)),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void failsOnUnknownColumn() {
+        Assertions.assertThrows(
+            SQLException.class,
+            () -> new JdbcSession(new H2Source("rm3c"))
+                .sql("SELECT 1 AS a")
+                .select(
+                    new SingleOutcome<>(
+                        new RowMapping<>(row -> row.getString("z")), false
+                    )
+                ),
+            "unknown label is reported"
+        );
+    }
+
+    @Test
+    void readsMetadataOncePerStatement() throws Exception {
+        final AtomicInteger reads = new AtomicInteger();
+        try (Connection conn = new H2Source("rm4d").getConnection();
+            PreparedStatement stmt = conn.prepareStatement("SELECT 1 AS a, 2 AS b")) {
+            for (int idx = 0; idx < 3; ++idx) {
+                try (ResultSet rset = stmt.executeQuery()) {
+                    MatcherAssert.assertThat(
+                        "column is found",
+                        Columns.of(RowMappingTest.counted(rset, reads)).index("b"),
+                        Matchers.equalTo(2)
+                    );
+                }
+            }
+        }
+        MatcherAssert.assertThat(
+            "metadata is read once",
+            reads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Result set which counts calls of {@link ResultSet#getMetaData()}.
+     * @param rset The result set
+     * @param reads Counter of calls
+     * @return Result set
+     */
+    private static ResultSet counted(final ResultSet rset,
+        final AtomicInteger reads) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+                if ("getMetaData".equals(method.getName())) {
+                    reads.incrementAndGet();
+                }
+                return method.invoke(rset, args);
+            }
+        );
+    }
+}
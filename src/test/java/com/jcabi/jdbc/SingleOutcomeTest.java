@@ -29,6 +29,24 @@ final class SingleOutcomeTest {
         );
     }
 
+    @Test
+    void retrievesIntegerWithPrimitiveMapping() throws Exception {
+        final Outcome.Mapping<Integer> mapping =
+            Outcome.DEFAULT_MAPPINGS.forType(Integer.class);
+        MatcherAssert.assertThat(
+            "integer mapping reads without boxing",
+            mapping,
+            Matchers.instanceOf(Outcome.IntMapping.class)
+        );
+        MatcherAssert.assertThat(
+            "retrieve integer 42",
+            new JdbcSession(this.datasource())
+                .sql("CALL 42")
+                .select(new SingleOutcome<>(mapping, false)),
+            Matchers.is(42)
+        );
+    }
+
     @Test
     void retrievesBigDecimal() throws Exception {
         MatcherAssert.assertThat(
@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SlowLog}.
+ * @since 1.0
+ */
+final class SlowLogTest {
+
+    @Test
+    void keepsLastQueries() throws Exception {
+        final SlowLog log = new SlowLog(60_000L, 3);
+        final JdbcSession session = new JdbcSession(new H2Source("sl1a"))
+            .listen(log);
+        for (int idx = 0; idx < 5; ++idx) {
+            session.sql("SELECT ?").set(idx).selectLong();
+        }
+        MatcherAssert.assertThat(
+            "only the last three queries are kept, the newest first",
+            log.recent().get(0).args(),
+            Matchers.contains(4)
+        );
+        MatcherAssert.assertThat(
+            "ring is limited",
+            log.recent(),
+            Matchers.hasSize(3)
+        );
+        MatcherAssert.assertThat(
+            "fast queries are not slow",
+            log.slow(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void keepsOnlyShortArguments() throws Exception {
+        final SlowLog log = new SlowLog(0L, 3);
+        new JdbcSession(new H2Source("sl3c"))
+            .listen(log)
+            .sql("SELECT LENGTH(?), ?")
+            .set(new byte[4096])
+            .set(7)
+            .select(Outcome.VOID);
+        MatcherAssert.assertThat(
+            "documents are not kept, only their sizes",
+            log.recent().get(0).args(),
+            Matchers.contains("byte[4096]", 7)
+        );
+        MatcherAssert.assertThat(
+            "slow entries keep short arguments too",
+            log.slow().get(0).timing().args(),
+            Matchers.contains("byte[4096]", 7)
+        );
+    }
+
+    @Test
+    void recordsSlowQueryWithPlan() throws Exception {
+        final DataSource source = new H2Source("sl2b");
+        new JdbcSession(source)
+            .sql("CREATE TABLE foo (id INT PRIMARY KEY, name VARCHAR(10))")
+            .execute()
+            .sql("INSERT INTO foo VALUES (1, 'a'), (2, 'b')")
+            .execute();
+        final SlowLog log = new SlowLog(source, 0L, 10);
+        new JdbcSession(source)
+            .listen(log)
+            .sql("SELECT name FROM foo WHERE id > ?")
+            .set(0)
+            .select(new ListOutcome<>(rset -> rset.getString(1)));
+        final SlowLog.Entry entry = log.slow().get(0);
+        MatcherAssert.assertThat(
+            "arguments and rows are recorded",
+            entry.timing().rows(),
+            Matchers.equalTo(2L)
+        );
+        final long start = System.nanoTime();
+        while (entry.plan().isEmpty()
+            && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10L)) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        MatcherAssert.assertThat(
+            "plan is captured by EXPLAIN",
+            entry.plan(),
+            Matchers.containsString("FOO")
+        );
+        MatcherAssert.assertThat(
+            "dump has the query and its arguments",
+            log.dump(),
+            Matchers.containsString("SELECT name FROM foo WHERE id > ? [0]")
+        );
+    }
+
+    @Test
+    void listensTogetherWithMetrics() throws Exception {
+        final SlowLog log = new SlowLog(60_000L, 3);
+        final Metrics metrics = new Metrics();
+        new JdbcSession(new H2Source("sl3c"))
+            .listen(metrics)
+            .listen(log)
+            .sql("SELECT 1")
+            .selectLong();
+        MatcherAssert.assertThat(
+            "the log gets the query",
+            log.recent(),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "metrics get the query too",
+            metrics.snapshot().values().iterator().next().calls(),
+            Matchers.equalTo(1L)
+        );
+    }
+}
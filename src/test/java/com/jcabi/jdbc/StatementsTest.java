@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Statements}.
+ * @since 1.0
+ */
+final class StatementsTest {
+
+    @Test
+    void reusesStatementsInsideTransaction() throws Exception {
+        final JdbcSession session = new JdbcSession(new H2Source("st1a"))
+            .autocommit(false)
+            .sql("CREATE TABLE st1a (id INT)")
+            .execute();
+        for (int idx = 0; idx < 5; ++idx) {
+            session.sql("INSERT INTO st1a VALUES (?)").set(idx).execute();
+        }
+        MatcherAssert.assertThat(
+            "statement is prepared once",
+            session.statements().hits(),
+            Matchers.equalTo(4L)
+        );
+        session.commit();
+        MatcherAssert.assertThat(
+            "statements are closed on commit",
+            session.statements().size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void resetsTuningOfReusedStatement() throws Exception {
+        final JdbcSession session = new JdbcSession(new H2Source("st2b"))
+            .autocommit(false)
+            .sql("CREATE TABLE st2b (id INT)")
+            .execute()
+            .sql("INSERT INTO st2b VALUES (1), (2), (3)")
+            .execute();
+        session.sql("SELECT id FROM st2b").select(new SingleOutcome<>(Long.class));
+        MatcherAssert.assertThat(
+            "max rows of the previous outcome are not kept",
+            session.sql("SELECT id FROM st2b")
+                .select(new ColumnOutcome<>(Long.class)),
+            Matchers.hasSize(3)
+        );
+        session.rollback();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedStatements() throws Exception {
+        final JdbcSession session = new JdbcSession(new H2Source("st3c"))
+            .autocommit(false)
+            .statements(2);
+        for (int idx = 0; idx < 5; ++idx) {
+            session.sql(String.format("CALL %d", idx))
+                .select(new SingleOutcome<>(Long.class));
+        }
+        MatcherAssert.assertThat(
+            "cache is limited",
+            session.statements().size(),
+            Matchers.equalTo(2)
+        );
+        session.rollback();
+    }
+
+    @Test
+    void clearsBatchOfReleasedStatement() throws Exception {
+        final H2Source source = new H2Source("st4d");
+        try (Connection conn = source.getConnection()) {
+            conn.createStatement().execute("CREATE TABLE st4d (id INT)");
+            final Statements statements = new Statements(1);
+            final Connect connect = new Connect.Plain(
+                "INSERT INTO st4d VALUES (?)"
+            );
+            final Dialect dialect = Dialects.of(source, conn);
+            final PreparedStatement first = statements.open(
+                connect, conn, dialect
+            );
+            first.setInt(1, 1);
+            first.addBatch();
+            statements.release(connect, first);
+            final PreparedStatement second = statements.open(
+                connect, conn, dialect
+            );
+            MatcherAssert.assertThat(
+                "rows of the broken batch are not sent",
+                second.executeBatch().length,
+                Matchers.equalTo(0)
+            );
+            statements.clear();
+        }
+    }
+}
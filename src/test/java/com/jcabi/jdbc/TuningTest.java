@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Tuning}.
+ * @since 1.0
+ */
+final class TuningTest {
+
+    @Test
+    void takesMissingOptionsFromDefaults() throws Exception {
+        try (
+            Connection conn = new H2Source("tn1a").getConnection();
+            PreparedStatement stmt = conn.prepareStatement("CALL 1")
+        ) {
+            new Tuning().fetch(10).over(new Tuning().fetch(20).max(5))
+                .prepare(stmt);
+            MatcherAssert.assertThat(
+                "own fetch size is used",
+                stmt.getFetchSize(),
+                Matchers.equalTo(10)
+            );
+            MatcherAssert.assertThat(
+                "max rows are taken from defaults",
+                stmt.getMaxRows(),
+                Matchers.equalTo(5)
+            );
+        }
+    }
+
+    @Test
+    void leavesUnsetOptionsAlone() throws Exception {
+        try (
+            Connection conn = new H2Source("tn2b").getConnection();
+            PreparedStatement stmt = conn.prepareStatement("CALL 1")
+        ) {
+            stmt.setQueryTimeout(7);
+            new Tuning().direction(ResultSet.FETCH_FORWARD).prepare(stmt);
+            MatcherAssert.assertThat(
+                "query timeout is not touched",
+                stmt.getQueryTimeout(),
+                Matchers.equalTo(7)
+            );
+        }
+    }
+
+    @Test
+    void rejectsNegativeValues() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Tuning().max(-1)
+        );
+    }
+
+    @Test
+    void comparesByOptions() {
+        MatcherAssert.assertThat(
+            "tunings with the same options are equal",
+            new Tuning().fetch(0).max(5),
+            Matchers.equalTo(new Tuning().max(5).fetch(0))
+        );
+    }
+}
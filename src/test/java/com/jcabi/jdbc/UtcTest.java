@@ -10,11 +10,23 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
 import java.util.Random;
 import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -173,4 +185,101 @@ final class UtcTest {
             Matchers.equalTo(date.toString())
         );
     }
+
+    /**
+     * Utc can convert dates in many threads at the same time.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void convertsDatesInManyThreads() throws Exception {
+        final int threads = 64;
+        final ExecutorService svc = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Collection<Future<Integer>> futures = new ArrayList<>(threads);
+        int wrong = 0;
+        try {
+            for (int thread = 0; thread < threads; ++thread) {
+                final long base = 1_000_000_000_000L + thread * 86_400_000L;
+                futures.add(
+                    svc.submit(
+                        () -> {
+                            start.await();
+                            int failures = 0;
+                            for (int idx = 0; idx < 50; ++idx) {
+                                final Date date =
+                                    new Date(base + idx * 3_601_001L);
+                                final Utc loaded = new JdbcSession(this.source)
+                                    .sql("SELECT CAST(? AS TIMESTAMP)")
+                                    .set(new Utc(date))
+                                    .select(new SingleOutcome<>(Utc.class));
+                                if (!loaded.getDate().equals(date)) {
+                                    ++failures;
+                                }
+                            }
+                            return failures;
+                        }
+                    )
+                );
+            }
+            start.countDown();
+            for (final Future<Integer> future : futures) {
+                wrong += future.get(1L, TimeUnit.MINUTES);
+            }
+        } finally {
+            svc.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "all dates are converted correctly by all threads",
+            wrong,
+            Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * Utc can be used for instants too, and other java.time types
+     * are saved and loaded as they are.
+     * @throws Exception If there is some problem inside
+     */
+    @Test
+    void savesAndLoadsJavaTime() throws Exception {
+        final Instant instant = Instant.parse("2019-03-04T05:06:07.123Z");
+        new JdbcSession(this.source)
+            .sql("INSERT INTO foo VALUES (?)")
+            .set(instant)
+            .insert(Outcome.VOID);
+        MatcherAssert.assertThat(
+            "instant is loaded back",
+            new JdbcSession(this.source)
+                .sql("SELECT date FROM foo")
+                .select(new SingleOutcome<>(Instant.class)),
+            Matchers.equalTo(instant)
+        );
+        MatcherAssert.assertThat(
+            "instant is stored as UTC timestamp",
+            new JdbcSession(this.source)
+                .sql("SELECT date FROM foo")
+                .select(new SingleOutcome<>(LocalDateTime.class)),
+            Matchers.equalTo(LocalDateTime.of(2019, 3, 4, 5, 6, 7, 123_000_000))
+        );
+        final OffsetDateTime offset = OffsetDateTime.of(
+            2020, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(2)
+        );
+        MatcherAssert.assertThat(
+            "offset date and time is loaded back",
+            new JdbcSession(this.source)
+                .sql("SELECT CAST(? AS TIMESTAMP WITH TIME ZONE)")
+                .set(offset)
+                .select(new SingleOutcome<>(OffsetDateTime.class))
+                .toInstant(),
+            Matchers.equalTo(offset.toInstant())
+        );
+        MatcherAssert.assertThat(
+            "local date is loaded back",
+            new JdbcSession(this.source)
+                .sql("SELECT CAST(? AS DATE)")
+                .set(LocalDate.of(2021, 12, 31))
+                .select(new SingleOutcome<>(LocalDate.class)),
+            Matchers.equalTo(LocalDate.of(2021, 12, 31))
+        );
+    }
 }
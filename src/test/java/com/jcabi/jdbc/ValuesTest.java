@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.jdbc;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Values}.
+ * @since 1.0
+ */
+final class ValuesTest {
+
+    @Test
+    void expandsRows() {
+        MatcherAssert.assertThat(
+            "rows are repeated, the tail stays at the end",
+            new Values("INSERT INTO t (a, b) values (?, LOWER(?)) ON CONFLICT DO NOTHING")
+                .expand(3),
+            Matchers.equalTo(
+                "INSERT INTO t (a, b) values (?, LOWER(?)), (?, LOWER(?)), (?, LOWER(?)) ON CONFLICT DO NOTHING"
+            )
+        );
+    }
+
+    @Test
+    void countsPlaceholdersOutsideOfLiterals() {
+        MatcherAssert.assertThat(
+            "question mark in a literal is not a placeholder",
+            new Values("INSERT INTO t VALUES (?, '?)', ?)").params(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void rejectsSqlWithoutValues() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Values("INSERT INTO t SELECT * FROM x")
+        );
+    }
+}